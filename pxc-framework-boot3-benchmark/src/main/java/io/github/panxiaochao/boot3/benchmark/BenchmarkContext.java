@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark;
+
+import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * 基准测试使用的最小 Spring 容器, 供 CacheUtil、RedissonUtil 等通过 {@link SpringContextUtil} 获取 Bean
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * 创建并启动容器
+     * @param registrar 注册 Bean
+     * @return AnnotationConfigApplicationContext
+     */
+    public static AnnotationConfigApplicationContext start(Consumer<AnnotationConfigApplicationContext> registrar) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(SpringContextUtil.class);
+        registrar.accept(context);
+        context.refresh();
+        return context;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark;
+
+import io.github.panxiaochao.boot3.benchmark.cache.RedissonCacheBenchmark;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * 基准测试入口, 支持 JMH 的全部命令行参数
+ * </p>
+ * <pre>
+ * 1. 默认输出 JSON 结果到 target/jmh/jmh-result-{版本号}.json, 可通过 -Dbenchmark.result.dir 修改目录,
+ *    各版本的结果文件可直接对比, 也可以上传到 jmh.morethan.io 查看
+ * 2. 未设置 -Dbenchmark.redis.address 时跳过 {@link RedissonCacheBenchmark}
+ * 3. 例子: java -Dbenchmark.redis.address=redis://127.0.0.1:6379 -jar target/benchmarks.jar CaffeineCache -f 1
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * 结果目录
+     */
+    public static final String RESULT_DIR_PROPERTY = "benchmark.result.dir";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            Path resultDir = Path.of(System.getProperty(RESULT_DIR_PROPERTY, "target/jmh"));
+            Files.createDirectories(resultDir);
+            builder.result(resultDir.resolve("jmh-result-" + obtainVersion() + ".json").toString());
+        }
+        String redisAddress = System.getProperty(RedissonCacheBenchmark.REDIS_ADDRESS_PROPERTY);
+        if (redisAddress == null) {
+            builder.exclude(RedissonCacheBenchmark.class.getSimpleName());
+        }
+        else {
+            // 系统属性不会自动传递给 fork 出的 JVM
+            builder.jvmArgsAppend("-D" + RedissonCacheBenchmark.REDIS_ADDRESS_PROPERTY + "=" + redisAddress);
+        }
+        new Runner(builder.build()).run();
+    }
+
+    private static String obtainVersion() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+
+}
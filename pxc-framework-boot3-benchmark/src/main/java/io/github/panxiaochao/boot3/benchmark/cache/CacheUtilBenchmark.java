@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark.cache;
+
+import io.github.panxiaochao.boot3.benchmark.BenchmarkContext;
+import io.github.panxiaochao.boot3.cache.core.CaffeineCacheSpec;
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import io.github.panxiaochao.boot3.cache.utils.CacheUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * CacheUtil 往返基准, 基于 PlusCaffeineCacheManager, 衡量工具类本身的开销与批量接口的收益
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CacheUtilBenchmark {
+
+    private static final String CACHE_NAME = "benchmark#10m";
+
+    private static final int KEY_SPACE = 1024;
+
+    private static final int BATCH_SIZE = 16;
+
+    private AnnotationConfigApplicationContext context;
+
+    private Long[] keys;
+
+    private List<List<Long>> batches;
+
+    @Setup
+    public void setup() {
+        this.context = BenchmarkContext.start(context -> context.registerBean(CacheManager.class, () -> {
+            CaffeineCacheSpec cacheSpec = new CaffeineCacheSpec();
+            cacheSpec.setMaximumSize(KEY_SPACE * 4L);
+            PlusCaffeineCacheManager cacheManager = new PlusCaffeineCacheManager();
+            cacheManager.setDefaultCacheSpec(cacheSpec);
+            return cacheManager;
+        }));
+        this.keys = new Long[KEY_SPACE];
+        Map<Long, String> entries = new HashMap<>(KEY_SPACE * 2);
+        for (int i = 0; i < KEY_SPACE; i++) {
+            this.keys[i] = (long) i;
+            entries.put(this.keys[i], "value-" + i);
+        }
+        CacheUtil.putAll(CACHE_NAME, entries);
+        this.batches = new ArrayList<>(KEY_SPACE / BATCH_SIZE);
+        for (int i = 0; i < KEY_SPACE; i += BATCH_SIZE) {
+            this.batches.add(List.of(this.keys).subList(i, i + BATCH_SIZE));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Object putThenGet() {
+        Long key = nextKey();
+        CacheUtil.put(CACHE_NAME, key, key);
+        return CacheUtil.get(CACHE_NAME, key);
+    }
+
+    @Benchmark
+    public Object get() {
+        return CacheUtil.get(CACHE_NAME, nextKey());
+    }
+
+    @Benchmark
+    public Map<Long, Object> getAll() {
+        return CacheUtil.getAll(CACHE_NAME, nextBatch());
+    }
+
+    @Benchmark
+    public Map<Long, Object> getEach() {
+        List<Long> batch = nextBatch();
+        Map<Long, Object> result = new HashMap<>(BATCH_SIZE * 2);
+        for (Long key : batch) {
+            result.put(key, CacheUtil.get(CACHE_NAME, key));
+        }
+        return result;
+    }
+
+    private Long nextKey() {
+        return this.keys[ThreadLocalRandom.current().nextInt(KEY_SPACE)];
+    }
+
+    private List<Long> nextBatch() {
+        return this.batches.get(ThreadLocalRandom.current().nextInt(this.batches.size()));
+    }
+
+}
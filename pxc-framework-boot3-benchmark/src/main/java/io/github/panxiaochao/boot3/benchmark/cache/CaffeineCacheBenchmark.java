@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark.cache;
+
+import io.github.panxiaochao.boot3.cache.core.CaffeineCacheSpec;
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * CaffeineCache 并发读写基准, 读写线程按 3:1 分组, 另有纯读、纯写对照
+ * </p>
+ * <pre>
+ * 1. keySpace 小于 maximumSize 时为全命中, 大于时包含淘汰与未命中
+ * 2. key 预先生成, 避免基准中装箱与分配
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaffeineCacheBenchmark {
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    @Param({ "1024", "65536" })
+    private int keySpace;
+
+    private Cache cache;
+
+    private Long[] keys;
+
+    @Setup
+    public void setup() {
+        CaffeineCacheSpec cacheSpec = new CaffeineCacheSpec();
+        cacheSpec.setExpireAfterWrite(Duration.ofMinutes(10));
+        cacheSpec.setMaximumSize(MAXIMUM_SIZE);
+        PlusCaffeineCacheManager cacheManager = new PlusCaffeineCacheManager();
+        cacheManager.setDefaultCacheSpec(cacheSpec);
+        this.cache = cacheManager.getCache("benchmark");
+        this.keys = new Long[this.keySpace];
+        for (int i = 0; i < this.keySpace; i++) {
+            this.keys[i] = (long) i;
+            this.cache.put(this.keys[i], "value-" + i);
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Cache.ValueWrapper readWriteGet() {
+        return this.cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void readWritePut() {
+        Long key = nextKey();
+        this.cache.put(key, key);
+    }
+
+    @Benchmark
+    @Group("read")
+    @GroupThreads(4)
+    public Cache.ValueWrapper readOnly() {
+        return this.cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Group("write")
+    @GroupThreads(4)
+    public void writeOnly() {
+        Long key = nextKey();
+        this.cache.put(key, key);
+    }
+
+    private Long nextKey() {
+        return this.keys[ThreadLocalRandom.current().nextInt(this.keySpace)];
+    }
+
+}
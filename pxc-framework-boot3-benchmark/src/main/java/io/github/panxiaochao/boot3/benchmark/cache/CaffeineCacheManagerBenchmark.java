@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark.cache;
+
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * PlusCaffeineCacheManager.getCache 基准, 以 Spring CaffeineCacheManager 作为对照
+ * </p>
+ * <pre>
+ * 1. plain: 已创建的普通名称, 如 user
+ * 2. alias: 已创建的 name#ttl 名称, 如 order#60s, 命中别名映射无需重复解析
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CaffeineCacheManagerBenchmark {
+
+    private static final String PLAIN_NAME = "user";
+
+    private static final String ALIAS_NAME = "order#60s";
+
+    private PlusCaffeineCacheManager plusCacheManager;
+
+    private CaffeineCacheManager springCacheManager;
+
+    @Setup
+    public void setup() {
+        this.plusCacheManager = new PlusCaffeineCacheManager();
+        this.plusCacheManager.getCache(PLAIN_NAME);
+        this.plusCacheManager.getCache(ALIAS_NAME);
+        this.springCacheManager = new CaffeineCacheManager();
+        this.springCacheManager.getCache(PLAIN_NAME);
+    }
+
+    @Benchmark
+    public Cache plainName() {
+        return this.plusCacheManager.getCache(PLAIN_NAME);
+    }
+
+    @Benchmark
+    public Cache aliasName() {
+        return this.plusCacheManager.getCache(ALIAS_NAME);
+    }
+
+    @Benchmark
+    public Cache springPlainName() {
+        return this.springCacheManager.getCache(PLAIN_NAME);
+    }
+
+}
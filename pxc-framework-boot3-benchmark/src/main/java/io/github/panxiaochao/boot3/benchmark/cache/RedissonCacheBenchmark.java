@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.benchmark.cache;
+
+import io.github.panxiaochao.boot3.benchmark.BenchmarkContext;
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import io.github.panxiaochao.boot3.redis.cache.PlusRedissonCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * PlusRedissonCache 读写基准, 需要本地 Redis 或兼容实现(如 Valkey、KeyDB、redis-server 容器)
+ * </p>
+ * <pre>
+ * 1. 通过 -Dbenchmark.redis.address=redis://127.0.0.1:6379 指定地址, 未指定时 BenchmarkRunner 跳过本基准
+ * 2. 结果受网络往返影响, 仅用于同一环境下不同版本之间的对比
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RedissonCacheBenchmark {
+
+    /**
+     * Redis 地址系统属性
+     */
+    public static final String REDIS_ADDRESS_PROPERTY = "benchmark.redis.address";
+
+    private static final String CACHE_NAME = "pxc-framework:benchmark#10m";
+
+    private static final int KEY_SPACE = 1024;
+
+    private static final int BATCH_SIZE = 16;
+
+    private RedissonClient redissonClient;
+
+    private AnnotationConfigApplicationContext context;
+
+    private Cache cache;
+
+    private String[] keys;
+
+    private List<List<String>> batches;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.useSingleServer().setAddress(System.getProperty(REDIS_ADDRESS_PROPERTY, "redis://127.0.0.1:6379"));
+        this.redissonClient = Redisson.create(config);
+        this.context = BenchmarkContext.start(context -> {
+            context.registerBean(RedissonClient.class, () -> this.redissonClient);
+            context.registerBean(CacheManager.class, () -> new PlusRedissonCacheManager());
+        });
+        this.cache = this.context.getBean(CacheManager.class).getCache(CACHE_NAME);
+        if (!(this.cache instanceof BatchCache)) {
+            throw new IllegalStateException("Cache [" + CACHE_NAME + "] does not support batch operations");
+        }
+        this.keys = new String[KEY_SPACE];
+        Map<String, String> entries = new HashMap<>(KEY_SPACE * 2);
+        for (int i = 0; i < KEY_SPACE; i++) {
+            this.keys[i] = "key-" + i;
+            entries.put(this.keys[i], "value-" + i);
+        }
+        entries.forEach(this.cache::put);
+        this.batches = new ArrayList<>(KEY_SPACE / BATCH_SIZE);
+        for (int i = 0; i < KEY_SPACE; i += BATCH_SIZE) {
+            this.batches.add(List.of(this.keys).subList(i, i + BATCH_SIZE));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.cache.clear();
+        this.context.close();
+        this.redissonClient.shutdown();
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper get() {
+        return this.cache.get(nextKey());
+    }
+
+    @Benchmark
+    public void put() {
+        String key = nextKey();
+        this.cache.put(key, key);
+    }
+
+    @Benchmark
+    public Map<Object, Object> getAll() {
+        return ((BatchCache) this.cache).getAll(nextBatch());
+    }
+
+    @Benchmark
+    public Map<String, Object> getEach() {
+        List<String> batch = nextBatch();
+        Map<String, Object> result = new HashMap<>(BATCH_SIZE * 2);
+        for (String key : batch) {
+            Cache.ValueWrapper valueWrapper = this.cache.get(key);
+            result.put(key, valueWrapper == null ? null : valueWrapper.get());
+        }
+        return result;
+    }
+
+    private String nextKey() {
+        return this.keys[ThreadLocalRandom.current().nextInt(KEY_SPACE)];
+    }
+
+    private List<String> nextBatch() {
+        return this.batches.get(ThreadLocalRandom.current().nextInt(this.batches.size()));
+    }
+
+}
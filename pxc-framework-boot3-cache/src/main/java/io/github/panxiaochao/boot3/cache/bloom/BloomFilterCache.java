@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import io.github.panxiaochao.boot3.cache.core.BatchCacheSupport;
+import io.github.panxiaochao.boot3.cache.core.CacheDecorator;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 布隆过滤器缓存装饰, 拦截一定不存在的 key, 防止缓存穿透
+ * </p>
+ * <pre>
+ * 1. 过滤器判定不存在时直接返回 null 值, 不查询缓存也不执行 valueLoader, 对 &#64;Cacheable 表现为命中 null
+ * 2. getAll 中被拦截的 key 以 null 值返回
+ * 3. put/putIfAbsent/putAll 写入非 null 值时把 key 加入过滤器, 新增数据通过 &#64;CachePut 即可放行
+ * 4. evict/clear 不影响过滤器, 布隆过滤器不支持删除
+ * 5. LOCAL 过滤器只包含本节点写入的 key, 判定不存在时仍查询一次缓存, 命中则补入本节点过滤器并放行,
+ *    其他节点通过 &#64;CachePut 写入共享缓存的数据不会被误拦截; 直接写入数据源且未进入缓存的数据需要使用 REDIS 过滤器
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class BloomFilterCache implements Cache, CacheDecorator, BatchCache {
+
+    private static final ValueWrapper ABSENT = new SimpleValueWrapper(null);
+
+    private final Cache cache;
+
+    private final CacheBloomFilterRegistry registry;
+
+    private final String name;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public BloomFilterCache(Cache cache, CacheBloomFilterRegistry registry) {
+        this.cache = cache;
+        this.registry = registry;
+        this.name = cache.getName();
+    }
+
+    @Override
+    public Cache getTargetCache() {
+        return this.cache;
+    }
+
+    /**
+     * 被过滤器拦截的次数
+     * @return 次数
+     */
+    public long getRejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return this.cache.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        return mightContain(key) ? this.cache.get(key) : ABSENT;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        return mightContain(key) ? this.cache.get(key, type) : null;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        return mightContain(key) ? this.cache.get(key, valueLoader) : null;
+    }
+
+    @Override
+    @Nullable
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        return mightContain(key) ? this.cache.retrieve(key) : CompletableFuture.completedFuture(ABSENT);
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        return mightContain(key) ? this.cache.retrieve(key, valueLoader) : CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        if (value != null) {
+            this.registry.put(this.name, key);
+        }
+        this.cache.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        if (value != null) {
+            this.registry.put(this.name, key);
+        }
+        return this.cache.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        this.cache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        return this.cache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.cache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return this.cache.invalidate();
+    }
+
+    /**
+     * 批量获取缓存值, 被过滤器拦截的 key 以 null 值返回, 调用方无需回源
+     */
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        List<Object> candidates = new ArrayList<>(keys.size());
+        Map<Object, Object> result = new LinkedHashMap<>(keys.size() * 2);
+        for (Object key : keys) {
+            if (mightContain(key)) {
+                candidates.add(key);
+            }
+            else {
+                result.put(key, null);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            result.putAll(BatchCacheSupport.getAll(this.cache, candidates));
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                this.registry.put(this.name, key);
+            }
+        });
+        BatchCacheSupport.putAll(this.cache, entries);
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        BatchCacheSupport.evictAll(this.cache, keys);
+    }
+
+    private boolean mightContain(Object key) {
+        if (this.registry.mightContain(this.name, key)) {
+            return true;
+        }
+        if (this.registry.isLocal(this.name) && this.cache.get(key) != null) {
+            this.registry.put(this.name, key);
+            return true;
+        }
+        this.rejectedCount.increment();
+        return false;
+    }
+
+}
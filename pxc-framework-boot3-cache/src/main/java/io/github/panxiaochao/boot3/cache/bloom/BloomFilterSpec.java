@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import io.github.panxiaochao.boot3.cache.constants.BloomFilterType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <p>
+ * 单个缓存组的布隆过滤器配置
+ * </p>
+ * <pre>
+ * 例子: spring.pxc-framework-boot3.cache.bloom-filter.caches.user.expected-insertions=5000000
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class BloomFilterSpec {
+
+    /**
+     * 过滤器类型, 默认本地. LOCAL 只包含本节点写入或预热的 key, 多节点共享数据时应使用 REDIS
+     */
+    private BloomFilterType type = BloomFilterType.LOCAL;
+
+    /**
+     * 预计插入的 key 数量, 默认100万, 超出后误判率上升
+     */
+    private long expectedInsertions = 1_000_000L;
+
+    /**
+     * 误判率, 默认1%
+     */
+    private double falseProbability = 0.01D;
+
+    /**
+     * REDIS 类型的 Redis key, 为空时使用 keyPrefix + 缓存组名称
+     */
+    private String name;
+
+    /**
+     * 没有 {@link CacheBloomFilterLoader} 时是否直接开始拦截, 默认 false 不拦截. 开启后需要业务自行通过
+     * {@link CacheBloomFilterRegistry#getBloomFilter} 添加全部已存在的 key, 否则所有查询都会命中 null
+     */
+    private boolean readyWithoutLoader = false;
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * 缓存布隆过滤器, 记录数据源中存在的 key, 用于拦截一定不存在的 key
+ * </p>
+ * <pre>
+ * 1. key 统一按 String.valueOf 比较, 例如 Long 123 与 "123" 视为同一个 key
+ * 2. 只能添加不能删除, 已删除的 key 仍会放行, 由缓存的 null 值兜底
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface CacheBloomFilter {
+
+    /**
+     * key 是否可能存在
+     * @param key key
+     * @return false 一定不存在
+     */
+    boolean mightContain(Object key);
+
+    /**
+     * 添加 key
+     * @param key key
+     */
+    void put(Object key);
+
+    /**
+     * 批量添加 key
+     * @param keys key
+     */
+    default void putAll(Collection<?> keys) {
+        for (Object key : keys) {
+            put(key);
+        }
+    }
+
+    /**
+     * 估算的已添加 key 数量
+     * @return 数量
+     */
+    long count();
+
+}
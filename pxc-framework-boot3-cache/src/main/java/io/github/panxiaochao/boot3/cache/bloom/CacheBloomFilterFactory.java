@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import io.github.panxiaochao.boot3.cache.constants.BloomFilterType;
+
+/**
+ * <p>
+ * 布隆过滤器工厂, 用于创建 {@link BloomFilterType#REDIS} 类型的过滤器, 由 pxc-framework-boot3-redis 提供
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CacheBloomFilterFactory {
+
+    /**
+     * 创建布隆过滤器
+     * @param name 过滤器名称
+     * @param spec 过滤器配置
+     * @return CacheBloomFilter
+     */
+    CacheBloomFilter create(String name, BloomFilterSpec spec);
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 布隆过滤器预热, 容器启动完成后为对应缓存组加载数据源中已存在的 key
+ * </p>
+ * <pre>
+ * 例子:
+ * &#64;Bean
+ * public CacheBloomFilterLoader userBloomFilterLoader(UserMapper userMapper) {
+ *     return CacheBloomFilterLoader.of("user", userMapper::selectAllIds);
+ * }
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface CacheBloomFilterLoader {
+
+    /**
+     * 缓存组名称
+     * @return 缓存组名称
+     */
+    String getCacheName();
+
+    /**
+     * 加载已存在的 key
+     * @return key
+     */
+    Collection<?> loadKeys();
+
+    /**
+     * 创建 CacheBloomFilterLoader
+     * @param cacheName 缓存组名称
+     * @param loader 加载函数
+     * @return CacheBloomFilterLoader
+     */
+    static CacheBloomFilterLoader of(String cacheName, Supplier<? extends Collection<?>> loader) {
+        return new CacheBloomFilterLoader() {
+
+            @Override
+            public String getCacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Collection<?> loadKeys() {
+                return loader.get();
+            }
+
+        };
+    }
+
+}
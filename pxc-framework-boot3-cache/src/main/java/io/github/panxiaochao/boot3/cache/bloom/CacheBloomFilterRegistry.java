@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.bloom;
+
+import io.github.panxiaochao.boot3.cache.constants.BloomFilterType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 按缓存组名称管理布隆过滤器, 并为配置了过滤器的缓存组创建 {@link BloomFilterCache}
+ * </p>
+ * <pre>
+ * 1. 容器启动完成后执行同名的 {@link CacheBloomFilterLoader} 预热, REDIS 类型已有数据时跳过
+ * 2. 预热完成前或预热失败的缓存组不拦截, 避免空过滤器拦截所有 key
+ * 3. 没有 {@link CacheBloomFilterLoader} 的缓存组不拦截, 除非 REDIS 类型已有数据或显式配置 readyWithoutLoader
+ * 4. REDIS 类型需要 {@link CacheBloomFilterFactory}, 缺少时降级为 LOCAL
+ * 5. LOCAL 类型只在本节点生效, {@link BloomFilterCache} 对判定不存在的 key 仍会查询缓存兜底
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CacheBloomFilterRegistry implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheBloomFilterRegistry.class);
+
+    /**
+     * 默认 Redis key 前缀
+     */
+    public static final String DEFAULT_KEY_PREFIX = "pxc-framework:cache:bloom:";
+
+    private final Map<String, BloomFilterSpec> specs;
+
+    private final Map<String, CacheBloomFilter> bloomFilters = new ConcurrentHashMap<>(16);
+
+    /**
+     * 已完成预热、开始拦截的缓存组
+     */
+    private final Set<String> readyCacheNames = ConcurrentHashMap.newKeySet();
+
+    private String keyPrefix = DEFAULT_KEY_PREFIX;
+
+    @Nullable
+    private CacheBloomFilterFactory bloomFilterFactory;
+
+    private Iterable<CacheBloomFilterLoader> loaders = Collections.emptyList();
+
+    public CacheBloomFilterRegistry(Map<String, BloomFilterSpec> specs) {
+        Assert.notNull(specs, "specs must not be null");
+        this.specs = Map.copyOf(specs);
+    }
+
+    /**
+     * 设置 REDIS 类型的 Redis key 前缀
+     * @param keyPrefix key 前缀
+     */
+    public void setKeyPrefix(String keyPrefix) {
+        Assert.hasText(keyPrefix, "keyPrefix must not be empty");
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 设置 REDIS 类型的过滤器工厂
+     * @param bloomFilterFactory 过滤器工厂
+     */
+    public void setBloomFilterFactory(@Nullable CacheBloomFilterFactory bloomFilterFactory) {
+        this.bloomFilterFactory = bloomFilterFactory;
+    }
+
+    /**
+     * 设置预热加载器, 在 {@link #afterSingletonsInstantiated} 时才遍历, 可以直接传入 ObjectProvider
+     * @param loaders 预热加载器
+     */
+    public void setLoaders(Iterable<CacheBloomFilterLoader> loaders) {
+        Assert.notNull(loaders, "loaders must not be null");
+        this.loaders = loaders;
+    }
+
+    /**
+     * 缓存组是否配置了布隆过滤器
+     * @param cacheName 缓存组名称
+     * @return true 已配置
+     */
+    public boolean contains(String cacheName) {
+        return this.specs.containsKey(cacheName);
+    }
+
+    /**
+     * 获取缓存组的布隆过滤器, 用于新增数据时添加 key
+     * @param cacheName 缓存组名称
+     * @return CacheBloomFilter, 未配置时返回 {@code null}
+     */
+    @Nullable
+    public CacheBloomFilter getBloomFilter(String cacheName) {
+        BloomFilterSpec spec = this.specs.get(cacheName);
+        if (spec == null) {
+            return null;
+        }
+        return this.bloomFilters.computeIfAbsent(cacheName, name -> createBloomFilter(name, spec));
+    }
+
+    /**
+     * key 是否可能存在, 未配置、未就绪的缓存组始终返回 true
+     * @param cacheName 缓存组名称
+     * @param key key
+     * @return false 一定不存在
+     */
+    public boolean mightContain(String cacheName, Object key) {
+        if (!this.readyCacheNames.contains(cacheName)) {
+            return true;
+        }
+        CacheBloomFilter bloomFilter = getBloomFilter(cacheName);
+        return bloomFilter == null || bloomFilter.mightContain(key);
+    }
+
+    /**
+     * 缓存组的布隆过滤器是否为本地过滤器, 包含 REDIS 降级为 LOCAL 的情况
+     * @param cacheName 缓存组名称
+     * @return true 本地过滤器
+     */
+    public boolean isLocal(String cacheName) {
+        return getBloomFilter(cacheName) instanceof LocalCacheBloomFilter;
+    }
+
+    /**
+     * 添加 key, 未配置的缓存组忽略
+     * @param cacheName 缓存组名称
+     * @param key key
+     */
+    public void put(String cacheName, Object key) {
+        CacheBloomFilter bloomFilter = getBloomFilter(cacheName);
+        if (bloomFilter != null) {
+            bloomFilter.put(key);
+        }
+    }
+
+    /**
+     * 为配置了布隆过滤器的缓存组创建 {@link BloomFilterCache}
+     * @param cache 缓存
+     * @return 装饰后的缓存, 未配置时返回原缓存
+     */
+    public Cache decorate(Cache cache) {
+        return contains(cache.getName()) ? new BloomFilterCache(cache, this) : cache;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<CacheBloomFilterLoader> loaderList = new ArrayList<>();
+        for (CacheBloomFilterLoader loader : this.loaders) {
+            if (contains(loader.getCacheName())) {
+                loaderList.add(loader);
+            }
+            else {
+                LOGGER.warn("缓存组[{}]未配置布隆过滤器, 已忽略对应的 CacheBloomFilterLoader", loader.getCacheName());
+            }
+        }
+        for (String cacheName : this.specs.keySet()) {
+            if (warmUp(cacheName, loaderList)) {
+                this.readyCacheNames.add(cacheName);
+            }
+        }
+        LOGGER.info("配置[Cache -> BloomFilter]成功！缓存组: {}", this.readyCacheNames);
+    }
+
+    private boolean warmUp(String cacheName, List<CacheBloomFilterLoader> loaderList) {
+        CacheBloomFilter bloomFilter = getBloomFilter(cacheName);
+        List<CacheBloomFilterLoader> cacheLoaders = loaderList.stream()
+            .filter(loader -> cacheName.equals(loader.getCacheName()))
+            .toList();
+        if (bloomFilter == null) {
+            return false;
+        }
+        if (bloomFilter.count() > 0) {
+            return true;
+        }
+        if (cacheLoaders.isEmpty()) {
+            if (this.specs.get(cacheName).isReadyWithoutLoader()) {
+                return true;
+            }
+            LOGGER.warn("缓存组[{}]没有 CacheBloomFilterLoader, 布隆过滤器不拦截", cacheName);
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int count = 0;
+            for (CacheBloomFilterLoader loader : cacheLoaders) {
+                Collection<?> keys = loader.loadKeys();
+                bloomFilter.putAll(keys);
+                count += keys.size();
+            }
+            LOGGER.info("缓存组[{}]布隆过滤器预热完成, key: {}, 耗时: {}ms", cacheName, count, System.currentTimeMillis() - start);
+            return true;
+        }
+        catch (RuntimeException e) {
+            LOGGER.error("缓存组[{}]布隆过滤器预热失败, 不拦截该缓存组", cacheName, e);
+            return false;
+        }
+    }
+
+    private CacheBloomFilter createBloomFilter(String cacheName, BloomFilterSpec spec) {
+        if (BloomFilterType.REDIS.equals(spec.getType())) {
+            if (this.bloomFilterFactory != null) {
+                String name = StringUtils.hasText(spec.getName()) ? spec.getName() : this.keyPrefix + cacheName;
+                return this.bloomFilterFactory.create(name, spec);
+            }
+            LOGGER.warn("缓存组[{}]缺少 CacheBloomFilterFactory, 布隆过滤器降级为 LOCAL", cacheName);
+        }
+        return new LocalCacheBloomFilter(spec.getExpectedInsertions(), spec.getFalseProbability());
+    }
+
+}
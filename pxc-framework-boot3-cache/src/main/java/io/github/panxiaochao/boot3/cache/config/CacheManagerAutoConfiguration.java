@@ -15,19 +15,32 @@
  */
 package io.github.panxiaochao.boot3.cache.config;
 
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterFactory;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterLoader;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
 import io.github.panxiaochao.boot3.cache.config.properties.CacheManagerProperties;
 import io.github.panxiaochao.boot3.cache.constants.CacheManagerType;
+import io.github.panxiaochao.boot3.cache.core.ObjectSizeEstimator;
 import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import io.github.panxiaochao.boot3.cache.offheap.OffHeapCacheManager;
+import io.github.panxiaochao.boot3.cache.serializer.CacheValueSerializer;
+import io.github.panxiaochao.boot3.cache.serializer.JdkCacheValueSerializer;
+import io.github.panxiaochao.boot3.cache.snapshot.CaffeineCacheSnapshot;
+import io.github.panxiaochao.boot3.cache.snapshot.CaffeineCacheSnapshotLifecycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.util.StringUtils;
 
+import java.nio.file.Path;
+
 /**
  * <p>
  * 缓存自动配置类
@@ -50,14 +63,16 @@ public class CacheManagerAutoConfiguration {
      * @return CacheManager
      */
     @Bean
-    public CacheManager cacheManager(final CacheManagerProperties cacheManagerProperties) {
+    public CacheManager cacheManager(final CacheManagerProperties cacheManagerProperties,
+            ObjectProvider<ObjectSizeEstimator> objectSizeEstimator,
+            ObjectProvider<CacheValueSerializer> cacheValueSerializer,
+            ObjectProvider<CacheBloomFilterRegistry> cacheBloomFilterRegistry) {
         if (CacheManagerType.CAFFEINE.equals(cacheManagerProperties.getCacheType())) {
             // 使用自定义 PlusCaffeineCacheManager 缓存管理器
-            PlusCaffeineCacheManager caffeineCacheManager = new PlusCaffeineCacheManager();
-            String specification = cacheManagerProperties.getCaffeine().getSpec();
-            if (StringUtils.hasText(specification)) {
-                caffeineCacheManager.setCacheSpecification(specification);
-            }
+            PlusCaffeineCacheManager caffeineCacheManager = createCaffeineCacheManager(cacheManagerProperties,
+                    objectSizeEstimator.getIfAvailable());
+            // REDIS、TWO_LEVEL 模式由缓存管理器自行获取
+            caffeineCacheManager.setBloomFilterRegistry(cacheBloomFilterRegistry.getIfAvailable());
             LOGGER.info("配置[Cache -> Caffeine]成功！");
             return caffeineCacheManager;
         }
@@ -66,7 +81,9 @@ public class CacheManagerAutoConfiguration {
             if (cacheManagerClass != null) {
                 try {
                     LOGGER.info("配置[Cache -> Redis]成功！");
-                    return (CacheManager) cacheManagerClass.getDeclaredConstructor().newInstance();
+                    return (CacheManager) cacheManagerClass
+                        .getDeclaredConstructor(CacheManagerProperties.Redisson.class)
+                        .newInstance(cacheManagerProperties.getRedisson());
                 }
                 catch (Exception e) {
                     throw new RuntimeException(e);
@@ -76,10 +93,95 @@ public class CacheManagerAutoConfiguration {
                 LOGGER.error("[pxc-framework-redis] is not dependency, will use simple cache!");
             }
         }
+        else if (CacheManagerType.TWO_LEVEL.equals(cacheManagerProperties.getCacheType())) {
+            Class<?> cacheManagerClass = loadClass("io.github.panxiaochao.boot3.redis.cache.PlusTwoLevelCacheManager");
+            if (cacheManagerClass != null) {
+                try {
+                    // 一级缓存 Caffeine 与 CAFFEINE 模式共用同一套配置
+                    PlusCaffeineCacheManager caffeineCacheManager = createCaffeineCacheManager(cacheManagerProperties,
+                            objectSizeEstimator.getIfAvailable());
+                    LOGGER.info("配置[Cache -> Caffeine + Redis]成功！");
+                    return (CacheManager) cacheManagerClass
+                        .getDeclaredConstructor(PlusCaffeineCacheManager.class, CacheManagerProperties.Redisson.class)
+                        .newInstance(caffeineCacheManager, cacheManagerProperties.getRedisson());
+                }
+                catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            else {
+                LOGGER.error("[pxc-framework-redis] is not dependency, will use simple cache!");
+            }
+        }
+        else if (CacheManagerType.OFF_HEAP.equals(cacheManagerProperties.getCacheType())) {
+            OffHeapCacheManager offHeapCacheManager = new OffHeapCacheManager();
+            CacheManagerProperties.OffHeap offHeap = cacheManagerProperties.getOffHeap();
+            offHeapCacheManager.setMaximumMemory(offHeap.getMaximumMemory());
+            offHeapCacheManager.setTotalMaximumMemory(offHeap.getTotalMaximumMemory());
+            offHeapCacheManager.setExpireAfterWrite(offHeap.getExpireAfterWrite());
+            cacheValueSerializer.ifAvailable(offHeapCacheManager::setSerializer);
+            LOGGER.info("配置[Cache -> OffHeap]成功！");
+            return offHeapCacheManager;
+        }
         LOGGER.info("配置[Cache -> Simple]成功！");
         return new ConcurrentMapCacheManager();
     }
 
+    /**
+     * 缓存布隆过滤器, 拦截一定不存在的 key
+     * @return CacheBloomFilterRegistry
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.cache.bloom-filter.enabled", havingValue = "true")
+    public CacheBloomFilterRegistry cacheBloomFilterRegistry(final CacheManagerProperties cacheManagerProperties,
+            ObjectProvider<CacheBloomFilterFactory> cacheBloomFilterFactory,
+            ObjectProvider<CacheBloomFilterLoader> cacheBloomFilterLoaders) {
+        CacheManagerProperties.BloomFilter bloomFilter = cacheManagerProperties.getBloomFilter();
+        CacheBloomFilterRegistry registry = new CacheBloomFilterRegistry(bloomFilter.getCaches());
+        registry.setKeyPrefix(bloomFilter.getKeyPrefix());
+        registry.setBloomFilterFactory(cacheBloomFilterFactory.getIfAvailable());
+        registry.setLoaders(cacheBloomFilterLoaders);
+        return registry;
+    }
+
+    /**
+     * Caffeine 缓存快照, 停机保存、启动预热
+     * @return CaffeineCacheSnapshotLifecycle
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.cache.caffeine.snapshot.enabled", havingValue = "true")
+    public CaffeineCacheSnapshotLifecycle caffeineCacheSnapshotLifecycle(
+            final CacheManagerProperties cacheManagerProperties, CacheManager cacheManager) {
+        CacheManagerProperties.Snapshot snapshot = cacheManagerProperties.getCaffeine().getSnapshot();
+        CaffeineCacheSnapshotLifecycle lifecycle = new CaffeineCacheSnapshotLifecycle(cacheManager,
+                new CaffeineCacheSnapshot(JdkCacheValueSerializer.withAllowedClasses(snapshot.getAllowedClasses())),
+                Path.of(snapshot.getFile()), snapshot.getLoadTimeout());
+        LOGGER.info("配置[Cache -> Caffeine Snapshot]成功！");
+        return lifecycle;
+    }
+
+    /**
+     * 创建 PlusCaffeineCacheManager 缓存管理器
+     * @param cacheManagerProperties 缓存属性
+     * @param objectSizeEstimator 自定义内存估算, 为空时使用默认实现
+     * @return PlusCaffeineCacheManager
+     */
+    private PlusCaffeineCacheManager createCaffeineCacheManager(CacheManagerProperties cacheManagerProperties,
+            ObjectSizeEstimator objectSizeEstimator) {
+        PlusCaffeineCacheManager caffeineCacheManager = new PlusCaffeineCacheManager();
+        caffeineCacheManager.setObjectSizeEstimator(objectSizeEstimator);
+        CacheManagerProperties.Caffeine caffeine = cacheManagerProperties.getCaffeine();
+        caffeineCacheManager.setDefaultCacheSpec(caffeine.getDefaults());
+        caffeineCacheManager.setCacheSpecs(caffeine.getCaches());
+        caffeineCacheManager.setAsyncCacheMode(caffeine.isAsyncCacheMode());
+        caffeineCacheManager.setMemoryBudget(caffeine.getMemoryBudget());
+        String specification = caffeine.getSpec();
+        if (StringUtils.hasText(specification)) {
+            caffeineCacheManager.setCacheSpecification(specification);
+        }
+        return caffeineCacheManager;
+    }
+
     public Class<?> loadClass(String className) {
         try {
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.config;
+
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import io.github.panxiaochao.boot3.cache.metrics.CacheMetricsBinder;
+import io.github.panxiaochao.boot3.cache.metrics.CacheStatsEndpoint;
+import io.github.panxiaochao.boot3.cache.metrics.HotKeyEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * 缓存监控自动配置类, 需要引入 spring-boot-starter-actuator
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@AutoConfiguration(after = CacheManagerAutoConfiguration.class,
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass({ MeterRegistry.class, CacheMeterBinderProvider.class, ConditionalOnAvailableEndpoint.class })
+@ConditionalOnBean(MeterRegistry.class)
+public class CacheMetricsAutoConfiguration {
+
+    /**
+     * 为每个缓存注册 Micrometer 指标
+     * @return CacheMetricsBinder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheMetricsBinder cacheMetricsBinder(MeterRegistry meterRegistry, Map<String, CacheManager> cacheManagers,
+            ObjectProvider<CacheMeterBinderProvider<?>> binderProviders) {
+        return new CacheMetricsBinder(meterRegistry, cacheManagers, binderProviders.orderedStream().toList());
+    }
+
+    /**
+     * 缓存统计端点
+     * @return CacheStatsEndpoint
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint
+    public CacheStatsEndpoint cacheStatsEndpoint(MeterRegistry meterRegistry) {
+        return new CacheStatsEndpoint(meterRegistry);
+    }
+
+    /**
+     * 热点 key 端点
+     * @return HotKeyEndpoint
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint
+    public HotKeyEndpoint hotKeyEndpoint(ObjectProvider<HotKeyDetector> hotKeyDetector) {
+        return new HotKeyEndpoint(hotKeyDetector);
+    }
+
+}
@@ -15,10 +15,20 @@
  */
 package io.github.panxiaochao.boot3.cache.config.properties;
 
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterSpec;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
 import io.github.panxiaochao.boot3.cache.constants.CacheManagerType;
+import io.github.panxiaochao.boot3.cache.core.CaffeineCacheSpec;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -34,7 +44,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class CacheManagerProperties {
 
     /**
-     * 缓存类型: caffeine（默认）、REDIS、SIMPLE
+     * 缓存类型: caffeine（默认）、REDIS、TWO_LEVEL、OFF_HEAP、SIMPLE
      */
     private CacheManagerType cacheType = CacheManagerType.CAFFEINE;
 
@@ -43,6 +53,21 @@ public class CacheManagerProperties {
      */
     private final Caffeine caffeine = new Caffeine();
 
+    /**
+     * REDIS、TWO_LEVEL 模式下的 Redisson 缓存配置
+     */
+    private final Redisson redisson = new Redisson();
+
+    /**
+     * OFF_HEAP 模式下的堆外缓存配置
+     */
+    private final OffHeap offHeap = new OffHeap();
+
+    /**
+     * 布隆过滤器配置, 拦截一定不存在的 key, 防止缓存穿透
+     */
+    private final BloomFilter bloomFilter = new BloomFilter();
+
     @Getter
     @Setter
     public static class Caffeine {
@@ -53,6 +78,141 @@ public class CacheManagerProperties {
          */
         private String spec;
 
+        /**
+         * 默认缓存组配置, 未单独配置且未设置 spec 的缓存组使用, 默认30秒过期、初始100、最大500条; 设置了 spec 时 cacheName#ttl
+         * 在 spec 的基础上覆盖过期时间
+         */
+        private CaffeineCacheSpec defaults = new CaffeineCacheSpec();
+
+        /**
+         * 按缓存组名称单独配置, 优先级最高 <pre>
+         * 例子: spring.pxc-framework-boot3.cache.caffeine.caches.user.expire-after-write=10m
+         * </pre>
+         */
+        private Map<String, CaffeineCacheSpec> caches = new LinkedHashMap<>();
+
+        /**
+         * 是否使用 AsyncCache, 开启后支持返回 CompletableFuture/Mono 的 &#64;Cacheable 方法
+         */
+        private boolean asyncCacheMode = false;
+
+        /**
+         * 全局内存预算, 未配置 maximum-weight 的缓存组按估算内存淘汰并平均分配预算, 例子: 256MB
+         */
+        private DataSize memoryBudget;
+
+        /**
+         * 本地快照配置, 停机时保存 persistent 的缓存组, 启动时加载
+         */
+        private final Snapshot snapshot = new Snapshot();
+
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /**
+         * 是否开启本地快照, 只对 CAFFEINE 模式生效
+         */
+        private boolean enabled = false;
+
+        /**
+         * 快照文件路径, 容器部署时需要挂载持久化目录
+         */
+        private String file = "cache-snapshot/caffeine.snapshot";
+
+        /**
+         * 启动时等待快照加载的最长时间, 超时后继续在后台加载
+         */
+        private Duration loadTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 加载快照时允许反序列化的 key 与 value 类型, 格式同 ObjectInputFilter, 例如 com.example.dto.**;
+         * 默认只允许 java.lang、java.util、java.time、java.math 与 SimpleKey、NullValue, 其他类型的条目跳过
+         */
+        private List<String> allowedClasses = new ArrayList<>();
+
+    }
+
+    @Getter
+    @Setter
+    public static class Redisson {
+
+        /**
+         * 是否开启单飞加载, 合并进程内与集群内同一 key 的并发回源, 作用于 &#64;Cacheable(sync = true)
+         */
+        private boolean singleFlight = false;
+
+        /**
+         * 等待集群回源锁的时间, 超时后直接回源
+         */
+        private Duration lockWaitTime = Duration.ofSeconds(3);
+
+        /**
+         * 集群回源锁的租约时间, 到期自动释放
+         */
+        private Duration lockLeaseTime = Duration.ofSeconds(10);
+
+        /**
+         * 过期后继续返回旧值并后台刷新的时间窗口, 0 表示关闭, 只对配置了 ttl 的缓存组生效
+         */
+        private Duration staleWhileRevalidate = Duration.ZERO;
+
+        /**
+         * 缓存值压缩, 超过阈值的值压缩后写入 Redis
+         */
+        private final CompressionProperties compression = new CompressionProperties();
+
+        /**
+         * null 值的存活时间, 0 表示与普通值一致, 只对配置了 ttl、maxIdleTime 或 maxSize 的缓存组生效, 例子: 5s
+         */
+        private Duration nullValueTtl = Duration.ZERO;
+
+    }
+
+    @Getter
+    @Setter
+    public static class BloomFilter {
+
+        /**
+         * 是否开启布隆过滤器, CAFFEINE、REDIS、TWO_LEVEL 模式生效
+         */
+        private boolean enabled = false;
+
+        /**
+         * REDIS 类型过滤器的 Redis key 前缀
+         */
+        private String keyPrefix = CacheBloomFilterRegistry.DEFAULT_KEY_PREFIX;
+
+        /**
+         * 按缓存组名称配置过滤器 <pre>
+         * 例子: spring.pxc-framework-boot3.cache.bloom-filter.caches.user.type=redis
+         * </pre>
+         */
+        private Map<String, BloomFilterSpec> caches = new LinkedHashMap<>();
+
+    }
+
+    @Getter
+    @Setter
+    public static class OffHeap {
+
+        /**
+         * 每个缓存组的最大堆外字节数, 按序列化后的大小计算, 超出时按 CLOCK 淘汰
+         */
+        private DataSize maximumMemory = DataSize.ofMegabytes(64);
+
+        /**
+         * 所有缓存组合计的最大堆外字节数, 应小于 -XX:MaxDirectMemorySize, 超出后各缓存组只在已分配的空间内淘汰
+         */
+        private DataSize totalMaximumMemory = DataSize.ofMegabytes(256);
+
+        /**
+         * 默认写入后过期时间, 0 表示不过期, cacheName#ttl 优先
+         */
+        private Duration expireAfterWrite = Duration.ZERO;
+
     }
 
 }
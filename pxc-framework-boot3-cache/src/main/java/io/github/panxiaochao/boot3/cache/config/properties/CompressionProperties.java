@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.config.properties;
+
+import io.github.panxiaochao.boot3.cache.constants.CompressionAlgorithm;
+import io.github.panxiaochao.boot3.cache.serializer.ValueCompressor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * <p>
+ * 值压缩属性, 用于 Redisson 缓存与 RedisTemplate
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class CompressionProperties {
+
+    /**
+     * 是否开启压缩, 开启前写入的 JSON 数据仍可正常读取
+     */
+    private boolean enabled = false;
+
+    /**
+     * 压缩阈值, 序列化后小于该值的数据不压缩, 默认4KB
+     */
+    private DataSize threshold = DataSize.ofKilobytes(4);
+
+    /**
+     * 压缩算法: DEFLATE、GZIP、LZ4, 为空时存在 lz4-java 使用 LZ4, 否则使用 DEFLATE
+     */
+    private CompressionAlgorithm algorithm;
+
+    /**
+     * 创建压缩器
+     * @return ValueCompressor
+     */
+    public ValueCompressor createCompressor() {
+        return new ValueCompressor(this.algorithm, (int) Math.min(Integer.MAX_VALUE, this.threshold.toBytes()));
+    }
+
+}
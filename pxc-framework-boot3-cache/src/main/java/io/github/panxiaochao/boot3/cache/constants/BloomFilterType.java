@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.constants;
+
+/**
+ * <p>
+ * 缓存布隆过滤器类型
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public enum BloomFilterType {
+
+    /**
+     * Local bit array, each node keeps its own copy.
+     */
+    LOCAL,
+
+    /**
+     * Redisson RBloomFilter shared by all nodes, requires pxc-framework-boot3-redis.
+     */
+    REDIS
+
+}
@@ -35,6 +35,16 @@ public enum CacheManagerType {
      */
     REDIS,
 
+    /**
+     * Caffeine(L1) + Redis(L2) two-level caching.
+     */
+    TWO_LEVEL,
+
+    /**
+     * Off-heap caching of serialized values in direct memory.
+     */
+    OFF_HEAP,
+
     /**
      * Simple in-memory caching.
      */
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.constants;
+
+import lombok.Getter;
+
+/**
+ * <p>
+ * 压缩算法, header 为压缩后数据 magic 之后的算法标识字节
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+public enum CompressionAlgorithm {
+
+    /**
+     * JDK Deflate.
+     */
+    DEFLATE((byte) 1),
+
+    /**
+     * JDK GZIP.
+     */
+    GZIP((byte) 2),
+
+    /**
+     * LZ4, requires lz4-java on the classpath.
+     */
+    LZ4((byte) 3);
+
+    private final byte header;
+
+    CompressionAlgorithm(byte header) {
+        this.header = header;
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <p>
+ * 支持多 key 批量操作的缓存, 由实现类映射到底层缓存的原生批量命令
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface BatchCache {
+
+    /**
+     * 批量获取缓存值
+     * @param keys 缓存key
+     * @return 命中的 key 与缓存值, 缓存的 null 值以 null 返回, 未命中的 key 不包含在结果中
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    /**
+     * 批量保存缓存值
+     * @param entries 缓存key与缓存值
+     */
+    void putAll(Map<?, ?> entries);
+
+    /**
+     * 批量删除缓存值
+     * @param keys 缓存key
+     */
+    void evictAll(Collection<?> keys);
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * 缓存批量操作
+ * </p>
+ * <pre>
+ * 1. {@link BatchCache}: 由缓存自身实现, 例如 Redisson 缓存映射到 RMap.getAll/putAll/fastRemove
+ * 2. CaffeineCache: 映射到 getAllPresent/putAll/invalidateAll
+ * 3. 事务感知缓存: 读取直接访问被装饰的缓存, 写入与删除逐个执行以保持提交后生效
+ * 4. 其他缓存逐个执行
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchCacheSupport {
+
+    /**
+     * 批量获取缓存值
+     * @param cache 缓存
+     * @param keys 缓存key
+     * @return 命中的 key 与缓存值, 缓存的 null 值以 null 返回
+     */
+    public static Map<Object, Object> getAll(Cache cache, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        if (cache instanceof BatchCache batchCache) {
+            return batchCache.getAll(keys);
+        }
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            return getAll(decorator.getTargetCache(), keys);
+        }
+        Map<Object, Object> result = new LinkedHashMap<>(keys.size() * 2);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache()
+                .getAllPresent(keys)
+                .forEach((key, value) -> result.put(key, value == NullValue.INSTANCE ? null : value));
+            return result;
+        }
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null) {
+                result.put(key, wrapper.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量保存缓存值
+     * @param cache 缓存
+     * @param entries 缓存key与缓存值
+     */
+    public static void putAll(Cache cache, Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (cache instanceof BatchCache batchCache) {
+            batchCache.putAll(entries);
+        }
+        else if (cache instanceof CaffeineCache caffeineCache) {
+            Map<Object, Object> storeValues = new LinkedHashMap<>(entries.size() * 2);
+            entries.forEach((key, value) -> storeValues.put(key, toStoreValue(caffeineCache, value)));
+            caffeineCache.getNativeCache().putAll(storeValues);
+        }
+        else {
+            entries.forEach(cache::put);
+        }
+    }
+
+    /**
+     * 批量删除缓存值
+     * @param cache 缓存
+     * @param keys 缓存key
+     */
+    public static void evictAll(Cache cache, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (cache instanceof BatchCache batchCache) {
+            batchCache.evictAll(keys);
+        }
+        else if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().invalidateAll(keys);
+        }
+        else {
+            keys.forEach(cache::evict);
+        }
+    }
+
+    private static Object toStoreValue(CaffeineCache cache, Object value) {
+        if (value != null) {
+            return value;
+        }
+        if (cache.isAllowNullValues()) {
+            return NullValue.INSTANCE;
+        }
+        throw new IllegalArgumentException(
+                "Cache '" + cache.getName() + "' is configured to not allow null values but null was provided");
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * <p>
+ * 缓存创建监听, 缓存管理器每次创建或重建缓存时回调, 包括 getCache 中按需创建的缓存
+ * </p>
+ * <pre>
+ * 回调可能在缓存管理器内部的创建过程中执行, 不要在回调中再次调用同一缓存管理器的 getCache
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CacheCreationListener {
+
+    /**
+     * 缓存已创建
+     * @param source 创建缓存的缓存管理器
+     * @param cache 新创建的缓存
+     */
+    void onCacheCreated(CacheManager source, Cache cache);
+
+}
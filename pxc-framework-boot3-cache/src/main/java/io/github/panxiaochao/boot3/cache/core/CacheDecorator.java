@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+/**
+ * <p>
+ * 缓存装饰器, 用于监控等需要获取原始缓存的场景
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface CacheDecorator {
+
+    /**
+     * 被装饰的缓存
+     * @return Cache
+     */
+    Cache getTargetCache();
+
+    /**
+     * 逐层获取被装饰的原始缓存, 同时支持 {@link TransactionAwareCacheDecorator}
+     * @param cache 缓存
+     * @return 原始缓存, 未被装饰时返回自身
+     */
+    static Cache unwrap(Cache cache) {
+        Cache target = cache;
+        while (true) {
+            if (target instanceof TransactionAwareCacheDecorator decorator) {
+                target = decorator.getTargetCache();
+            }
+            else if (target instanceof CacheDecorator decorator) {
+                target = decorator.getTargetCache();
+            }
+            else {
+                return target;
+            }
+        }
+    }
+
+}
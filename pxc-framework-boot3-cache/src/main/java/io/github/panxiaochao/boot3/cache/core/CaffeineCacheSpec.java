@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cache.support.NullValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * <p>
+ * 单个 Caffeine 缓存组配置
+ * </p>
+ * <pre>
+ * 1. expireAfterWrite 为空或小于等于0时不过期
+ * 2. 淘汰优先级: maximumWeight(自定义权重) > maximumMemory(估算内存) > maximumSize(条数)
+ * 3. recordStats 默认开启, 用于缓存监控
+ * 4. refreshAfterWrite 配合 CacheLoader 时由 Caffeine 刷新, 否则由 {@link RefreshAheadCaffeineCache} 在读取时提前刷新
+ * 5. persistent 开启后停机时写入快照、启动时加载; 未配置 expireAfterAccess 时 expireAfterWrite 以可变过期实现, 以便按剩余时间恢复
+ * 6. nullValueTtl 为 null 值单独设置较短的过期时间, 同样以可变过期实现, 不能与 expireAfterAccess 同时使用
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class CaffeineCacheSpec {
+
+    /**
+     * 可变过期下表示不过期, Caffeine 会将其截断为最大过期时间
+     */
+    private static final Duration NEVER_EXPIRE = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * 写入后过期时间, 默认30秒
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+
+    /**
+     * 访问后过期时间
+     */
+    private Duration expireAfterAccess;
+
+    /**
+     * 写入后刷新时间, 需要小于 expireAfterWrite
+     */
+    private Duration refreshAfterWrite;
+
+    /**
+     * 初始化缓存空间大小, 默认100
+     */
+    private int initialCapacity = 100;
+
+    /**
+     * 最大的缓存条数, 默认500, 小于等于0时不限制
+     */
+    private long maximumSize = 500;
+
+    /**
+     * 最大权重, 配置后忽略 maximumMemory、maximumSize
+     */
+    private Long maximumWeight;
+
+    /**
+     * 最大内存, 按 {@link ObjectSizeEstimator} 估算的字节数淘汰, 配置后忽略 maximumSize, 例子: 64MB
+     */
+    private DataSize maximumMemory;
+
+    /**
+     * value 使用弱引用
+     */
+    private boolean weakValues;
+
+    /**
+     * value 使用软引用
+     */
+    private boolean softValues;
+
+    /**
+     * 是否记录命中率等统计信息, 默认开启
+     */
+    private boolean recordStats = true;
+
+    /**
+     * 是否参与本地快照, 停机时保存、启动时加载, 需要开启 caffeine.snapshot.enabled
+     */
+    private boolean persistent;
+
+    /**
+     * null 值的写入后过期时间, 为空时与普通值一致, 用于缓存不存在的数据防止穿透, 例子: 5s
+     */
+    private Duration nullValueTtl;
+
+    /**
+     * 复制当前配置并覆盖过期时间, 用于 cacheName#ttl 格式
+     * @param expireAfterWrite 写入后过期时间
+     * @return CaffeineCacheSpec
+     */
+    public CaffeineCacheSpec withExpireAfterWrite(Duration expireAfterWrite) {
+        CaffeineCacheSpec spec = copy();
+        spec.setExpireAfterWrite(expireAfterWrite);
+        return spec;
+    }
+
+    /**
+     * 复制当前配置并覆盖最大内存, 用于全局内存预算
+     * @param maximumMemory 最大内存
+     * @return CaffeineCacheSpec
+     */
+    public CaffeineCacheSpec withMaximumMemory(DataSize maximumMemory) {
+        CaffeineCacheSpec spec = copy();
+        spec.setMaximumMemory(maximumMemory);
+        return spec;
+    }
+
+    private CaffeineCacheSpec copy() {
+        CaffeineCacheSpec spec = new CaffeineCacheSpec();
+        spec.setExpireAfterWrite(this.expireAfterWrite);
+        spec.setExpireAfterAccess(this.expireAfterAccess);
+        spec.setRefreshAfterWrite(this.refreshAfterWrite);
+        spec.setInitialCapacity(this.initialCapacity);
+        spec.setMaximumSize(this.maximumSize);
+        spec.setMaximumWeight(this.maximumWeight);
+        spec.setMaximumMemory(this.maximumMemory);
+        spec.setWeakValues(this.weakValues);
+        spec.setSoftValues(this.softValues);
+        spec.setRecordStats(this.recordStats);
+        spec.setPersistent(this.persistent);
+        spec.setNullValueTtl(this.nullValueTtl);
+        return spec;
+    }
+
+    /**
+     * 根据配置构建 Caffeine
+     * @param weigher 权重计算器, 为空时每个元素权重为1
+     * @param loading 是否为 LoadingCache, 只有 LoadingCache 支持 refreshAfterWrite
+     * @return Caffeine
+     */
+    public Caffeine<Object, Object> toCaffeine(@Nullable Weigher<Object, Object> weigher, boolean loading) {
+        return toCaffeine(weigher, null, loading);
+    }
+
+    /**
+     * 根据配置构建 Caffeine
+     * @param weigher 权重计算器, 为空时每个元素权重为1
+     * @param objectSizeEstimator 内存估算, 为空时使用 {@link DefaultObjectSizeEstimator}
+     * @param loading 是否为 LoadingCache, 只有 LoadingCache 支持 refreshAfterWrite
+     * @return Caffeine
+     */
+    public Caffeine<Object, Object> toCaffeine(@Nullable Weigher<Object, Object> weigher,
+            @Nullable ObjectSizeEstimator objectSizeEstimator, boolean loading) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (isVariableExpiry()) {
+            Duration ttl = isPositive(this.expireAfterWrite) ? this.expireAfterWrite : NEVER_EXPIRE;
+            Duration nullTtl = isPositive(this.nullValueTtl) ? this.nullValueTtl : ttl;
+            builder.expireAfter(Expiry.writing((key, value) -> value == NullValue.INSTANCE ? nullTtl : ttl));
+        }
+        else if (isPositive(this.expireAfterWrite)) {
+            builder.expireAfterWrite(this.expireAfterWrite);
+        }
+        if (isPositive(this.expireAfterAccess)) {
+            builder.expireAfterAccess(this.expireAfterAccess);
+        }
+        if (loading && isPositive(this.refreshAfterWrite)) {
+            builder.refreshAfterWrite(this.refreshAfterWrite);
+        }
+        if (this.initialCapacity > 0) {
+            builder.initialCapacity(this.initialCapacity);
+        }
+        if (this.maximumWeight != null) {
+            builder.maximumWeight(this.maximumWeight).weigher(weigher != null ? weigher : Weigher.singletonWeigher());
+        }
+        else if (this.maximumMemory != null) {
+            builder.maximumWeight(this.maximumMemory.toBytes())
+                .weigher(new ObjectSizeWeigher(
+                        objectSizeEstimator != null ? objectSizeEstimator : DefaultObjectSizeEstimator.INSTANCE));
+        }
+        else if (this.maximumSize > 0) {
+            builder.maximumSize(this.maximumSize);
+        }
+        if (this.weakValues) {
+            builder.weakValues();
+        }
+        if (this.softValues) {
+            builder.softValues();
+        }
+        if (this.recordStats) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * 是否以可变过期实现 expireAfterWrite, 快照恢复时可以按条目设置剩余存活时间, null 值可以使用单独的过期时间
+     * @return true 使用可变过期
+     */
+    public boolean isVariableExpiry() {
+        if (isPositive(this.expireAfterAccess)) {
+            return false;
+        }
+        return (this.persistent && isPositive(this.expireAfterWrite)) || isPositive(this.nullValueTtl);
+    }
+
+    /**
+     * 为 CaffeineSpec 格式的配置追加 recordStats, 已配置时不重复追加
+     * @param specification CaffeineSpec 格式的配置
+     * @return 开启统计的配置
+     */
+    public static String withRecordStats(String specification) {
+        if (specification.contains("recordStats")) {
+            return specification;
+        }
+        return specification.isBlank() ? "recordStats" : specification + ",recordStats";
+    }
+
+    /**
+     * 替换 CaffeineSpec 格式配置中的 expireAfterWrite, 用于 cacheName#ttl 缓存组
+     * @param specification CaffeineSpec 格式的配置
+     * @param expireAfterWrite 写入后过期时间
+     * @return 替换后的配置
+     */
+    public static String withExpireAfterWrite(String specification, Duration expireAfterWrite) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (String option : specification.split(",")) {
+            String trimmed = option.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("expireAfterWrite")) {
+                joiner.add(trimmed);
+            }
+        }
+        // Duration#toString 为 ISO-8601 格式, CaffeineSpec 支持解析
+        return joiner.add("expireAfterWrite=" + expireAfterWrite).toString();
+    }
+
+    private static boolean isPositive(@Nullable Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+}
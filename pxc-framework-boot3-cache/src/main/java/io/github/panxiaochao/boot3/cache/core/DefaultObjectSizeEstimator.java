@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>
+ * 默认对象内存估算, 按 64 位 JVM 开启指针压缩估算.
+ * </p>
+ * <pre>
+ * 1. String、包装类型、数组、日期等常见类型直接计算, 不使用反射
+ * 2. 集合与 Map 只抽样前 32 个元素, 按平均值推算整体大小
+ * 3. 其他对象按字段反射估算, 字段结构按类缓存, 最多递归 4 层, 无法访问的字段只计算引用大小
+ * 4. 枚举等共享对象不计算
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class DefaultObjectSizeEstimator implements ObjectSizeEstimator {
+
+    public static final DefaultObjectSizeEstimator INSTANCE = new DefaultObjectSizeEstimator();
+
+    private static final int OBJECT_HEADER = 12;
+
+    private static final int ARRAY_HEADER = 16;
+
+    private static final int REFERENCE = 4;
+
+    private static final int MAX_DEPTH = 4;
+
+    private static final int SAMPLE_SIZE = 32;
+
+    /**
+     * String 对象与内部 byte[] 的固定开销
+     */
+    private static final int STRING_OVERHEAD = 24 + ARRAY_HEADER;
+
+    private static final ClassValue<ClassLayout> CLASS_LAYOUTS = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return ClassLayout.of(type);
+        }
+    };
+
+    @Override
+    public long estimate(Object object) {
+        return estimate(object, 0);
+    }
+
+    private long estimate(Object object, int depth) {
+        if (object == null || object instanceof Enum<?> || object instanceof Class<?>) {
+            return 0;
+        }
+        if (object instanceof String string) {
+            return align(STRING_OVERHEAD + string.length());
+        }
+        if (object instanceof Integer || object instanceof Float || object instanceof Short || object instanceof Byte
+                || object instanceof Character || object instanceof Boolean) {
+            return 16;
+        }
+        if (object instanceof Long || object instanceof Double || object instanceof Date) {
+            return 24;
+        }
+        if (object instanceof BigDecimal || object instanceof BigInteger || object instanceof UUID
+                || object instanceof Temporal) {
+            return 40;
+        }
+        if (object instanceof byte[] bytes) {
+            return align(ARRAY_HEADER + bytes.length);
+        }
+        if (object instanceof CharSequence charSequence) {
+            return align(STRING_OVERHEAD + 2L * charSequence.length());
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return estimateArray(object, type.getComponentType(), depth);
+        }
+        if (depth >= MAX_DEPTH) {
+            return CLASS_LAYOUTS.get(type).shallowSize;
+        }
+        if (object instanceof Collection<?> collection) {
+            // 集合对象本身与每个元素的节点开销
+            return 32 + 16L * collection.size() + estimateSampled(collection.iterator(), collection.size(), depth);
+        }
+        if (object instanceof Map<?, ?> map) {
+            return 48 + 32L * map.size() + estimateSampled(map.entrySet().iterator(), map.size(), depth);
+        }
+        if (object instanceof Map.Entry<?, ?> entry) {
+            return estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+        }
+        return estimateFields(object, CLASS_LAYOUTS.get(type), depth);
+    }
+
+    private long estimateArray(Object array, Class<?> componentType, int depth) {
+        int length = Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+        }
+        long size = align(ARRAY_HEADER + (long) length * REFERENCE);
+        if (depth >= MAX_DEPTH || length == 0) {
+            return size;
+        }
+        int samples = Math.min(length, SAMPLE_SIZE);
+        long sampled = 0;
+        for (int i = 0; i < samples; i++) {
+            sampled += estimate(Array.get(array, i), depth + 1);
+        }
+        return size + sampled * length / samples;
+    }
+
+    private long estimateSampled(Iterator<?> iterator, int size, int depth) {
+        int samples = 0;
+        long sampled = 0;
+        while (samples < SAMPLE_SIZE && iterator.hasNext()) {
+            sampled += estimate(iterator.next(), depth + 1);
+            samples++;
+        }
+        return samples == 0 ? 0 : sampled * size / samples;
+    }
+
+    private long estimateFields(Object object, ClassLayout layout, int depth) {
+        long size = layout.shallowSize;
+        for (Field field : layout.referenceFields) {
+            try {
+                size += estimate(field.get(object), depth + 1);
+            }
+            catch (IllegalAccessException ignore) {
+                // 只计算引用大小
+            }
+        }
+        return size;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * 按类缓存的字段结构
+     */
+    private static final class ClassLayout {
+
+        private final long shallowSize;
+
+        private final Field[] referenceFields;
+
+        private ClassLayout(long shallowSize, Field[] referenceFields) {
+            this.shallowSize = shallowSize;
+            this.referenceFields = referenceFields;
+        }
+
+        private static ClassLayout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> referenceFields = new ArrayList<>();
+            for (Class<?> current = type; current != null
+                    && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    if (fieldType.isPrimitive()) {
+                        size += primitiveSize(fieldType);
+                    }
+                    else {
+                        size += REFERENCE;
+                        if (field.trySetAccessible()) {
+                            referenceFields.add(field);
+                        }
+                    }
+                }
+            }
+            return new ClassLayout(align(size), referenceFields.toArray(new Field[0]));
+        }
+
+    }
+
+}
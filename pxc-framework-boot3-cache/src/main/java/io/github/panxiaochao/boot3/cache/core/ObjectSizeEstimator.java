@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+/**
+ * <p>
+ * 对象占用内存估算, 用于按内存大小淘汰本地缓存
+ * </p>
+ * <pre>
+ * 估算值只用于淘汰判断, 不要求精确, 但要足够快, 每次写入缓存都会调用
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ObjectSizeEstimator {
+
+    /**
+     * 估算对象占用的字节数
+     * @param object 对象, 可能为空
+     * @return 字节数
+     */
+    long estimate(Object object);
+
+}
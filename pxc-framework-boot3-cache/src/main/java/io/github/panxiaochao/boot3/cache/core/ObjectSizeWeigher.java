@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.cache.support.NullValue;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * 按估算内存大小计算权重, 权重单位为字节, 配合 maximumWeight 按内存淘汰
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class ObjectSizeWeigher implements Weigher<Object, Object> {
+
+    /**
+     * Caffeine 每个缓存节点的固定开销
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final ObjectSizeEstimator objectSizeEstimator;
+
+    public ObjectSizeWeigher(ObjectSizeEstimator objectSizeEstimator) {
+        Assert.notNull(objectSizeEstimator, "ObjectSizeEstimator must not be null");
+        this.objectSizeEstimator = objectSizeEstimator;
+    }
+
+    @Override
+    public int weigh(@NonNull Object key, @NonNull Object value) {
+        long size = ENTRY_OVERHEAD + this.objectSizeEstimator.estimate(key)
+                + (value instanceof NullValue ? 0 : this.objectSizeEstimator.estimate(value));
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import org.springframework.cache.CacheManager;
+
+/**
+ * <p>
+ * 支持缓存创建监听的缓存管理器, 用于缓存监控等需要感知按需创建缓存的场景
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface ObservableCacheManager extends CacheManager {
+
+    /**
+     * 添加缓存创建监听, 添加时会对已创建的缓存立即回调一次
+     * @param listener 缓存创建监听
+     */
+    void addCacheCreationListener(CacheCreationListener listener);
+
+}
@@ -15,25 +15,35 @@
  */
 package io.github.panxiaochao.boot3.cache.core;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
-import io.github.panxiaochao.boot3.core.utils.StringPools;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterCache;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
+import io.github.panxiaochao.boot3.core.utils.CharPools;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <p>
@@ -47,22 +57,104 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * ttl 过期时间 如果设置为0则不过期 默认为0
  * 例子: test、test#60s
  *</pre>
+ * <p>
+ * 缓存组配置优先级: {@link #setCacheSpecs} 中的同名配置 > {@link #setCaffeine} 等通用配置 >
+ * {@link #setDefaultCacheSpec} 默认配置, cacheName#ttl 在同名配置、CaffeineSpec
+ * 格式的通用配置或默认配置的基础上覆盖过期时间; 通过 {@link #setCaffeine} 设置的通用配置无法覆盖过期时间, cacheName#ttl 使用默认配置.
+ * </p>
+ * <p>
+ * 缓存组配置了 refreshAfterWrite 时: 设置了 CacheLoader 由 Caffeine 负责刷新; 否则使用
+ * {@link RefreshAheadCaffeineCache}, 在 &#64;Cacheable(sync = true) 或异步方法读取时后台提前刷新.
+ * </p>
+ * <p>
+ * 设置 {@link #setMemoryBudget} 后, 按 {@link CaffeineCacheSpec} 创建且未配置 maximumWeight
+ * 的缓存按估算内存淘汰, 全局预算在这些缓存间平均分配(不超过各自的 maximumMemory), 每次新建缓存时重新分配.
+ * </p>
+ * <p>
+ * 缓存默认开启 recordStats, 每次创建或重建缓存都会通知 {@link CacheCreationListener}, 用于缓存监控.
+ * </p>
+ * <p>
+ * 缓存组配置了 persistent 时参与本地快照, 见 {@link #getPersistentCacheNames}.
+ * </p>
+ * <p>
+ * 设置 {@link #setBloomFilterRegistry} 后, 配置了布隆过滤器的缓存组使用 {@link BloomFilterCache} 装饰;
+ * 缓存组配置了 nullValueTtl 时 null 值按较短的时间过期.
+ * </p>
  *
  * @author Lypxc
  * @since 2023-08-01
  */
-public class PlusCaffeineCacheManager implements CacheManager {
+public class PlusCaffeineCacheManager implements ObservableCacheManager {
 
     private Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
 
+    /**
+     * 是否通过 setCaffeine/setCaffeineSpec/setCacheSpecification 自定义了通用配置
+     */
+    private boolean customCacheBuilder = false;
+
+    /**
+     * 通过 setCaffeineSpec/setCacheSpecification 设置的通用配置, cacheName#ttl 在此基础上覆盖过期时间
+     */
+    @Nullable
+    private String cacheSpecification;
+
+    private CaffeineCacheSpec defaultCacheSpec = new CaffeineCacheSpec();
+
+    private Map<String, CaffeineCacheSpec> cacheSpecs = Collections.emptyMap();
+
+    @Nullable
+    private CacheLoader<Object, Object> cacheLoader;
+
+    @Nullable
+    private AsyncCacheLoader<Object, Object> asyncCacheLoader;
+
+    private boolean asyncCacheMode = false;
+
+    @Nullable
+    private Weigher<Object, Object> weigher;
+
+    private Executor refreshExecutor = ForkJoinPool.commonPool();
+
+    @Nullable
+    private ObjectSizeEstimator objectSizeEstimator;
+
+    @Nullable
+    private DataSize memoryBudget;
+
+    /**
+     * 参与全局内存预算分配的缓存组
+     */
+    private final Set<String> budgetedCacheNames = ConcurrentHashMap.newKeySet();
+
     private boolean allowNullValues = true;
 
+    @Nullable
+    private CacheBloomFilterRegistry bloomFilterRegistry;
+
     private boolean dynamic = true;
 
     private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
 
+    /**
+     * cacheName#ttl 原始名称与缓存的映射, 命中后无需重复解析名称
+     */
+    private final Map<String, Cache> aliasCacheMap = new ConcurrentHashMap<>(16);
+
+    /**
+     * 缓存组最终生效的配置, 每个缓存组只解析一次
+     */
+    private final Map<String, CaffeineCacheSpec> resolvedCacheSpecs = new ConcurrentHashMap<>(16);
+
+    /**
+     * cacheName#ttl 中解析出的过期时间
+     */
+    private final Map<String, Duration> cacheTtlMap = new ConcurrentHashMap<>(16);
+
     private final Collection<String> customCacheNames = new CopyOnWriteArrayList<>();
 
+    private final List<CacheCreationListener> cacheCreationListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Construct a dynamic CaffeineCacheManager, lazily creating cache instances as they
      * are being requested.
@@ -82,9 +174,10 @@ public class PlusCaffeineCacheManager implements CacheManager {
     public void setCacheNames(@Nullable Collection<String> cacheNames) {
         if (cacheNames != null) {
             for (String name : cacheNames) {
-                this.cacheMap.put(name, createCaffeineCache(name));
+                this.cacheMap.put(name, notifyCacheCreated(createCaffeineCache(name)));
             }
             this.dynamic = false;
+            rebalanceMemoryBudget();
         }
         else {
             this.dynamic = true;
@@ -99,33 +192,175 @@ public class PlusCaffeineCacheManager implements CacheManager {
      */
     public void setCaffeine(Caffeine<Object, Object> caffeine) {
         Assert.notNull(caffeine, "Caffeine must not be null");
+        this.cacheSpecification = null;
         doSetCaffeine(caffeine);
     }
 
     /**
      * Set the {@link CaffeineSpec} to use for building each individual
-     * {@link CaffeineCache} instance.
+     * {@link CaffeineCache} instance, recording statistics unless the spec already
+     * configures it.
      * @see #createNativeCaffeineCache
      * @see Caffeine#from(CaffeineSpec)
      */
     public void setCaffeineSpec(CaffeineSpec caffeineSpec) {
-        doSetCaffeine(Caffeine.from(caffeineSpec));
+        this.cacheSpecification = CaffeineCacheSpec.withRecordStats(caffeineSpec.toParsableString());
+        doSetCaffeine(Caffeine.from(this.cacheSpecification));
     }
 
     /**
      * Set the Caffeine cache specification String to use for building each individual
      * {@link CaffeineCache} instance. The given value needs to comply with Caffeine's
-     * {@link CaffeineSpec} (see its javadoc).
+     * {@link CaffeineSpec} (see its javadoc), recording statistics unless the spec
+     * already configures it.
      * @see #createNativeCaffeineCache
      * @see Caffeine#from(String)
      */
     public void setCacheSpecification(String cacheSpecification) {
-        doSetCaffeine(Caffeine.from(cacheSpecification));
+        this.cacheSpecification = CaffeineCacheSpec.withRecordStats(cacheSpecification);
+        doSetCaffeine(Caffeine.from(this.cacheSpecification));
     }
 
     private void doSetCaffeine(Caffeine<Object, Object> cacheBuilder) {
+        this.customCacheBuilder = true;
         if (!ObjectUtils.nullSafeEquals(this.cacheBuilder, cacheBuilder)) {
             this.cacheBuilder = cacheBuilder;
+            this.resolvedCacheSpecs.clear();
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the default {@link CaffeineCacheSpec} for caches that have neither a dedicated
+     * spec nor a common Caffeine configuration, default expire 30 seconds, initial
+     * capacity 100 and maximum size 500.
+     * @param defaultCacheSpec the default cache spec
+     */
+    public void setDefaultCacheSpec(CaffeineCacheSpec defaultCacheSpec) {
+        Assert.notNull(defaultCacheSpec, "CaffeineCacheSpec must not be null");
+        this.defaultCacheSpec = defaultCacheSpec;
+        this.resolvedCacheSpecs.clear();
+        refreshCommonCaches();
+    }
+
+    /**
+     * Set the {@link CaffeineCacheSpec} per cache name, taking precedence over the common
+     * Caffeine configuration.
+     * @param cacheSpecs cache name to cache spec
+     */
+    public void setCacheSpecs(@Nullable Map<String, CaffeineCacheSpec> cacheSpecs) {
+        this.cacheSpecs = cacheSpecs != null ? Map.copyOf(cacheSpecs) : Collections.emptyMap();
+        this.resolvedCacheSpecs.clear();
+        refreshCommonCaches();
+    }
+
+    /**
+     * Set the Caffeine CacheLoader to use for building each individual
+     * {@link CaffeineCache} instance, turning it into a LoadingCache. Required for
+     * {@link CaffeineCacheSpec#getRefreshAfterWrite()} to take effect.
+     * @see Caffeine#build(CacheLoader)
+     */
+    public void setCacheLoader(CacheLoader<Object, Object> cacheLoader) {
+        if (!ObjectUtils.nullSafeEquals(this.cacheLoader, cacheLoader)) {
+            this.cacheLoader = cacheLoader;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the Caffeine AsyncCacheLoader to use for building each individual
+     * {@link CaffeineCache} instance, turning it into a LoadingCache.
+     * <p>
+     * This implicitly switches the {@link #setAsyncCacheMode "asyncCacheMode"} flag to
+     * {@code true}.
+     * @see Caffeine#buildAsync(AsyncCacheLoader)
+     */
+    public void setAsyncCacheLoader(AsyncCacheLoader<Object, Object> cacheLoader) {
+        if (!ObjectUtils.nullSafeEquals(this.asyncCacheLoader, cacheLoader)) {
+            this.asyncCacheLoader = cacheLoader;
+            this.asyncCacheMode = true;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the common cache type that this cache manager builds to async. This applies to
+     * {@link #setCacheNames} as well as on-demand caches.
+     * <p>
+     * Individual cache registrations (such as
+     * {@link #registerCustomCache(String, AsyncCache)} and
+     * {@link #registerCustomCache(String, com.github.benmanes.caffeine.cache.Cache)}) are
+     * not dependent on this setting.
+     * <p>
+     * By default, this cache manager builds regular native Caffeine caches. To switch to
+     * async caches which can also be used through the synchronous API but come with
+     * support for {@code Cache#retrieve}, set this flag to {@code true}.
+     * @see Caffeine#buildAsync()
+     * @see Cache#retrieve(Object)
+     * @see Cache#retrieve(Object, java.util.function.Supplier)
+     */
+    public void setAsyncCacheMode(boolean asyncCacheMode) {
+        if (this.asyncCacheMode != asyncCacheMode) {
+            this.asyncCacheMode = asyncCacheMode;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Return whether this cache manager builds async caches.
+     */
+    public boolean isAsyncCacheMode() {
+        return this.asyncCacheMode;
+    }
+
+    /**
+     * Set the {@link Executor} used by {@link RefreshAheadCaffeineCache} to reload
+     * entries in the background, default {@link ForkJoinPool#commonPool()}.
+     * @param refreshExecutor the refresh executor
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        Assert.notNull(refreshExecutor, "Executor must not be null");
+        if (this.refreshExecutor != refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the {@link Weigher} used by caches configured with
+     * {@link CaffeineCacheSpec#getMaximumWeight()}.
+     * @param weigher the weigher
+     */
+    public void setWeigher(@Nullable Weigher<Object, Object> weigher) {
+        if (!ObjectUtils.nullSafeEquals(this.weigher, weigher)) {
+            this.weigher = weigher;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the {@link ObjectSizeEstimator} used by caches bounded by
+     * {@link CaffeineCacheSpec#getMaximumMemory()} or the memory budget, default
+     * {@link DefaultObjectSizeEstimator}.
+     * @param objectSizeEstimator the object size estimator
+     */
+    public void setObjectSizeEstimator(@Nullable ObjectSizeEstimator objectSizeEstimator) {
+        if (!ObjectUtils.nullSafeEquals(this.objectSizeEstimator, objectSizeEstimator)) {
+            this.objectSizeEstimator = objectSizeEstimator;
+            refreshCommonCaches();
+        }
+    }
+
+    /**
+     * Set the global heap budget shared by the caches built from a
+     * {@link CaffeineCacheSpec} without {@code maximumWeight}. Each of them is bounded by
+     * its estimated retained bytes, with the budget split evenly and capped by its own
+     * {@code maximumMemory}.
+     * @param memoryBudget the memory budget, {@code null} to disable
+     */
+    public void setMemoryBudget(@Nullable DataSize memoryBudget) {
+        if (!ObjectUtils.nullSafeEquals(this.memoryBudget, memoryBudget)) {
+            this.memoryBudget = memoryBudget;
             refreshCommonCaches();
         }
     }
@@ -152,28 +387,82 @@ public class PlusCaffeineCacheManager implements CacheManager {
         return this.allowNullValues;
     }
 
+    /**
+     * Set the {@link CacheBloomFilterRegistry} guarding the caches configured with a
+     * bloom filter against lookups of keys known not to exist.
+     * @param bloomFilterRegistry the bloom filter registry, {@code null} to disable
+     * @see BloomFilterCache
+     */
+    public void setBloomFilterRegistry(@Nullable CacheBloomFilterRegistry bloomFilterRegistry) {
+        if (this.bloomFilterRegistry != bloomFilterRegistry) {
+            this.bloomFilterRegistry = bloomFilterRegistry;
+            refreshCommonCaches();
+        }
+    }
+
+    @Override
+    public void addCacheCreationListener(CacheCreationListener listener) {
+        Assert.notNull(listener, "CacheCreationListener must not be null");
+        this.cacheCreationListeners.add(listener);
+        this.cacheMap.values().forEach(cache -> listener.onCacheCreated(this, cache));
+    }
+
     @NotNull
     @Override
     public Collection<String> getCacheNames() {
         return Collections.unmodifiableSet(this.cacheMap.keySet());
     }
 
+    /**
+     * 参与本地快照的缓存组, 通过 cacheName#ttl 创建的缓存组返回带 ttl 的名称, 可直接用于 {@link #getCache}
+     * @return 缓存组名称
+     */
+    public Collection<String> getPersistentCacheNames() {
+        List<String> cacheNames = new ArrayList<>();
+        for (String name : this.cacheMap.keySet()) {
+            CaffeineCacheSpec cacheSpec = this.customCacheNames.contains(name) ? null : resolveCacheSpec(name);
+            if (cacheSpec != null && cacheSpec.isPersistent()) {
+                Duration ttl = this.cacheTtlMap.get(name);
+                cacheNames.add(ttl != null ? name + CharPools.HASH + ttl.toMillis() + "ms" : name);
+            }
+        }
+        return cacheNames;
+    }
+
     @Override
     @Nullable
     public Cache getCache(@NotNull String name) {
-        // 重写 name 分割 name
-        String[] array = StringUtils.delimitedListToStringArray(name, StringPools.HASH);
-        name = array[0];
         Cache cache = this.cacheMap.get(name);
-        if (cache == null && this.dynamic) {
-            if (array.length > 1) {
-                long mills = DurationStyle.detectAndParse(array[1]).toMillis();
-                cache = this.cacheMap.computeIfAbsent(name,
-                        str -> this.adaptCaffeineCache(str, createNativeCaffeineCache(mills, 100, 500)));
-            }
-            else {
-                cache = this.cacheMap.computeIfAbsent(name, this::createCaffeineCache);
+        if (cache != null) {
+            return cache;
+        }
+        cache = this.aliasCacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        int index = name.indexOf(CharPools.HASH);
+        if (index < 0) {
+            if (!this.dynamic) {
+                return null;
             }
+            cache = this.cacheMap.computeIfAbsent(name, key -> notifyCacheCreated(createCaffeineCache(key)));
+            rebalanceMemoryBudget();
+            return cache;
+        }
+        // 重写 name 分割 name, 仅在首次获取时解析
+        String cacheName = name.substring(0, index);
+        cache = this.cacheMap.get(cacheName);
+        if (cache == null && this.dynamic) {
+            int end = name.indexOf(CharPools.HASH, index + 1);
+            Duration ttl = DurationStyle.detectAndParse(name.substring(index + 1, end < 0 ? name.length() : end));
+            cache = this.cacheMap.computeIfAbsent(cacheName, key -> {
+                this.cacheTtlMap.put(key, ttl);
+                return notifyCacheCreated(createCaffeineCache(key));
+            });
+            rebalanceMemoryBudget();
+        }
+        if (cache != null) {
+            this.aliasCacheMap.put(name, cache);
         }
         return cache;
     }
@@ -198,7 +487,27 @@ public class PlusCaffeineCacheManager implements CacheManager {
      */
     public void registerCustomCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
         this.customCacheNames.add(name);
-        this.cacheMap.put(name, adaptCaffeineCache(name, cache));
+        this.budgetedCacheNames.remove(name);
+        this.cacheMap.put(name, notifyCacheCreated(adaptCaffeineCache(name, cache)));
+    }
+
+    /**
+     * Register the given Caffeine AsyncCache instance with this cache manager, adapting
+     * it to Spring's cache API for exposure through {@link #getCache}. Any number of such
+     * custom caches may be registered side by side.
+     * <p>
+     * This allows for custom settings per cache (as opposed to all caches sharing the
+     * common settings in the cache manager's configuration) and is typically used with
+     * the Caffeine builder API:
+     * {@code registerCustomCache("myCache", Caffeine.newBuilder().maximumSize(10).buildAsync())}
+     * @param name the name of the cache
+     * @param cache the custom Caffeine AsyncCache instance to register
+     * @see #adaptCaffeineCache(String, AsyncCache)
+     */
+    public void registerCustomCache(String name, AsyncCache<Object, Object> cache) {
+        this.customCacheNames.add(name);
+        this.budgetedCacheNames.remove(name);
+        this.cacheMap.put(name, notifyCacheCreated(adaptCaffeineCache(name, cache)));
     }
 
     /**
@@ -215,6 +524,19 @@ public class PlusCaffeineCacheManager implements CacheManager {
         return new CaffeineCache(name, cache, isAllowNullValues());
     }
 
+    /**
+     * Adapt the given new Caffeine AsyncCache instance to Spring's {@link Cache}
+     * abstraction for the specified cache name.
+     * @param name the name of the cache
+     * @param cache the Caffeine AsyncCache instance
+     * @return the Spring CaffeineCache adapter (or a decorator thereof)
+     * @see CaffeineCache#CaffeineCache(String, AsyncCache, boolean)
+     * @see #isAllowNullValues()
+     */
+    protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        return new CaffeineCache(name, cache, isAllowNullValues());
+    }
+
     /**
      * Build a common {@link CaffeineCache} instance for the specified cache name, using
      * the common Caffeine configuration specified on this cache manager.
@@ -228,48 +550,196 @@ public class PlusCaffeineCacheManager implements CacheManager {
      * @see #createNativeCaffeineCache
      */
     protected Cache createCaffeineCache(String name) {
-        return adaptCaffeineCache(name, createNativeCaffeineCache());
+        Cache cache = doCreateCaffeineCache(name);
+        return this.bloomFilterRegistry != null ? this.bloomFilterRegistry.decorate(cache) : cache;
+    }
+
+    private Cache doCreateCaffeineCache(String name) {
+        Duration refreshAfterWrite = obtainRefreshAheadDuration(name);
+        if (refreshAfterWrite == null) {
+            return this.asyncCacheMode ? adaptCaffeineCache(name, createAsyncCaffeineCache(name))
+                    : adaptCaffeineCache(name, createNativeCaffeineCache(name));
+        }
+        RefreshAheadCaffeineCache cache = this.asyncCacheMode
+                ? new RefreshAheadCaffeineCache(name, createAsyncCaffeineCache(name), isAllowNullValues(),
+                        refreshAfterWrite, this.refreshExecutor)
+                : new RefreshAheadCaffeineCache(name, createNativeCaffeineCache(name), isAllowNullValues(),
+                        refreshAfterWrite, this.refreshExecutor);
+        CaffeineCacheSpec cacheSpec = resolveCacheSpec(name);
+        if (cacheSpec != null && cacheSpec.isVariableExpiry()) {
+            Duration expireAfterWrite = cacheSpec.getExpireAfterWrite();
+            Duration nullValueTtl = cacheSpec.getNullValueTtl();
+            if (isPositive(expireAfterWrite)) {
+                cache.setVariableExpiry(expireAfterWrite, isPositive(nullValueTtl) ? nullValueTtl : null);
+            }
+        }
+        return cache;
     }
 
     /**
-     * Build a common Caffeine Cache instance for the specified cache name, using the
-     * common Caffeine configuration specified on this cache manager, default expire 1
-     * minute.
+     * Build a native Caffeine Cache instance for the specified cache name, using the
+     * cache spec resolved for the name, or the common Caffeine configuration specified on
+     * this cache manager.
+     * @param name the name of the cache
      * @return the native Caffeine Cache instance
      * @see #createCaffeineCache
      */
-    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache() {
-        return this.cacheBuilder
-            // 设置过期时间
-            .expireAfterWrite(Duration.ofSeconds(30))
-            // 初始化缓存空间大小
-            .initialCapacity(100)
-            // 最大的缓存条数
-            .maximumSize(500)
-            .build();
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        CaffeineCacheSpec cacheSpec = applyMemoryBudget(name, resolveCacheSpec(name));
+        if (cacheSpec == null) {
+            return buildNativeCaffeineCache(obtainCommonCacheBuilder(name));
+        }
+        return buildNativeCaffeineCache(cacheSpec.toCaffeine(this.weigher, this.objectSizeEstimator, isLoading()));
+    }
+
+    /**
+     * Build a Caffeine AsyncCache instance for the specified cache name, using the cache
+     * spec resolved for the name, or the common Caffeine configuration specified on this
+     * cache manager.
+     * @param name the name of the cache
+     * @return the Caffeine AsyncCache instance
+     * @see #createCaffeineCache
+     */
+    protected AsyncCache<Object, Object> createAsyncCaffeineCache(String name) {
+        CaffeineCacheSpec cacheSpec = applyMemoryBudget(name, resolveCacheSpec(name));
+        Caffeine<Object, Object> builder = cacheSpec != null
+                ? cacheSpec.toCaffeine(this.weigher, this.objectSizeEstimator, isLoading())
+                : obtainCommonCacheBuilder(name);
+        AsyncCacheLoader<Object, Object> loader = this.asyncCacheLoader != null ? this.asyncCacheLoader
+                : this.cacheLoader;
+        return loader != null ? builder.buildAsync(loader) : builder.buildAsync();
     }
 
-    private com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(long milliseconds,
-            int initialCapacity, long maximumSize) {
-        return Caffeine.newBuilder()
-            // 设置过期时间
-            .expireAfterWrite(Duration.ofMillis(milliseconds))
-            // 初始化缓存空间大小
-            .initialCapacity(initialCapacity)
-            // 最大的缓存条数
-            .maximumSize(maximumSize)
-            .build();
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildNativeCaffeineCache(
+            Caffeine<Object, Object> builder) {
+        return this.cacheLoader != null ? builder.build(this.cacheLoader) : builder.build();
+    }
+
+    /**
+     * 当前模式下是否使用 LoadingCache, 同步模式只支持 CacheLoader
+     */
+    private boolean isLoading() {
+        return this.cacheLoader != null || (this.asyncCacheMode && this.asyncCacheLoader != null);
+    }
+
+    /**
+     * 没有 CacheLoader 时由 {@link RefreshAheadCaffeineCache} 负责提前刷新
+     * @param name the name of the cache
+     * @return 刷新时间, 不需要提前刷新时返回 {@code null}
+     */
+    @Nullable
+    private Duration obtainRefreshAheadDuration(String name) {
+        if (isLoading()) {
+            return null;
+        }
+        CaffeineCacheSpec cacheSpec = resolveCacheSpec(name);
+        if (cacheSpec == null) {
+            return null;
+        }
+        Duration refreshAfterWrite = cacheSpec.getRefreshAfterWrite();
+        return isPositive(refreshAfterWrite) ? refreshAfterWrite : null;
+    }
+
+    private static boolean isPositive(@Nullable Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+    /**
+     * Resolve the cache spec for the specified cache name once and memoise it.
+     * @param name the name of the cache
+     * @return the cache spec, or {@code null} if the common Caffeine configuration
+     * applies
+     */
+    @Nullable
+    private CaffeineCacheSpec resolveCacheSpec(String name) {
+        CaffeineCacheSpec cacheSpec = this.resolvedCacheSpecs.get(name);
+        if (cacheSpec != null) {
+            return cacheSpec;
+        }
+        if (this.customCacheBuilder && !this.cacheSpecs.containsKey(name)
+                && (this.cacheSpecification != null || !this.cacheTtlMap.containsKey(name))) {
+            return null;
+        }
+        return this.resolvedCacheSpecs.computeIfAbsent(name, this::obtainConfiguredCacheSpec);
+    }
+
+    /**
+     * 通用配置的 Caffeine, cacheName#ttl 且通用配置为 CaffeineSpec 格式时按 ttl 覆盖 expireAfterWrite
+     * @param name the name of the cache
+     * @return Caffeine
+     */
+    private Caffeine<Object, Object> obtainCommonCacheBuilder(String name) {
+        Duration ttl = this.cacheTtlMap.get(name);
+        if (ttl == null || this.cacheSpecification == null) {
+            return this.cacheBuilder;
+        }
+        return Caffeine.from(CaffeineCacheSpec.withExpireAfterWrite(this.cacheSpecification, ttl));
+    }
+
+    private CaffeineCacheSpec obtainConfiguredCacheSpec(String name) {
+        CaffeineCacheSpec cacheSpec = this.cacheSpecs.getOrDefault(name, this.defaultCacheSpec);
+        Duration ttl = this.cacheTtlMap.get(name);
+        return ttl != null ? cacheSpec.withExpireAfterWrite(ttl) : cacheSpec;
+    }
+
+    /**
+     * 全局内存预算模式下, 以预算的均分值作为初始最大内存, 创建后由 {@link #rebalanceMemoryBudget} 重新分配
+     * @param name the name of the cache
+     * @param cacheSpec the resolved cache spec
+     * @return the cache spec to build with
+     */
+    @Nullable
+    private CaffeineCacheSpec applyMemoryBudget(String name, @Nullable CaffeineCacheSpec cacheSpec) {
+        if (this.memoryBudget == null || cacheSpec == null || cacheSpec.getMaximumWeight() != null) {
+            this.budgetedCacheNames.remove(name);
+            return cacheSpec;
+        }
+        this.budgetedCacheNames.add(name);
+        return cacheSpec.withMaximumMemory(DataSize.ofBytes(obtainMemoryShare(cacheSpec)));
+    }
+
+    private long obtainMemoryShare(CaffeineCacheSpec cacheSpec) {
+        long share = Math.max(1L, this.memoryBudget.toBytes() / Math.max(1, this.budgetedCacheNames.size()));
+        DataSize maximumMemory = cacheSpec.getMaximumMemory();
+        return maximumMemory != null ? Math.min(share, maximumMemory.toBytes()) : share;
+    }
+
+    /**
+     * 在参与预算的缓存组之间重新分配全局内存预算
+     */
+    private synchronized void rebalanceMemoryBudget() {
+        if (this.memoryBudget == null) {
+            return;
+        }
+        for (String name : this.budgetedCacheNames) {
+            Cache cache = this.cacheMap.get(name);
+            CaffeineCacheSpec cacheSpec = resolveCacheSpec(name);
+            if (cache != null && CacheDecorator.unwrap(cache) instanceof CaffeineCache caffeineCache
+                    && cacheSpec != null) {
+                long share = obtainMemoryShare(cacheSpec);
+                caffeineCache.getNativeCache().policy().eviction().ifPresent(eviction -> eviction.setMaximum(share));
+            }
+        }
     }
 
     /**
      * Recreate the common caches with the current state of this manager.
      */
     private void refreshCommonCaches() {
+        this.aliasCacheMap.clear();
         for (Map.Entry<String, Cache> entry : this.cacheMap.entrySet()) {
             if (!this.customCacheNames.contains(entry.getKey())) {
-                entry.setValue(createCaffeineCache(entry.getKey()));
+                entry.setValue(notifyCacheCreated(createCaffeineCache(entry.getKey())));
             }
         }
+        rebalanceMemoryBudget();
+    }
+
+    private Cache notifyCacheCreated(Cache cache) {
+        for (CacheCreationListener listener : this.cacheCreationListeners) {
+            listener.onCacheCreated(this, cache);
+        }
+        return cache;
     }
 
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.core;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 支持提前刷新的 CaffeineCache, 用于没有配置 CacheLoader 的缓存组.
+ * </p>
+ * <pre>
+ * 1. 通过 get(key, valueLoader) 或 retrieve(key, valueLoader) 读取时, 若写入时间已超过 refreshAfterWrite,
+ *    先返回旧值, 再在后台线程使用本次的 valueLoader 重新加载, 同一 key 同时只会有一个刷新任务;
+ *    加载结果只在缓存值仍是提交刷新时的旧值时写回, 不会覆盖刷新期间的 put 或删除后重新写入的值
+ * 2. 对应 &#64;Cacheable(sync = true) 以及返回 CompletableFuture/Mono 的方法
+ * 3. 需要同时配置 expireAfterWrite 且大于 refreshAfterWrite, 否则不会触发刷新; 写入时间精度约为1秒, refreshAfterWrite 不宜小于1秒
+ * 4. 可变过期(persistent 或配置了 nullValueTtl 的缓存组)时按 expireAfterWrite 减去剩余存活时间计算写入时长, null 值使用 nullValueTtl
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshAheadCaffeineCache.class);
+
+    private final Duration refreshAfterWrite;
+
+    private final Executor executor;
+
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 可变过期时的写入后过期时间
+     */
+    @Nullable
+    private Duration variableExpireAfterWrite;
+
+    /**
+     * 可变过期时 null 值的写入后过期时间
+     */
+    @Nullable
+    private Duration variableNullValueTtl;
+
+    public RefreshAheadCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+            Duration refreshAfterWrite, Executor executor) {
+        super(name, cache, allowNullValues);
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.executor = executor;
+    }
+
+    public RefreshAheadCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+            Duration refreshAfterWrite, Executor executor) {
+        super(name, cache, allowNullValues);
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.executor = executor;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        Object expected = obtainRefreshable(key);
+        if (expected != null && this.refreshingKeys.add(key)) {
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        replace(key, expected, valueLoader.call());
+                    }
+                    catch (Exception e) {
+                        LOGGER.warn("缓存[{}]提前刷新失败, key: {}", getName(), key, e);
+                    }
+                    finally {
+                        this.refreshingKeys.remove(key);
+                    }
+                });
+            }
+            catch (RuntimeException e) {
+                this.refreshingKeys.remove(key);
+                LOGGER.warn("缓存[{}]提前刷新任务提交失败, key: {}", getName(), key, e);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<T> future = super.retrieve(key, valueLoader);
+        Object expected = obtainRefreshable(key);
+        if (expected != null && this.refreshingKeys.add(key)) {
+            try {
+                CompletableFuture.supplyAsync(valueLoader, this.executor)
+                    .thenCompose(loaded -> loaded)
+                    .whenComplete((value, ex) -> {
+                        try {
+                            if (ex != null) {
+                                LOGGER.warn("缓存[{}]提前刷新失败, key: {}", getName(), key, ex);
+                            }
+                            else {
+                                replace(key, expected, value);
+                            }
+                        }
+                        finally {
+                            this.refreshingKeys.remove(key);
+                        }
+                    });
+            }
+            catch (RuntimeException e) {
+                this.refreshingKeys.remove(key);
+                LOGGER.warn("缓存[{}]提前刷新任务提交失败, key: {}", getName(), key, e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 设置可变过期时的写入后过期时间
+     * @param variableExpireAfterWrite 写入后过期时间
+     * @param variableNullValueTtl null 值的写入后过期时间, 为空时与普通值一致
+     */
+    void setVariableExpiry(@Nullable Duration variableExpireAfterWrite, @Nullable Duration variableNullValueTtl) {
+        this.variableExpireAfterWrite = variableExpireAfterWrite;
+        this.variableNullValueTtl = variableNullValueTtl;
+    }
+
+    /**
+     * 刷新结果只覆盖提交刷新时的旧值, 与 Caffeine 自身的刷新一致; 刷新期间已被删除、淘汰或写入新值的 key 保持不变
+     * @param key 缓存key
+     * @param expected 提交刷新时的缓存值
+     * @param value 刷新后的值
+     */
+    private void replace(Object key, Object expected, @Nullable Object value) {
+        getNativeCache().asMap().replace(key, expected, toStoreValue(value));
+    }
+
+    /**
+     * 需要刷新时返回当前缓存值, 作为刷新结果写回时的比较值
+     * @param key 缓存key
+     * @return 当前缓存值, 不需要刷新或不存在时返回 {@code null}
+     */
+    @Nullable
+    private Object obtainRefreshable(Object key) {
+        return needsRefresh(key) ? getNativeCache().policy().getIfPresentQuietly(key) : null;
+    }
+
+    /**
+     * 写入时间是否已超过刷新时间
+     * @param key 缓存key
+     * @return true 需要刷新
+     */
+    private boolean needsRefresh(Object key) {
+        if (this.variableExpireAfterWrite != null) {
+            Optional<Duration> remaining = getNativeCache().policy()
+                .expireVariably()
+                .flatMap(expiration -> expiration.getExpiresAfter(key));
+            Duration ttl = this.variableExpireAfterWrite;
+            if (this.variableNullValueTtl != null
+                    && getNativeCache().policy().getIfPresentQuietly(key) == NullValue.INSTANCE) {
+                ttl = this.variableNullValueTtl;
+            }
+            return remaining.isPresent() && ttl.minus(remaining.get()).compareTo(this.refreshAfterWrite) >= 0;
+        }
+        Optional<Policy.FixedExpiration<Object, Object>> expiration = getNativeCache().policy().expireAfterWrite();
+        if (expiration.isEmpty()) {
+            return false;
+        }
+        Optional<Duration> age = expiration.get().ageOf(key);
+        return age.isPresent() && age.get().compareTo(this.refreshAfterWrite) >= 0;
+    }
+
+}
@@ -18,6 +18,11 @@ package io.github.panxiaochao.boot3.cache.factory;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.github.panxiaochao.boot3.cache.core.CaffeineCacheSpec;
+import io.github.panxiaochao.boot3.cache.core.DefaultObjectSizeEstimator;
+import io.github.panxiaochao.boot3.cache.core.ObjectSizeEstimator;
+import io.github.panxiaochao.boot3.cache.core.ObjectSizeWeigher;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
 
@@ -48,18 +53,58 @@ public final class CaffeineCacheFactory {
             .initialCapacity(initialCapacity)
             // 最大的缓存条数
             .maximumSize(maximumSize)
+            // 开启统计
+            .recordStats()
             .build();
     }
 
+    /**
+     * 创建按估算内存淘汰的原生静态缓存类
+     * @param maximumMemory 最大内存
+     * @param duration 过期时间
+     * @return Cache
+     */
+    public static Cache<String, Object> createNativeCaffeineCache(DataSize maximumMemory, final Duration duration) {
+        return createNativeCaffeineCache(maximumMemory, duration, DefaultObjectSizeEstimator.INSTANCE);
+    }
+
+    /**
+     * 创建按估算内存淘汰的原生静态缓存类
+     * @param maximumMemory 最大内存
+     * @param duration 过期时间
+     * @param objectSizeEstimator 内存估算
+     * @return Cache
+     */
+    public static Cache<String, Object> createNativeCaffeineCache(DataSize maximumMemory, final Duration duration,
+            ObjectSizeEstimator objectSizeEstimator) {
+        return Caffeine.newBuilder()
+            // 设置过期时间
+            .expireAfterWrite(duration)
+            // 按估算内存淘汰
+            .maximumWeight(maximumMemory.toBytes())
+            .weigher(new ObjectSizeWeigher(objectSizeEstimator))
+            // 开启统计
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 根据缓存组配置创建原生静态缓存类
+     * @param cacheSpec 缓存组配置
+     * @return Cache
+     */
+    public static Cache<String, Object> createNativeCaffeineCache(final CaffeineCacheSpec cacheSpec) {
+        return cacheSpec.toCaffeine(null, false).build();
+    }
+
     /**
      * Constructs a new {@code Caffeine} instance with the settings specified in
-     * {@code spec}.
+     * {@code spec}, recording statistics unless the spec already configures it.
      * @param spec a String in the format specified by {@link CaffeineSpec}
      * @return Cache
      */
     public static Cache<String, Object> createNativeCaffeineCache(String spec) {
-        Caffeine<Object, Object> cacheBuilder = Caffeine.from(spec);
-        return cacheBuilder.build();
+        return Caffeine.from(CaffeineCacheSpec.withRecordStats(spec)).build();
     }
 
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.hotkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * 热点 key 探测, 统计每个时间窗口内 key 的访问次数, 超过阈值的 key 在本地保留一份短时副本.
+ * </p>
+ * <pre>
+ * 1. 计数: 4 行 Count-Min Sketch, 只保存计数不保存 key, 内存固定; 每个窗口开始时清零
+ * 2. 热点: 估算次数达到 threshold 的 key 记为热点, 持续到下一个窗口结束, 最多保留 topK 个, 超出时替换次数最少的
+ * 3. 本地副本: 热点 key 的值保存在本地 Caffeine 中, 写入后 localTtl 过期; 本节点写入/删除时失效,
+ *    其他节点的修改最多延迟 localTtl 可见. 回填副本前先通过 {@link #localStamp(String, Object)} 取得该 key 的版本,
+ *    读取期间该 key 发生过失效时放弃回填, 避免并发写入前读到的旧值在失效之后又被写回本地;
+ *    版本按 key 的 hash 分段, 其他 key 的写入只在落到同一分段时才会取消回填
+ * 4. namespace 用于区分缓存组或 RBucket, 同一个 key 在不同 namespace 下分别统计
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class HotKeyDetector {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L };
+
+    private static final int DEPTH = SEEDS.length;
+
+    private static final Object NULL_VALUE = new Object();
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final AtomicLongArray table;
+
+    private final int widthMask;
+
+    private final int width;
+
+    private final long windowNanos;
+
+    private final long threshold;
+
+    private final int topK;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    /**
+     * 当前窗口序号, 用于判断热点是否仍有效
+     */
+    private volatile long window;
+
+    private final ConcurrentMap<HotKeyId, HotKey> hotKeys = new ConcurrentHashMap<>();
+
+    private final Cache<HotKeyId, Object> localCache;
+
+    /**
+     * 按 key 分段的本地副本失效次数, 用于判断回填期间该 key 是否发生过失效
+     */
+    private final AtomicLongArray invalidations = new AtomicLongArray(STAMP_STRIPES);
+
+    /**
+     * 按命名空间清空的次数, 计入所有 key 的版本
+     */
+    private final AtomicLong clears = new AtomicLong();
+
+    /**
+     * @param window 统计窗口
+     * @param threshold 每个窗口内达到该访问次数视为热点
+     * @param topK 最多保留的热点 key 数量
+     * @param localTtl 本地副本写入后过期时间
+     * @param localMaximumSize 本地副本最大条数
+     */
+    public HotKeyDetector(Duration window, long threshold, int topK, Duration localTtl, long localMaximumSize) {
+        Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be positive");
+        Assert.isTrue(threshold > 0, "threshold must be positive");
+        Assert.isTrue(topK > 0, "topK must be positive");
+        Assert.isTrue(!localTtl.isNegative() && !localTtl.isZero(), "localTtl must be positive");
+        this.windowNanos = window.toNanos();
+        this.threshold = threshold;
+        this.topK = topK;
+        // 宽度取 topK 的 64 倍且不小于 1024, 降低冲突导致的误判
+        this.width = Integer.highestOneBit(Math.max(1024, Math.min(1 << 20, topK * 64)) * 2 - 1);
+        this.widthMask = this.width - 1;
+        this.table = new AtomicLongArray(DEPTH * this.width);
+        this.localCache = Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(localMaximumSize).build();
+    }
+
+    /**
+     * 记录一次访问
+     * @param namespace 命名空间, 如缓存组名称
+     * @param key key
+     * @return true 当前为热点 key
+     */
+    public boolean record(String namespace, Object key) {
+        long now = System.nanoTime();
+        rollWindowIfNecessary(now);
+        HotKeyId id = new HotKeyId(namespace, key);
+        long hash = spread(id.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            estimate = Math.min(estimate, this.table.incrementAndGet(indexOf(hash, i)));
+        }
+        HotKey hotKey = this.hotKeys.get(id);
+        if (estimate >= this.threshold) {
+            if (hotKey != null) {
+                hotKey.touch(this.window, estimate);
+                return true;
+            }
+            return promote(id, estimate);
+        }
+        return hotKey != null && hotKey.getWindow() >= this.window - 1;
+    }
+
+    /**
+     * 是否为热点 key, 不计数
+     * @param namespace 命名空间
+     * @param key key
+     * @return true 当前为热点 key
+     */
+    public boolean isHot(String namespace, Object key) {
+        HotKey hotKey = this.hotKeys.get(new HotKeyId(namespace, key));
+        return hotKey != null && hotKey.getWindow() >= this.window - 1;
+    }
+
+    /**
+     * 获取本地副本
+     * @param namespace 命名空间
+     * @param key key
+     * @return 本地副本, 不存在时返回 {@code null}
+     */
+    @Nullable
+    public ValueWrapper getLocal(String namespace, Object key) {
+        Object value = this.localCache.getIfPresent(new HotKeyId(namespace, key));
+        if (value == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(value == NULL_VALUE ? null : value);
+    }
+
+    /**
+     * 回填本地副本前的版本, 需要在读取数据源之前获取
+     * @param namespace 命名空间
+     * @param key key
+     * @return 版本
+     */
+    public long localStamp(String namespace, Object key) {
+        return stampOf(new HotKeyId(namespace, key));
+    }
+
+    /**
+     * 保存本地副本, 只保存热点 key, 自 stamp 之后发生过失效时不保存
+     * @param namespace 命名空间
+     * @param key key
+     * @param value 值
+     * @param stamp 读取数据源之前通过 {@link #localStamp(String, Object)} 获取的版本
+     */
+    public void putLocal(String namespace, Object key, @Nullable Object value, long stamp) {
+        HotKeyId id = new HotKeyId(namespace, key);
+        if (!this.hotKeys.containsKey(id) || stampOf(id) != stamp) {
+            return;
+        }
+        this.localCache.put(id, value != null ? value : NULL_VALUE);
+        // 写入后再检查一次, 与 invalidateLocal 的先计数后删除配合, 保证并发失效不会被覆盖
+        if (stampOf(id) != stamp) {
+            this.localCache.invalidate(id);
+        }
+    }
+
+    /**
+     * 删除本地副本
+     * @param namespace 命名空间
+     * @param key key
+     */
+    public void invalidateLocal(String namespace, Object key) {
+        HotKeyId id = new HotKeyId(namespace, key);
+        this.invalidations.incrementAndGet(stripeOf(id));
+        this.localCache.invalidate(id);
+    }
+
+    /**
+     * 删除命名空间下的所有本地副本
+     * @param namespace 命名空间
+     */
+    public void invalidateLocal(String namespace) {
+        this.clears.incrementAndGet();
+        this.localCache.asMap().keySet().removeIf(id -> id.namespace().equals(namespace));
+    }
+
+    /**
+     * 当前热点 key, 按访问次数倒序
+     * @return 热点 key
+     */
+    public List<HotKey> getHotKeys() {
+        long current = this.window;
+        List<HotKey> result = new ArrayList<>(this.hotKeys.size());
+        for (HotKey hotKey : this.hotKeys.values()) {
+            if (hotKey.getWindow() >= current - 1) {
+                result.add(hotKey);
+            }
+        }
+        result.sort(Comparator.comparingLong(HotKey::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * 本地副本条数
+     * @return 条数
+     */
+    public long getLocalSize() {
+        return this.localCache.estimatedSize();
+    }
+
+    private boolean promote(HotKeyId id, long estimate) {
+        if (this.hotKeys.size() >= this.topK) {
+            HotKey coldest = null;
+            for (HotKey hotKey : this.hotKeys.values()) {
+                if (coldest == null || hotKey.getCount() < coldest.getCount()) {
+                    coldest = hotKey;
+                }
+            }
+            if (coldest != null && coldest.getWindow() >= this.window - 1 && coldest.getCount() >= estimate) {
+                return false;
+            }
+            if (coldest != null) {
+                removeHotKey(coldest);
+            }
+        }
+        this.hotKeys.computeIfAbsent(id, k -> new HotKey(k.namespace(), k.key())).touch(this.window, estimate);
+        return true;
+    }
+
+    private void rollWindowIfNecessary(long now) {
+        long start = this.windowStart.get();
+        if (now - start < this.windowNanos || !this.windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        for (int i = 0; i < this.table.length(); i++) {
+            this.table.set(i, 0L);
+        }
+        // 多个窗口没有访问时直接过期所有热点
+        long elapsedWindows = (now - start) / this.windowNanos;
+        this.window += elapsedWindows;
+        long current = this.window;
+        for (Map.Entry<HotKeyId, HotKey> entry : this.hotKeys.entrySet()) {
+            if (entry.getValue().getWindow() < current - 1) {
+                removeHotKey(entry.getValue());
+            }
+        }
+    }
+
+    private void removeHotKey(HotKey hotKey) {
+        HotKeyId id = new HotKeyId(hotKey.getNamespace(), hotKey.getRawKey());
+        this.hotKeys.remove(id, hotKey);
+        this.localCache.invalidate(id);
+    }
+
+    /**
+     * 分段失效次数与清空次数之和, 两者都只增不减, 任一变化都会使版本变化
+     */
+    private long stampOf(HotKeyId id) {
+        return this.invalidations.get(stripeOf(id)) + this.clears.get();
+    }
+
+    private static int stripeOf(HotKeyId id) {
+        return (int) spread(id.hashCode()) & (STAMP_STRIPES - 1);
+    }
+
+    private int indexOf(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += (h >>> 32);
+        return row * this.width + ((int) h & this.widthMask);
+    }
+
+    private static long spread(int hashCode) {
+        long h = hashCode * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 29);
+    }
+
+    private record HotKeyId(String namespace, Object key) {
+    }
+
+    /**
+     * 热点 key 统计
+     */
+    public static final class HotKey {
+
+        private final String namespace;
+
+        private final Object rawKey;
+
+        private volatile long window;
+
+        private volatile long count;
+
+        private volatile long lastSeen;
+
+        HotKey(String namespace, Object rawKey) {
+            this.namespace = namespace;
+            this.rawKey = rawKey;
+        }
+
+        void touch(long window, long count) {
+            this.window = window;
+            this.count = count;
+            this.lastSeen = System.currentTimeMillis();
+        }
+
+        public String getNamespace() {
+            return this.namespace;
+        }
+
+        public String getKey() {
+            return String.valueOf(this.rawKey);
+        }
+
+        Object getRawKey() {
+            return this.rawKey;
+        }
+
+        long getWindow() {
+            return this.window;
+        }
+
+        /**
+         * 最近一个窗口内的估算访问次数
+         * @return 访问次数
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * 最近一次访问时间
+         * @return 毫秒时间戳
+         */
+        public long getLastSeen() {
+            return this.lastSeen;
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.metrics;
+
+import io.github.panxiaochao.boot3.cache.core.CacheDecorator;
+import io.github.panxiaochao.boot3.cache.core.ObservableCacheManager;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * 缓存监控绑定, 为缓存管理器创建的每个缓存注册 Micrometer 指标, 包括 getCache 中按需创建的缓存
+ * </p>
+ * <pre>
+ * 1. 指标名称与标签与 Spring Boot 一致: cache.gets、cache.puts、cache.evictions、cache.size 等, 标签 cache、cache.manager
+ * 2. 缓存重建时先删除旧指标再重新绑定, 避免指标指向已废弃的缓存
+ * 3. 二级缓存的一级、二级分别以 {beanName}.caffeine、{beanName}.redisson 作为 cache.manager
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CacheMetricsBinder implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheMetricsBinder.class);
+
+    /**
+     * 缓存名称标签
+     */
+    public static final String CACHE_TAG = "cache";
+
+    /**
+     * 缓存管理器标签
+     */
+    public static final String CACHE_MANAGER_TAG = "cache.manager";
+
+    private static final String CACHE_MANAGER_SUFFIX = "cacheManager";
+
+    private static final String REDISSON_BINDER_PROVIDER = "org.redisson.spring.cache.RedissonCacheMeterBinderProvider";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    private final CacheMetricsRegistrar cacheMetricsRegistrar;
+
+    public CacheMetricsBinder(MeterRegistry registry, Map<String, CacheManager> cacheManagers,
+            Collection<CacheMeterBinderProvider<?>> binderProviders) {
+        this.registry = registry;
+        this.cacheManagers = cacheManagers;
+        List<CacheMeterBinderProvider<?>> providers = new ArrayList<>(binderProviders);
+        providers.add(new CaffeineCacheMeterBinderProvider());
+        providers.add(new OffHeapCacheMeterBinderProvider());
+        CacheMeterBinderProvider<?> redissonBinderProvider = createRedissonBinderProvider();
+        if (redissonBinderProvider != null) {
+            providers.add(redissonBinderProvider);
+        }
+        this.cacheMetricsRegistrar = new CacheMetricsRegistrar(registry, providers);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.cacheManagers.forEach((beanName, cacheManager) -> {
+            if (cacheManager instanceof ObservableCacheManager observableCacheManager) {
+                observableCacheManager.addCacheCreationListener(
+                        (source, cache) -> bindCacheToRegistry(beanName, cacheManager, source, cache));
+            }
+        });
+        LOGGER.info("配置[Cache -> Metrics]成功！");
+    }
+
+    private void bindCacheToRegistry(String beanName, CacheManager cacheManager, CacheManager source, Cache cache) {
+        Cache target = CacheDecorator.unwrap(cache);
+        String cacheManagerName = getCacheManagerName(beanName);
+        if (source != cacheManager) {
+            cacheManagerName = cacheManagerName + "." + getCacheType(target);
+        }
+        removeMeters(cacheManagerName, target.getName());
+        if (!this.cacheMetricsRegistrar.bindCacheToRegistry(target, Tag.of(CACHE_MANAGER_TAG, cacheManagerName))) {
+            LOGGER.debug("缓存[{}]不支持监控, 类型: {}", target.getName(), target.getClass().getName());
+        }
+    }
+
+    /**
+     * 删除缓存重建前绑定的指标
+     */
+    private void removeMeters(String cacheManagerName, String cacheName) {
+        for (Meter meter : this.registry.getMeters()) {
+            Meter.Id id = meter.getId();
+            if (cacheName.equals(id.getTag(CACHE_TAG)) && cacheManagerName.equals(id.getTag(CACHE_MANAGER_TAG))) {
+                this.registry.remove(meter);
+            }
+        }
+    }
+
+    private static String getCacheType(Cache cache) {
+        if (cache instanceof CaffeineCache) {
+            return "caffeine";
+        }
+        String simpleName = cache.getClass().getSimpleName();
+        return StringUtils.uncapitalize(simpleName.endsWith("Cache")
+                ? simpleName.substring(0, simpleName.length() - "Cache".length()) : simpleName);
+    }
+
+    /**
+     * 与 Spring Boot 的 CacheMetricsRegistrarConfiguration 保持一致
+     */
+    private static String getCacheManagerName(String beanName) {
+        if (beanName.length() > CACHE_MANAGER_SUFFIX.length()
+                && StringUtils.endsWithIgnoreCase(beanName, CACHE_MANAGER_SUFFIX)) {
+            return beanName.substring(0, beanName.length() - CACHE_MANAGER_SUFFIX.length());
+        }
+        return beanName;
+    }
+
+    @Nullable
+    private static CacheMeterBinderProvider<?> createRedissonBinderProvider() {
+        ClassLoader classLoader = CacheMetricsBinder.class.getClassLoader();
+        if (!ClassUtils.isPresent(REDISSON_BINDER_PROVIDER, classLoader)) {
+            return null;
+        }
+        try {
+            return (CacheMeterBinderProvider<?>) BeanUtils
+                .instantiateClass(ClassUtils.forName(REDISSON_BINDER_PROVIDER, classLoader));
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.search.Search;
+import lombok.Getter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 缓存统计端点, 按缓存管理器列出每个缓存的大小、命中率等, 数据来源于 {@link CacheMetricsBinder} 注册的指标
+ * </p>
+ * <pre>
+ * GET /actuator/cachestats
+ * GET /actuator/cachestats/{cache}
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final MeterRegistry registry;
+
+    public CacheStatsEndpoint(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 所有缓存的统计信息
+     * @return CacheStatsReport
+     */
+    @ReadOperation
+    public CacheStatsReport cacheStats() {
+        return collect(null);
+    }
+
+    /**
+     * 指定名称缓存的统计信息, 可能存在于多个缓存管理器中
+     * @param cache 缓存名称
+     * @return CacheStatsReport
+     */
+    @ReadOperation
+    public CacheStatsReport cacheStats(@Selector String cache) {
+        return collect(cache);
+    }
+
+    private CacheStatsReport collect(@Nullable String cacheName) {
+        Map<String, Map<String, CacheStatsDescriptor>> cacheManagers = new TreeMap<>();
+        for (Meter meter : this.registry.find("cache.gets").meters()) {
+            String cache = meter.getId().getTag(CacheMetricsBinder.CACHE_TAG);
+            String cacheManager = meter.getId().getTag(CacheMetricsBinder.CACHE_MANAGER_TAG);
+            if (cache == null || cacheManager == null || (cacheName != null && !cacheName.equals(cache))) {
+                continue;
+            }
+            cacheManagers.computeIfAbsent(cacheManager, key -> new TreeMap<>())
+                .computeIfAbsent(cache, key -> describe(cacheManager, cache));
+        }
+        return new CacheStatsReport(cacheManagers);
+    }
+
+    private CacheStatsDescriptor describe(String cacheManager, String cache) {
+        Long hitCount = count(find("cache.gets", cacheManager, cache).tag("result", "hit"));
+        Long missCount = count(find("cache.gets", cacheManager, cache).tag("result", "miss"));
+        // 没有请求时命中率为 null, 避免空闲或异常的缓存显示为 100%
+        Double hitRatio = null;
+        if (hitCount != null && missCount != null && hitCount + missCount > 0) {
+            hitRatio = (double) hitCount / (hitCount + missCount);
+        }
+        FunctionTimer loadTimer = find("cache.load.duration", cacheManager, cache).functionTimer();
+        Double averageLoadMillis = loadTimer != null ? loadTimer.mean(TimeUnit.MILLISECONDS) : null;
+        return new CacheStatsDescriptor(count(find("cache.size", cacheManager, cache)), hitCount, missCount, hitRatio,
+                count(find("cache.puts", cacheManager, cache)), count(find("cache.evictions", cacheManager, cache)),
+                averageLoadMillis);
+    }
+
+    private Search find(String name, String cacheManager, String cache) {
+        return this.registry.find(name)
+            .tag(CacheMetricsBinder.CACHE_MANAGER_TAG, cacheManager)
+            .tag(CacheMetricsBinder.CACHE_TAG, cache);
+    }
+
+    @Nullable
+    private static Long count(Search search) {
+        Meter meter = search.meter();
+        if (meter == null) {
+            return null;
+        }
+        for (Measurement measurement : meter.measure()) {
+            double value = measurement.getValue();
+            return Double.isNaN(value) ? null : (long) value;
+        }
+        return null;
+    }
+
+    /**
+     * 缓存统计报告, 按缓存管理器、缓存名称分组
+     */
+    @Getter
+    public static final class CacheStatsReport {
+
+        private final Map<String, Map<String, CacheStatsDescriptor>> cacheManagers;
+
+        public CacheStatsReport(Map<String, Map<String, CacheStatsDescriptor>> cacheManagers) {
+            this.cacheManagers = cacheManagers;
+        }
+
+    }
+
+    /**
+     * 单个缓存的统计信息, 缓存不支持的统计项为 null, 没有请求时 hitRatio 为 null
+     */
+    @Getter
+    public static final class CacheStatsDescriptor {
+
+        private final Long size;
+
+        private final Long hitCount;
+
+        private final Long missCount;
+
+        private final Double hitRatio;
+
+        private final Long putCount;
+
+        private final Long evictionCount;
+
+        private final Double averageLoadMillis;
+
+        public CacheStatsDescriptor(Long size, Long hitCount, Long missCount, Double hitRatio, Long putCount,
+                Long evictionCount, Double averageLoadMillis) {
+            this.size = size;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.hitRatio = hitRatio;
+            this.putCount = putCount;
+            this.evictionCount = evictionCount;
+            this.averageLoadMillis = averageLoadMillis;
+        }
+
+    }
+
+}
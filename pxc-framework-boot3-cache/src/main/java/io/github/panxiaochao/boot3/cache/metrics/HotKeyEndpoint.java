@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.metrics;
+
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * 热点 key 端点, 列出 {@link HotKeyDetector} 当前探测到的热点 key, 未开启热点探测时返回空列表
+ * </p>
+ * <pre>
+ * GET /actuator/hotkeys
+ * GET /actuator/hotkeys/{namespace}
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final ObjectProvider<HotKeyDetector> hotKeyDetector;
+
+    public HotKeyEndpoint(ObjectProvider<HotKeyDetector> hotKeyDetector) {
+        this.hotKeyDetector = hotKeyDetector;
+    }
+
+    /**
+     * 所有热点 key
+     * @return HotKeyReport
+     */
+    @ReadOperation
+    public HotKeyReport hotKeys() {
+        return collect(null);
+    }
+
+    /**
+     * 指定命名空间(缓存组名称或 RBucket)的热点 key
+     * @param namespace 命名空间
+     * @return HotKeyReport
+     */
+    @ReadOperation
+    public HotKeyReport hotKeys(@Selector String namespace) {
+        return collect(namespace);
+    }
+
+    private HotKeyReport collect(String namespace) {
+        HotKeyDetector detector = this.hotKeyDetector.getIfAvailable();
+        if (detector == null) {
+            return new HotKeyReport(false, 0L, Collections.emptyList());
+        }
+        List<HotKeyDetector.HotKey> hotKeys = detector.getHotKeys();
+        if (namespace != null) {
+            hotKeys = hotKeys.stream().filter(hotKey -> namespace.equals(hotKey.getNamespace())).toList();
+        }
+        return new HotKeyReport(true, detector.getLocalSize(), hotKeys);
+    }
+
+    /**
+     * 热点 key 报告
+     */
+    @Getter
+    public static final class HotKeyReport {
+
+        private final boolean enabled;
+
+        private final Long localSize;
+
+        private final List<HotKeyDetector.HotKey> hotKeys;
+
+        public HotKeyReport(boolean enabled, Long localSize, List<HotKeyDetector.HotKey> hotKeys) {
+            this.enabled = enabled;
+            this.localSize = localSize;
+            this.hotKeys = hotKeys;
+        }
+
+    }
+
+}
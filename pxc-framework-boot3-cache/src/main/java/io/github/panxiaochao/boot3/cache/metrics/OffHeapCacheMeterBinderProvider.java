@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.metrics;
+
+import io.github.panxiaochao.boot3.cache.offheap.OffHeapCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * <p>
+ * 堆外缓存监控, 除通用缓存指标外额外注册 cache.off-heap.used 与 cache.off-heap.max
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class OffHeapCacheMeterBinderProvider implements CacheMeterBinderProvider<OffHeapCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(OffHeapCache cache, Iterable<Tag> tags) {
+        return new OffHeapCacheMetrics(cache, tags);
+    }
+
+    static class OffHeapCacheMetrics extends CacheMeterBinder<OffHeapCache> {
+
+        OffHeapCacheMetrics(OffHeapCache cache, Iterable<Tag> tags) {
+            super(cache, cache.getName(), tags);
+        }
+
+        @Override
+        protected Long size() {
+            OffHeapCache cache = getCache();
+            return cache != null ? cache.size() : null;
+        }
+
+        @Override
+        protected long hitCount() {
+            OffHeapCache cache = getCache();
+            return cache != null ? cache.getHitCount() : 0L;
+        }
+
+        @Override
+        protected Long missCount() {
+            OffHeapCache cache = getCache();
+            return cache != null ? cache.getMissCount() : null;
+        }
+
+        @Override
+        protected Long evictionCount() {
+            OffHeapCache cache = getCache();
+            return cache != null ? cache.getEvictionCount() : null;
+        }
+
+        @Override
+        protected long putCount() {
+            OffHeapCache cache = getCache();
+            return cache != null ? cache.getPutCount() : 0L;
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            Gauge.builder("cache.off-heap.used", getCache(), OffHeapCache::getUsedBytes)
+                .tags(getTagsWithCacheName())
+                .description("The number of off-heap bytes used by the cache")
+                .baseUnit("bytes")
+                .register(registry);
+            Gauge.builder("cache.off-heap.max", getCache(), OffHeapCache::getMaximumBytes)
+                .tags(getTagsWithCacheName())
+                .description("The maximum number of off-heap bytes of the cache")
+                .baseUnit("bytes")
+                .register(registry);
+        }
+
+    }
+
+}
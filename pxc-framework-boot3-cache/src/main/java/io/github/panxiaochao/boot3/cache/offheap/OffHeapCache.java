@@ -0,0 +1,616 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.offheap;
+
+import io.github.panxiaochao.boot3.cache.serializer.CacheValueSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * 堆外缓存, 缓存值序列化后保存在 Direct ByteBuffer 中, 堆内只保留 key 与索引.
+ * </p>
+ * <pre>
+ * 1. 堆外内存按 2MB 的 slab 按需分配且不再释放, 总量不超过 maximumBytes, slab 切成 1KB 的块, 通过空闲链表复用,
+ *    因此 maximumBytes 即真实占用的直接内存上限, 不依赖 GC 回收 DirectByteBuffer
+ * 2. 分配 slab 前先从共享的 {@link OffHeapMemoryBudget} 预留, 预算不足或直接内存不足时不再扩容, 只在已分配的空间内淘汰,
+ *    已分配空间也不足时不缓存, 不会向调用方抛出 OutOfMemoryError
+ * 3. 值按块存储, 占用按块向上取整计算, 空间不足时按 CLOCK(近似 LRU) 淘汰
+ * 4. 读取不加锁, 条目通过引用计数保证读取期间其占用的块不会被复用
+ * 5. expireAfterWrite 大于0时写入后过期, 过期数据在读取或淘汰时清理
+ * 6. 每次读取都会反序列化出新对象, 适合体积大、很少修改的数据, 例如字典树、配置
+ * 7. 单个值超过 maximumBytes 时不缓存
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapCache.class);
+
+    private static final int LOAD_LOCK_STRIPES = 64;
+
+    private static final int BLOCK_SIZE = 1024;
+
+    private static final int SLAB_SIZE = 2 * 1024 * 1024;
+
+    private final String name;
+
+    private final CacheValueSerializer serializer;
+
+    private final long maximumBytes;
+
+    private final OffHeapMemoryBudget budget;
+
+    private final long expireAfterWriteNanos;
+
+    private final int blockSize;
+
+    private final int totalBlocks;
+
+    private final int blocksPerSlab;
+
+    private final ConcurrentHashMap<Object, Entry> index = new ConcurrentHashMap<>();
+
+    /**
+     * CLOCK 淘汰队列, 可能包含已移除的条目, 淘汰时跳过, 需要持有锁
+     */
+    private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+
+    /**
+     * 写入、淘汰与块分配共用的锁, 读取不需要
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ByteBuffer[] slabs;
+
+    /**
+     * 空闲块栈, 需要持有锁
+     */
+    private final int[] freeBlocks;
+
+    private int freeTop;
+
+    private int allocatedBlocks;
+
+    private volatile int usedBlocks;
+
+    /**
+     * 预算或直接内存不足后不再分配新 slab, 需要持有锁
+     */
+    private boolean exhausted;
+
+    private final Object[] loadLocks = new Object[LOAD_LOCK_STRIPES];
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder putCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public OffHeapCache(String name, CacheValueSerializer serializer, long maximumBytes, Duration expireAfterWrite,
+            boolean allowNullValues) {
+        this(name, serializer, maximumBytes, new OffHeapMemoryBudget(maximumBytes), expireAfterWrite, allowNullValues);
+    }
+
+    public OffHeapCache(String name, CacheValueSerializer serializer, long maximumBytes, OffHeapMemoryBudget budget,
+            Duration expireAfterWrite, boolean allowNullValues) {
+        super(allowNullValues);
+        Assert.notNull(name, "Name must not be null");
+        Assert.notNull(serializer, "CacheValueSerializer must not be null");
+        Assert.isTrue(maximumBytes > 0, "maximumBytes must be greater than 0");
+        Assert.notNull(budget, "OffHeapMemoryBudget must not be null");
+        this.name = name;
+        this.serializer = serializer;
+        this.maximumBytes = maximumBytes;
+        this.budget = budget;
+        this.expireAfterWriteNanos = expireAfterWrite == null || expireAfterWrite.isNegative() ? 0
+                : expireAfterWrite.toNanos();
+        this.blockSize = (int) Math.min(BLOCK_SIZE, maximumBytes);
+        long blocks = maximumBytes / this.blockSize;
+        Assert.isTrue(blocks <= Integer.MAX_VALUE, "maximumBytes is too large");
+        this.totalBlocks = (int) blocks;
+        this.blocksPerSlab = Math.min(this.totalBlocks, SLAB_SIZE / this.blockSize);
+        this.slabs = new ByteBuffer[(this.totalBlocks + this.blocksPerSlab - 1) / this.blocksPerSlab];
+        this.freeBlocks = new int[this.totalBlocks];
+        for (int i = 0; i < LOAD_LOCK_STRIPES; i++) {
+            this.loadLocks[i] = new Object();
+        }
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(@NonNull Object key) {
+        Object storeValue = read(key);
+        if (storeValue == null) {
+            this.missCount.increment();
+            return null;
+        }
+        this.hitCount.increment();
+        return storeValue;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        synchronized (obtainLoadLock(key)) {
+            // 二次检查不再计入未命中, 避免一次加载统计两次
+            Object storeValue = read(key);
+            if (storeValue != null) {
+                return (T) fromStoreValue(storeValue);
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            }
+            catch (Throwable ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            put(key, value);
+            return value;
+        }
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        byte[] bytes = serialize(toStoreValue(value));
+        if (isOversized(bytes)) {
+            evict(key);
+            return;
+        }
+        this.lock.lock();
+        try {
+            store(key, bytes);
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        byte[] bytes = serialize(toStoreValue(value));
+        // 与 put 使用同一把锁, 检查与写入之间不会被其他写入插入
+        this.lock.lock();
+        try {
+            Entry existing = this.index.get(key);
+            if (existing != null && !existing.isExpired(System.nanoTime())) {
+                return toValueWrapper(readValue(existing));
+            }
+            if (isOversized(bytes)) {
+                removeEntry(key);
+            }
+            else {
+                store(key, bytes);
+            }
+            return null;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        this.lock.lock();
+        try {
+            return removeEntry(key);
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        this.lock.lock();
+        try {
+            boolean notEmpty = !this.index.isEmpty();
+            for (Entry entry : this.index.values()) {
+                retire(entry);
+            }
+            this.index.clear();
+            this.clock.clear();
+            return notEmpty;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 当前缓存条数, 包含尚未清理的过期数据
+     * @return 条数
+     */
+    public long size() {
+        return this.index.size();
+    }
+
+    /**
+     * 已占用的堆外字节数, 按块向上取整, 包含已移除但仍在被读取的条目
+     * @return 字节数
+     */
+    public long getUsedBytes() {
+        return (long) this.usedBlocks * this.blockSize;
+    }
+
+    public long getMaximumBytes() {
+        return this.maximumBytes;
+    }
+
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    public long getPutCount() {
+        return this.putCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * 无锁读取, 不计入统计
+     * @param key 键
+     * @return 缓存值, 不存在或已过期时返回 {@code null}
+     */
+    @Nullable
+    private Object read(Object key) {
+        Entry entry = this.index.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            removeEntry(key, entry);
+            return null;
+        }
+        return readValue(entry);
+    }
+
+    /**
+     * 读取条目的值, 读取期间持有引用, 条目已被释放时返回 {@code null}
+     */
+    @Nullable
+    private Object readValue(Entry entry) {
+        entry.referenced = true;
+        if (entry.blocks == null) {
+            return NullValue.INSTANCE;
+        }
+        if (!entry.retain()) {
+            return null;
+        }
+        byte[] bytes = new byte[entry.length];
+        try {
+            for (int i = 0; i < entry.blocks.length; i++) {
+                int offset = i * this.blockSize;
+                int block = entry.blocks[i];
+                slabOf(block).get(positionOf(block), bytes, offset, Math.min(this.blockSize, bytes.length - offset));
+            }
+        }
+        finally {
+            release(entry);
+        }
+        return this.serializer.deserialize(bytes);
+    }
+
+    /**
+     * 序列化缓存值
+     * @param storeValue 缓存值
+     * @return 字节数组, null 值返回 {@code null}
+     */
+    @Nullable
+    private byte[] serialize(Object storeValue) {
+        return storeValue == NullValue.INSTANCE ? null : this.serializer.serialize(storeValue);
+    }
+
+    private boolean isOversized(@Nullable byte[] bytes) {
+        if (bytes != null && blocksFor(bytes.length) > this.totalBlocks) {
+            LOGGER.warn("堆外缓存[{}]的值超过最大字节数[{}], 不缓存, 大小: {}", this.name, this.maximumBytes, bytes.length);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 分配块并写入, 需要持有锁
+     * @param key 键
+     * @param bytes 序列化后的值, null 值为 {@code null}
+     */
+    private void store(Object key, @Nullable byte[] bytes) {
+        int[] blocks = null;
+        if (bytes != null) {
+            blocks = allocate(blocksFor(bytes.length));
+            if (blocks == null) {
+                LOGGER.warn("堆外缓存[{}]空间不足, 不缓存, 大小: {}", this.name, bytes.length);
+                removeEntry(key);
+                return;
+            }
+            for (int i = 0; i < blocks.length; i++) {
+                int offset = i * this.blockSize;
+                slabOf(blocks[i]).put(positionOf(blocks[i]), bytes, offset,
+                        Math.min(this.blockSize, bytes.length - offset));
+            }
+        }
+        long expireAt = this.expireAfterWriteNanos > 0 ? System.nanoTime() + this.expireAfterWriteNanos : 0;
+        Entry entry = new Entry(key, blocks, bytes != null ? bytes.length : 0, expireAt);
+        Entry previous = this.index.put(key, entry);
+        if (previous != null) {
+            retire(previous);
+        }
+        this.clock.addLast(entry);
+        if (this.clock.size() > (this.index.size() << 1) + 64) {
+            this.clock.removeIf(e -> e.removed);
+        }
+        this.putCount.increment();
+    }
+
+    /**
+     * 分配指定数量的块, 空闲块不足时先分配新 slab, 达到上限或无法分配 slab 后按 CLOCK 淘汰, 需要持有锁
+     * @param count 块数
+     * @return 块编号, 无法腾出足够空间时返回 {@code null}
+     */
+    @Nullable
+    private int[] allocate(int count) {
+        while (this.freeTop < count) {
+            if (this.allocatedBlocks < this.totalBlocks && allocateSlab()) {
+                continue;
+            }
+            Entry victim = nextVictim();
+            if (victim == null) {
+                return null;
+            }
+            this.index.remove(victim.key, victim);
+            retire(victim);
+            this.evictionCount.increment();
+        }
+        int[] blocks = new int[count];
+        for (int i = 0; i < count; i++) {
+            blocks[i] = this.freeBlocks[--this.freeTop];
+        }
+        this.usedBlocks += count;
+        return blocks;
+    }
+
+    /**
+     * 从预算中预留并分配新 slab, 需要持有锁
+     * @return 预算或直接内存不足时返回 {@code false}, 之后不再尝试
+     */
+    private boolean allocateSlab() {
+        if (this.exhausted) {
+            return false;
+        }
+        int count = Math.min(this.blocksPerSlab, this.totalBlocks - this.allocatedBlocks);
+        long bytes = (long) count * this.blockSize;
+        if (!this.budget.tryReserve(bytes)) {
+            this.exhausted = true;
+            LOGGER.warn("堆外缓存[{}]超出堆外内存总预算[{}], 不再扩容, 已分配: {}", this.name, this.budget.getMaximumBytes(),
+                    (long) this.allocatedBlocks * this.blockSize);
+            return false;
+        }
+        ByteBuffer slab;
+        try {
+            slab = ByteBuffer.allocateDirect((int) bytes);
+        }
+        catch (OutOfMemoryError ex) {
+            this.budget.release(bytes);
+            this.exhausted = true;
+            LOGGER.warn("堆外缓存[{}]分配直接内存失败, 不再扩容, 已分配: {}, 原因: {}", this.name,
+                    (long) this.allocatedBlocks * this.blockSize, ex.getMessage());
+            return false;
+        }
+        this.slabs[this.allocatedBlocks / this.blocksPerSlab] = slab;
+        for (int i = count - 1; i >= 0; i--) {
+            this.freeBlocks[this.freeTop++] = this.allocatedBlocks + i;
+        }
+        this.allocatedBlocks += count;
+        return true;
+    }
+
+    /**
+     * CLOCK 选择淘汰对象: 过期或未被访问过的条目优先, 被访问过的清除标记后移到队尾, 需要持有锁
+     * @return 淘汰对象, 队列为空时返回 {@code null}
+     */
+    @Nullable
+    private Entry nextVictim() {
+        long now = System.nanoTime();
+        for (int i = this.clock.size() << 1; i > 0; i--) {
+            Entry entry = this.clock.pollFirst();
+            if (entry == null) {
+                return null;
+            }
+            if (entry.removed) {
+                continue;
+            }
+            if (entry.referenced && !entry.isExpired(now)) {
+                entry.referenced = false;
+                this.clock.addLast(entry);
+                continue;
+            }
+            return entry;
+        }
+        return null;
+    }
+
+    /**
+     * 移除 key 对应的条目, 需要持有锁
+     */
+    private boolean removeEntry(Object key) {
+        Entry entry = this.index.remove(key);
+        if (entry != null) {
+            retire(entry);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 仅当 key 仍对应该条目时移除, 用于读取时清理过期数据
+     */
+    private void removeEntry(Object key, Entry entry) {
+        this.lock.lock();
+        try {
+            if (this.index.remove(key, entry)) {
+                retire(entry);
+            }
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 条目已从索引移除, 释放索引持有的引用, 需要持有锁
+     */
+    private void retire(Entry entry) {
+        entry.removed = true;
+        release(entry);
+    }
+
+    /**
+     * 释放一个引用, 最后一个引用释放时归还占用的块
+     */
+    private void release(Entry entry) {
+        if (entry.refCount.decrementAndGet() != 0 || entry.blocks == null) {
+            return;
+        }
+        this.lock.lock();
+        try {
+            for (int block : entry.blocks) {
+                this.freeBlocks[this.freeTop++] = block;
+            }
+            this.usedBlocks -= entry.blocks.length;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    private int blocksFor(int length) {
+        return (int) (((long) length + this.blockSize - 1) / this.blockSize);
+    }
+
+    private ByteBuffer slabOf(int block) {
+        return this.slabs[block / this.blocksPerSlab];
+    }
+
+    private int positionOf(int block) {
+        return (block % this.blocksPerSlab) * this.blockSize;
+    }
+
+    private Object obtainLoadLock(Object key) {
+        return this.loadLocks[(key.hashCode() & Integer.MAX_VALUE) % LOAD_LOCK_STRIPES];
+    }
+
+    /**
+     * 堆外数据索引, blocks 为空表示 null 值. 索引本身持有一个引用, 读取时临时增加引用, 引用归零后才归还块
+     */
+    private static final class Entry {
+
+        private final Object key;
+
+        @Nullable
+        private final int[] blocks;
+
+        private final int length;
+
+        private final long expireAt;
+
+        private final AtomicInteger refCount = new AtomicInteger(1);
+
+        private volatile boolean referenced;
+
+        /**
+         * 已从索引移除, 需要持有锁
+         */
+        private boolean removed;
+
+        private Entry(Object key, @Nullable int[] blocks, int length, long expireAt) {
+            this.key = key;
+            this.blocks = blocks;
+            this.length = length;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            return this.expireAt != 0 && now - this.expireAt >= 0;
+        }
+
+        private boolean retain() {
+            for (;;) {
+                int count = this.refCount.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (this.refCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+    }
+
+}
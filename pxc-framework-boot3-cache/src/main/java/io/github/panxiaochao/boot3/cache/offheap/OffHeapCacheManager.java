@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.offheap;
+
+import io.github.panxiaochao.boot3.cache.core.CacheCreationListener;
+import io.github.panxiaochao.boot3.cache.core.ObservableCacheManager;
+import io.github.panxiaochao.boot3.cache.serializer.CacheValueSerializer;
+import io.github.panxiaochao.boot3.cache.serializer.JdkCacheValueSerializer;
+import io.github.panxiaochao.boot3.core.utils.CharPools;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>
+ * 堆外缓存管理器, 缓存类型为 {@link OffHeapCache}.
+ * </p>
+ * <pre>
+ * cacheName格式为: cacheNames#ttl
+ * ttl 过期时间 如果设置为0则不过期 默认为 {@link #setExpireAfterWrite}
+ * 例子: dict、dict#1h
+ * 每个缓存组独立按 {@link #setMaximumMemory} 限制堆外字节数, 所有缓存组合计不超过 {@link #setTotalMaximumMemory},
+ * 总预算应小于 -XX:MaxDirectMemorySize
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class OffHeapCacheManager implements ObservableCacheManager {
+
+    private CacheValueSerializer serializer = JdkCacheValueSerializer.INSTANCE;
+
+    private DataSize maximumMemory = DataSize.ofMegabytes(64);
+
+    private OffHeapMemoryBudget budget = new OffHeapMemoryBudget(DataSize.ofMegabytes(256).toBytes());
+
+    private Duration expireAfterWrite = Duration.ZERO;
+
+    private boolean allowNullValues = true;
+
+    private boolean dynamic = true;
+
+    private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
+
+    /**
+     * cacheName#ttl 原始名称与缓存的映射, 命中后无需重复解析名称
+     */
+    private final Map<String, Cache> aliasCacheMap = new ConcurrentHashMap<>(16);
+
+    private final List<CacheCreationListener> cacheCreationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 设置缓存值序列化, 默认 JDK 序列化, 需要在创建缓存前设置
+     * @param serializer 序列化
+     */
+    public void setSerializer(CacheValueSerializer serializer) {
+        Assert.notNull(serializer, "CacheValueSerializer must not be null");
+        this.serializer = serializer;
+    }
+
+    /**
+     * 设置每个缓存组的最大堆外字节数, 默认64MB, 需要在创建缓存前设置
+     * @param maximumMemory 最大堆外字节数
+     */
+    public void setMaximumMemory(DataSize maximumMemory) {
+        Assert.notNull(maximumMemory, "maximumMemory must not be null");
+        this.maximumMemory = maximumMemory;
+    }
+
+    /**
+     * 设置所有缓存组合计的最大堆外字节数, 默认256MB, 需要在创建缓存前设置
+     * @param totalMaximumMemory 合计最大堆外字节数
+     */
+    public void setTotalMaximumMemory(DataSize totalMaximumMemory) {
+        Assert.notNull(totalMaximumMemory, "totalMaximumMemory must not be null");
+        this.budget = new OffHeapMemoryBudget(totalMaximumMemory.toBytes());
+    }
+
+    /**
+     * 设置默认写入后过期时间, 默认不过期, 需要在创建缓存前设置
+     * @param expireAfterWrite 写入后过期时间
+     */
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        Assert.notNull(expireAfterWrite, "expireAfterWrite must not be null");
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * 是否允许缓存 null 值, 默认 true, 需要在创建缓存前设置
+     * @param allowNullValues 是否允许
+     */
+    public void setAllowNullValues(boolean allowNullValues) {
+        this.allowNullValues = allowNullValues;
+    }
+
+    /**
+     * 固定缓存组名称, 之后不再按需创建缓存, 为空时恢复按需创建
+     * @param cacheNames 缓存组名称
+     */
+    public void setCacheNames(@Nullable Collection<String> cacheNames) {
+        if (cacheNames != null) {
+            for (String name : cacheNames) {
+                this.cacheMap.computeIfAbsent(name, key -> notifyCacheCreated(createOffHeapCache(key, null)));
+            }
+            this.dynamic = false;
+        }
+        else {
+            this.dynamic = true;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        Cache cache = this.cacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        cache = this.aliasCacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        int index = name.indexOf(CharPools.HASH);
+        String cacheName = index < 0 ? name : name.substring(0, index);
+        cache = this.cacheMap.get(cacheName);
+        if (cache == null && this.dynamic) {
+            Duration ttl = null;
+            if (index >= 0) {
+                int end = name.indexOf(CharPools.HASH, index + 1);
+                ttl = DurationStyle.detectAndParse(name.substring(index + 1, end < 0 ? name.length() : end));
+            }
+            Duration expire = ttl;
+            cache = this.cacheMap.computeIfAbsent(cacheName,
+                    key -> notifyCacheCreated(createOffHeapCache(key, expire)));
+        }
+        if (cache != null && index >= 0) {
+            this.aliasCacheMap.put(name, cache);
+        }
+        return cache;
+    }
+
+    @NonNull
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(this.cacheMap.keySet());
+    }
+
+    @Override
+    public void addCacheCreationListener(CacheCreationListener listener) {
+        Assert.notNull(listener, "CacheCreationListener must not be null");
+        this.cacheCreationListeners.add(listener);
+        this.cacheMap.values().forEach(cache -> listener.onCacheCreated(this, cache));
+    }
+
+    /**
+     * 创建堆外缓存
+     * @param name 缓存组名称
+     * @param ttl cacheName#ttl 中的过期时间, 为空时使用默认过期时间
+     * @return OffHeapCache
+     */
+    protected Cache createOffHeapCache(String name, @Nullable Duration ttl) {
+        return new OffHeapCache(name, this.serializer, this.maximumMemory.toBytes(), this.budget,
+                ttl != null ? ttl : this.expireAfterWrite, this.allowNullValues);
+    }
+
+    private Cache notifyCacheCreated(Cache cache) {
+        for (CacheCreationListener listener : this.cacheCreationListeners) {
+            listener.onCacheCreated(this, cache);
+        }
+        return cache;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.offheap;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 堆外内存总预算, 同一个 {@link OffHeapCacheManager} 下的所有缓存共享, 分配 slab 前先预留.
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class OffHeapMemoryBudget {
+
+    private final long maximumBytes;
+
+    private final AtomicLong reservedBytes = new AtomicLong();
+
+    public OffHeapMemoryBudget(long maximumBytes) {
+        Assert.isTrue(maximumBytes > 0, "maximumBytes must be greater than 0");
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * 预留字节数
+     * @param bytes 字节数
+     * @return 超出总预算时返回 {@code false}, 不预留
+     */
+    public boolean tryReserve(long bytes) {
+        long reserved;
+        do {
+            reserved = this.reservedBytes.get();
+            if (reserved + bytes > this.maximumBytes) {
+                return false;
+            }
+        }
+        while (!this.reservedBytes.compareAndSet(reserved, reserved + bytes));
+        return true;
+    }
+
+    /**
+     * 归还已预留的字节数
+     * @param bytes 字节数
+     */
+    public void release(long bytes) {
+        this.reservedBytes.addAndGet(-bytes);
+    }
+
+    public long getReservedBytes() {
+        return this.reservedBytes.get();
+    }
+
+    public long getMaximumBytes() {
+        return this.maximumBytes;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.serializer;
+
+/**
+ * <p>
+ * 缓存值序列化, 用于堆外缓存等需要以字节形式保存缓存值的场景
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface CacheValueSerializer {
+
+    /**
+     * 序列化
+     * @param value 缓存值, 不为空
+     * @return 字节数组
+     */
+    byte[] serialize(Object value);
+
+    /**
+     * 反序列化
+     * @param bytes 字节数组
+     * @return 缓存值
+     */
+    Object deserialize(byte[] bytes);
+
+}
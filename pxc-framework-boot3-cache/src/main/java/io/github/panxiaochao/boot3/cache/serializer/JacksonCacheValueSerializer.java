@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Jackson 序列化
+ * </p>
+ * <pre>
+ * ObjectMapper 需要开启 activateDefaultTyping, 反序列化时才能还原具体类型,
+ * 例如 pxc-framework-boot3-redis 中 Redisson 使用的 ObjectMapper
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class JacksonCacheValueSerializer implements CacheValueSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public JacksonCacheValueSerializer(ObjectMapper objectMapper) {
+        Assert.notNull(objectMapper, "ObjectMapper must not be null");
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        try {
+            return this.objectMapper.writeValueAsBytes(value);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Could not serialize cache value: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        try {
+            return this.objectMapper.readValue(bytes, Object.class);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Could not deserialize cache value", e);
+        }
+    }
+
+}
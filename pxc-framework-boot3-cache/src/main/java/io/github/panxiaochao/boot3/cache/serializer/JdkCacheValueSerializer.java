@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.serializer;
+
+import io.github.panxiaochao.boot3.core.utils.SerializationUtil;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * JDK 序列化, 缓存值需要实现 {@link Serializable}
+ * </p>
+ * <pre>
+ * {@link #INSTANCE} 不限制反序列化的类, 只用于进程内产生的数据;
+ * 从文件等外部来源读取时使用 {@link #withAllowedClasses}, 只允许 JDK 常用值类型、Spring 缓存 key 与配置的类
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class JdkCacheValueSerializer implements CacheValueSerializer {
+
+    public static final JdkCacheValueSerializer INSTANCE = new JdkCacheValueSerializer();
+
+    /**
+     * 白名单模式下默认允许的类, 格式同 {@link ObjectInputFilter.Config#createFilter}
+     */
+    private static final List<String> DEFAULT_ALLOWED_CLASSES = List.of("java.lang.*", "java.util.*", "java.time.*",
+            "java.math.*", "org.springframework.cache.interceptor.SimpleKey",
+            "org.springframework.cache.support.NullValue");
+
+    @Nullable
+    private final ObjectInputFilter filter;
+
+    public JdkCacheValueSerializer() {
+        this(null);
+    }
+
+    private JdkCacheValueSerializer(@Nullable ObjectInputFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * 只允许默认类型与指定类型反序列化, 其他类型拒绝
+     * @param allowedClasses 允许的类, 格式同 {@link ObjectInputFilter.Config#createFilter}, 例如
+     * com.example.dto.**
+     * @return JdkCacheValueSerializer
+     */
+    public static JdkCacheValueSerializer withAllowedClasses(Collection<String> allowedClasses) {
+        Assert.notNull(allowedClasses, "allowedClasses must not be null");
+        List<String> patterns = new ArrayList<>(DEFAULT_ALLOWED_CLASSES);
+        patterns.addAll(allowedClasses);
+        patterns.add("!*");
+        return new JdkCacheValueSerializer(ObjectInputFilter.Config.createFilter(String.join(";", patterns)));
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (!(value instanceof Serializable serializable)) {
+            throw new IllegalArgumentException(
+                    "Cache value must implement Serializable: " + value.getClass().getName());
+        }
+        return SerializationUtil.serialize(serializable);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (this.filter == null) {
+            return SerializationUtil.deserialize(bytes);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(this.filter);
+            return in.readObject();
+        }
+        catch (ClassNotFoundException | IOException ex) {
+            throw new IllegalStateException("Could not deserialize cache value", ex);
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.serializer;
+
+import io.github.panxiaochao.boot3.cache.constants.CompressionAlgorithm;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * <p>
+ * 按大小阈值压缩序列化后的值, 前3字节为 header: 2字节 magic(0xFF 0x5A) + 1字节算法标识.
+ * </p>
+ * <pre>
+ * 1. 算法标识 0: 未压缩, 小于阈值或压缩后没有变小的值
+ * 2. 算法标识 1/2/3: 分别为 Deflate、GZIP、LZ4 压缩, LZ4 在 header 后以4字节记录原始长度
+ * 3. 没有 magic 的数据视为开启压缩前写入的原始数据直接返回. 0xFF 不是合法的 UTF-8 字节, 也是 CBOR 的 break 标记,
+ *    不会出现在 JSON、CBOR、Smile、JDK 序列化数据的首字节
+ * 4. 读取时按 header 解压, 与当前配置的算法无关, 切换算法后旧数据仍可读取
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class ValueCompressor {
+
+    /**
+     * 未压缩
+     */
+    public static final byte RAW = 0;
+
+    private static final byte MAGIC_0 = (byte) 0xFF;
+
+    private static final byte MAGIC_1 = (byte) 0x5A;
+
+    /**
+     * magic 与算法标识的长度
+     */
+    private static final int HEADER_LENGTH = 3;
+
+    private static final boolean LZ4_PRESENT = ClassUtils.isPresent("net.jpountz.lz4.LZ4Factory",
+            ValueCompressor.class.getClassLoader());
+
+    private final CompressionAlgorithm algorithm;
+
+    private final int threshold;
+
+    /**
+     * @param algorithm 压缩算法, 为空时存在 lz4-java 使用 LZ4, 否则使用 Deflate
+     * @param threshold 压缩阈值字节数, 小于该值不压缩
+     */
+    public ValueCompressor(@Nullable CompressionAlgorithm algorithm, int threshold) {
+        Assert.isTrue(threshold >= 0, "threshold must not be negative");
+        if (algorithm == null) {
+            algorithm = LZ4_PRESENT ? CompressionAlgorithm.LZ4 : CompressionAlgorithm.DEFLATE;
+        }
+        Assert.state(algorithm != CompressionAlgorithm.LZ4 || LZ4_PRESENT, "LZ4 requires lz4-java on the classpath");
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+    }
+
+    public CompressionAlgorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * 压缩
+     * @param bytes 原始数据
+     * @return 带 header 的数据
+     */
+    public byte[] compress(byte[] bytes) {
+        if (bytes.length >= this.threshold) {
+            byte[] compressed = switch (this.algorithm) {
+                case DEFLATE -> deflate(bytes);
+                case GZIP -> gzip(bytes);
+                case LZ4 -> Lz4.compress(bytes);
+            };
+            if (compressed.length < bytes.length) {
+                return compressed;
+            }
+        }
+        byte[] raw = new byte[bytes.length + HEADER_LENGTH];
+        writeHeader(raw, RAW);
+        System.arraycopy(bytes, 0, raw, HEADER_LENGTH, bytes.length);
+        return raw;
+    }
+
+    /**
+     * 解压
+     * @param bytes 带 header 的数据, 或开启压缩前写入的原始数据
+     * @return 原始数据
+     */
+    public byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+            return bytes;
+        }
+        byte header = bytes[2];
+        if (header == RAW) {
+            return Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        }
+        if (header == CompressionAlgorithm.DEFLATE.getHeader()) {
+            return readAll(new InflaterInputStream(
+                    new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH)));
+        }
+        if (header == CompressionAlgorithm.GZIP.getHeader()) {
+            try {
+                return readAll(new GZIPInputStream(
+                        new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH)));
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (header == CompressionAlgorithm.LZ4.getHeader()) {
+            Assert.state(LZ4_PRESENT, "LZ4 compressed value requires lz4-java on the classpath");
+            return Lz4.decompress(bytes);
+        }
+        return bytes;
+    }
+
+    private static void writeHeader(byte[] bytes, byte algorithm) {
+        bytes[0] = MAGIC_0;
+        bytes[1] = MAGIC_1;
+        bytes[2] = algorithm;
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, byte algorithm) {
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(algorithm);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 16);
+        writeHeader(out, CompressionAlgorithm.DEFLATE.getHeader());
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(bytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        writeHeader(out, CompressionAlgorithm.GZIP.getHeader());
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) {
+        try (in) {
+            return in.readAllBytes();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 单独的内部类, 没有 lz4-java 时不会加载
+     */
+    private static final class Lz4 {
+
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+        private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+        /**
+         * header 后加4字节原始长度
+         */
+        private static final int LZ4_HEADER_LENGTH = HEADER_LENGTH + 4;
+
+        static byte[] compress(byte[] bytes) {
+            byte[] compressed = new byte[LZ4_HEADER_LENGTH + COMPRESSOR.maxCompressedLength(bytes.length)];
+            writeHeader(compressed, CompressionAlgorithm.LZ4.getHeader());
+            ByteBuffer.wrap(compressed, HEADER_LENGTH, 4).putInt(bytes.length);
+            int length = COMPRESSOR.compress(bytes, 0, bytes.length, compressed, LZ4_HEADER_LENGTH,
+                    compressed.length - LZ4_HEADER_LENGTH);
+            return Arrays.copyOf(compressed, LZ4_HEADER_LENGTH + length);
+        }
+
+        static byte[] decompress(byte[] bytes) {
+            int length = ByteBuffer.wrap(bytes, HEADER_LENGTH, 4).getInt();
+            byte[] raw = new byte[length];
+            DECOMPRESSOR.decompress(bytes, LZ4_HEADER_LENGTH, raw, 0, length);
+            return raw;
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.snapshot;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.panxiaochao.boot3.cache.core.CacheDecorator;
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import io.github.panxiaochao.boot3.cache.serializer.CacheValueSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Caffeine 缓存快照, 以紧凑的二进制格式保存和加载 {@link PlusCaffeineCacheManager} 中 persistent 的缓存组.
+ * </p>
+ * <pre>
+ * 文件格式:
+ * 1. 文件头: int 魔数 PXCS, byte 版本号, long 保存时间(毫秒)
+ * 2. 缓存组: boolean true, UTF 缓存组名称, 若干条目, byte 0 结束
+ * 3. 条目: byte 1, long 剩余存活毫秒(-1 不过期), int key 长度, key, int value 长度, value
+ * 4. 文件尾: boolean false
+ * 加载时扣除停机时长, 已过期的条目跳过; 可变过期的缓存组按剩余时间恢复, 否则重新计算过期时间.
+ * 加载使用 putIfAbsent, 不会覆盖加载期间已写入的新值; 无法序列化的条目跳过.
+ * 快照文件可能被外部修改, 需要使用限制反序列化类型的 {@link CacheValueSerializer}, 例如 JdkCacheValueSerializer.withAllowedClasses.
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CaffeineCacheSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaffeineCacheSnapshot.class);
+
+    /**
+     * 魔数 PXCS
+     */
+    private static final int MAGIC = 0x50584353;
+
+    private static final byte VERSION = 1;
+
+    private static final byte ENTRY = 1;
+
+    private static final byte END_OF_CACHE = 0;
+
+    /**
+     * 单个 key 或 value 的最大字节数, 超出视为文件损坏
+     */
+    private static final int MAX_LENGTH = 256 * 1024 * 1024;
+
+    private final CacheValueSerializer serializer;
+
+    public CaffeineCacheSnapshot(CacheValueSerializer serializer) {
+        Assert.notNull(serializer, "CacheValueSerializer must not be null");
+        this.serializer = serializer;
+    }
+
+    /**
+     * 保存快照, 先写入临时文件再替换, 避免中途失败留下不完整的文件
+     * @param cacheManager 缓存管理器
+     * @param file 快照文件
+     * @return 保存的条目数
+     * @throws IOException 写入失败
+     */
+    public int save(PlusCaffeineCacheManager cacheManager, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            for (String cacheName : cacheManager.getPersistentCacheNames()) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null && CacheDecorator.unwrap(cache) instanceof CaffeineCache caffeineCache) {
+                    out.writeBoolean(true);
+                    out.writeUTF(cacheName);
+                    count += writeEntries(out, caffeineCache.getNativeCache());
+                    out.writeByte(END_OF_CACHE);
+                }
+            }
+            out.writeBoolean(false);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return count;
+    }
+
+    /**
+     * 加载快照, 不存在的缓存组按缓存管理器的规则创建, 非 persistent 的缓存组跳过
+     * @param cacheManager 缓存管理器
+     * @param file 快照文件
+     * @return 加载的条目数
+     * @throws IOException 读取失败或文件损坏
+     */
+    public int load(PlusCaffeineCacheManager cacheManager, Path file) throws IOException {
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("不是缓存快照文件: " + file);
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("不支持的缓存快照版本: " + version);
+            }
+            long elapsedMillis = Math.max(0L, System.currentTimeMillis() - in.readLong());
+            while (in.readBoolean()) {
+                String cacheName = in.readUTF();
+                Cache cache = cacheManager.getCache(cacheName);
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = null;
+                if (cache != null && CacheDecorator.unwrap(cache) instanceof CaffeineCache caffeineCache
+                        && cacheManager.getPersistentCacheNames().contains(cacheName)) {
+                    nativeCache = caffeineCache.getNativeCache();
+                }
+                else {
+                    LOGGER.warn("缓存快照中的缓存组[{}]不存在或未开启 persistent, 已跳过", cacheName);
+                }
+                count += readEntries(in, cacheName, nativeCache, elapsedMillis);
+            }
+        }
+        return count;
+    }
+
+    private int writeEntries(DataOutputStream out, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache)
+            throws IOException {
+        int count = 0;
+        Policy<Object, Object> policy = cache.policy();
+        for (Map.Entry<Object, Object> entry : cache.asMap().entrySet()) {
+            Policy.CacheEntry<Object, Object> cacheEntry = policy.getEntryIfPresentQuietly(entry.getKey());
+            if (cacheEntry == null) {
+                continue;
+            }
+            long remainingMillis = -1L;
+            if (cacheEntry.expiresAt() != Long.MAX_VALUE) {
+                remainingMillis = TimeUnit.NANOSECONDS.toMillis(cacheEntry.expiresAt() - cacheEntry.snapshotAt());
+                if (remainingMillis <= 0) {
+                    continue;
+                }
+            }
+            byte[] key;
+            byte[] value;
+            try {
+                key = this.serializer.serialize(cacheEntry.getKey());
+                value = this.serializer.serialize(cacheEntry.getValue());
+            }
+            catch (RuntimeException e) {
+                LOGGER.debug("缓存条目无法序列化, 已跳过, key: {}", cacheEntry.getKey(), e);
+                continue;
+            }
+            out.writeByte(ENTRY);
+            out.writeLong(remainingMillis);
+            writeBytes(out, key);
+            writeBytes(out, value);
+            count++;
+        }
+        return count;
+    }
+
+    private int readEntries(DataInputStream in, String cacheName,
+            @Nullable com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, long elapsedMillis)
+            throws IOException {
+        int count = 0;
+        Optional<Policy.VarExpiration<Object, Object>> varExpiration = cache != null ? cache.policy().expireVariably()
+                : Optional.empty();
+        byte marker;
+        while ((marker = in.readByte()) == ENTRY) {
+            long remainingMillis = in.readLong();
+            byte[] key = readBytes(in);
+            byte[] value = readBytes(in);
+            if (cache == null || (remainingMillis >= 0 && remainingMillis <= elapsedMillis)) {
+                continue;
+            }
+            Object cacheKey;
+            Object cacheValue;
+            try {
+                cacheKey = this.serializer.deserialize(key);
+                cacheValue = this.serializer.deserialize(value);
+            }
+            catch (RuntimeException e) {
+                LOGGER.debug("缓存组[{}]的快照条目无法反序列化, 已跳过", cacheName, e);
+                continue;
+            }
+            if (remainingMillis >= 0 && varExpiration.isPresent()) {
+                varExpiration.get()
+                    .putIfAbsent(cacheKey, cacheValue, Duration.ofMillis(remainingMillis - elapsedMillis));
+            }
+            else {
+                cache.asMap().putIfAbsent(cacheKey, cacheValue);
+            }
+            count++;
+        }
+        if (marker != END_OF_CACHE) {
+            throw new IOException("缓存快照文件已损坏, 缓存组: " + cacheName);
+        }
+        return count;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("缓存快照文件已损坏, 非法长度: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.snapshot;
+
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * <p>
+ * Caffeine 缓存快照生命周期, 实现停机保存、启动预热.
+ * </p>
+ * <pre>
+ * 1. 启动: 在后台线程加载快照, 最多等待 loadTimeout, 超时后继续在后台加载, 不阻塞启动
+ * 2. 停止: 将 persistent 的缓存组写入快照文件
+ * 3. 阶段早于 Web 服务器, 启动时先于接收流量加载, 停止时在 Web 服务器优雅停机之后保存
+ * 4. 加载完成后删除快照文件, 进程异常退出时不会重复加载过旧的快照
+ * 5. 只支持 {@link PlusCaffeineCacheManager}, 二级缓存模式停机期间可能错过失效广播, 不做快照
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CaffeineCacheSnapshotLifecycle implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaffeineCacheSnapshotLifecycle.class);
+
+    /**
+     * 默认阶段, 早于 Web 服务器(SmartLifecycle.DEFAULT_PHASE - 2048)启动
+     */
+    public static final int DEFAULT_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final CacheManager cacheManager;
+
+    private final CaffeineCacheSnapshot snapshot;
+
+    private final Path file;
+
+    private final Duration loadTimeout;
+
+    private int phase = DEFAULT_PHASE;
+
+    private volatile boolean running;
+
+    private volatile Thread loader;
+
+    public CaffeineCacheSnapshotLifecycle(CacheManager cacheManager, CaffeineCacheSnapshot snapshot, Path file,
+            Duration loadTimeout) {
+        Assert.notNull(cacheManager, "CacheManager must not be null");
+        Assert.notNull(snapshot, "CaffeineCacheSnapshot must not be null");
+        Assert.notNull(file, "file must not be null");
+        Assert.notNull(loadTimeout, "loadTimeout must not be null");
+        this.cacheManager = cacheManager;
+        this.snapshot = snapshot;
+        this.file = file;
+        this.loadTimeout = loadTimeout;
+    }
+
+    public void setPhase(int phase) {
+        this.phase = phase;
+    }
+
+    @Override
+    public int getPhase() {
+        return this.phase;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+        if (!(this.cacheManager instanceof PlusCaffeineCacheManager caffeineCacheManager)) {
+            LOGGER.warn("缓存快照只支持 CAFFEINE 模式, 当前缓存管理器: {}", this.cacheManager.getClass().getName());
+            return;
+        }
+        if (!Files.isRegularFile(this.file)) {
+            return;
+        }
+        Thread loaderThread = new Thread(() -> load(caffeineCacheManager), "pxc-cache-snapshot-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+        this.loader = loaderThread;
+        if (!awaitLoader()) {
+            LOGGER.warn("缓存快照[{}]加载超过{}ms, 继续在后台加载", this.file, this.loadTimeout.toMillis());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!this.running) {
+            return;
+        }
+        this.running = false;
+        if (!awaitLoader()) {
+            LOGGER.warn("缓存快照[{}]仍在加载, 本次不保存", this.file);
+            return;
+        }
+        if (this.cacheManager instanceof PlusCaffeineCacheManager caffeineCacheManager) {
+            long start = System.currentTimeMillis();
+            try {
+                int count = this.snapshot.save(caffeineCacheManager, this.file);
+                LOGGER.info("缓存快照[{}]保存成功, 条目: {}, 耗时: {}ms", this.file, count, System.currentTimeMillis() - start);
+            }
+            catch (IOException | RuntimeException e) {
+                LOGGER.error("缓存快照[{}]保存失败", this.file, e);
+            }
+        }
+    }
+
+    /**
+     * 等待后台加载完成, 最多等待 loadTimeout
+     * @return true 已加载完成或没有加载任务
+     */
+    private boolean awaitLoader() {
+        Thread loaderThread = this.loader;
+        if (loaderThread == null) {
+            return true;
+        }
+        try {
+            loaderThread.join(this.loadTimeout.toMillis());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !loaderThread.isAlive();
+    }
+
+    private void load(PlusCaffeineCacheManager caffeineCacheManager) {
+        long start = System.currentTimeMillis();
+        try {
+            int count = this.snapshot.load(caffeineCacheManager, this.file);
+            LOGGER.info("缓存快照[{}]加载成功, 条目: {}, 耗时: {}ms", this.file, count, System.currentTimeMillis() - start);
+        }
+        catch (IOException | RuntimeException e) {
+            LOGGER.error("缓存快照[{}]加载失败", this.file, e);
+        }
+        finally {
+            try {
+                Files.deleteIfExists(this.file);
+            }
+            catch (IOException e) {
+                LOGGER.warn("缓存快照[{}]删除失败", this.file, e);
+            }
+        }
+    }
+
+}
@@ -15,11 +15,18 @@
  */
 package io.github.panxiaochao.boot3.cache.utils;
 
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilter;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
+import io.github.panxiaochao.boot3.cache.core.BatchCacheSupport;
 import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * <p>
@@ -64,6 +71,47 @@ public class CacheUtil {
         CACHE_MANAGER.getCache(cacheNames).evict(key);
     }
 
+    /**
+     * 获取缓存组的布隆过滤器, 新增数据时添加 key
+     * @param cacheNames 缓存组名称
+     * @return 布隆过滤器, 未开启或缓存组未配置时返回 {@code null}
+     */
+    public static CacheBloomFilter getBloomFilter(String cacheNames) {
+        CacheBloomFilterRegistry registry = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(CacheBloomFilterRegistry.class)
+            .getIfAvailable();
+        return registry != null ? registry.getBloomFilter(cacheNames) : null;
+    }
+
+    /**
+     * 批量获取缓存值, Caffeine 使用 getAllPresent, Redisson 使用 RMap.getAll 一次往返
+     * @param cacheNames 缓存组名称
+     * @param keys 缓存key
+     * @return 命中的 key 与缓存值, 未命中的 key 不包含在结果中
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Map<K, V> getAll(String cacheNames, Collection<K> keys) {
+        return (Map<K, V>) BatchCacheSupport.getAll(obtainCache(cacheNames), keys);
+    }
+
+    /**
+     * 批量保存缓存值, Caffeine 使用 putAll, Redisson 使用 RMap.putAll 一次往返
+     * @param cacheNames 缓存组名称
+     * @param entries 缓存key与缓存值
+     */
+    public static void putAll(String cacheNames, Map<?, ?> entries) {
+        BatchCacheSupport.putAll(obtainCache(cacheNames), entries);
+    }
+
+    /**
+     * 批量删除缓存值, Caffeine 使用 invalidateAll, Redisson 使用 RMap.fastRemove 一次往返
+     * @param cacheNames 缓存组名称
+     * @param keys 缓存key
+     */
+    public static void evictAll(String cacheNames, Collection<?> keys) {
+        BatchCacheSupport.evictAll(obtainCache(cacheNames), keys);
+    }
+
     /**
      * 清空缓存值
      * @param cacheNames 缓存组名称
@@ -72,4 +120,10 @@ public class CacheUtil {
         CACHE_MANAGER.getCache(cacheNames).clear();
     }
 
+    private static Cache obtainCache(String cacheNames) {
+        Cache cache = CACHE_MANAGER.getCache(cacheNames);
+        Assert.notNull(cache, () -> "Cannot find cache named '" + cacheNames + "'");
+        return cache;
+    }
+
 }
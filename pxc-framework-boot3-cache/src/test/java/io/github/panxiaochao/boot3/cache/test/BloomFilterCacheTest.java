@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterCache;
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterSpec;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilter;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterLoader;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
+import io.github.panxiaochao.boot3.cache.constants.BloomFilterType;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 布隆过滤器缓存测试
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class BloomFilterCacheTest {
+
+    private static final String CACHE_NAME = "user";
+
+    @Test
+    void notReadyWithoutLoader() {
+        CacheBloomFilterRegistry registry = registry(new BloomFilterSpec(), Collections.emptyList());
+        BloomFilterCache cache = decorate(registry, new ConcurrentMapCache(CACHE_NAME));
+        AtomicInteger loads = new AtomicInteger();
+        assertNull(cache.get(1L));
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertEquals(0, cache.getRejectedCount());
+    }
+
+    @Test
+    void readyWithoutLoaderWhenOptedIn() {
+        BloomFilterSpec spec = new BloomFilterSpec();
+        spec.setReadyWithoutLoader(true);
+        CacheBloomFilterRegistry registry = registry(spec, Collections.emptyList());
+        BloomFilterCache cache = decorate(registry, new ConcurrentMapCache(CACHE_NAME));
+        Cache.ValueWrapper wrapper = cache.get(1L);
+        assertNotNull(wrapper);
+        assertNull(wrapper.get());
+        assertEquals(1, cache.getRejectedCount());
+    }
+
+    @Test
+    void rejectKeysMissingFromLoader() {
+        CacheBloomFilterRegistry registry = registry(new BloomFilterSpec(),
+                List.of(CacheBloomFilterLoader.of(CACHE_NAME, () -> List.of(1L, 2L))));
+        BloomFilterCache cache = decorate(registry, new ConcurrentMapCache(CACHE_NAME));
+        AtomicInteger loads = new AtomicInteger();
+        assertNull(cache.get(3L, () -> "v" + loads.incrementAndGet()));
+        assertEquals(0, loads.get());
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        // String.valueOf 相同的 key 视为同一个 key
+        assertTrue(registry.mightContain(CACHE_NAME, "2"));
+
+        Map<Object, Object> values = cache.getAll(List.of(1L, 3L));
+        assertEquals("v1", values.get(1L));
+        assertTrue(values.containsKey(3L));
+        assertNull(values.get(3L));
+    }
+
+    @Test
+    void putAddsKey() {
+        CacheBloomFilterRegistry registry = registry(new BloomFilterSpec(),
+                List.of(CacheBloomFilterLoader.of(CACHE_NAME, () -> List.of(1L))));
+        BloomFilterCache cache = decorate(registry, new ConcurrentMapCache(CACHE_NAME));
+        cache.put(5L, null);
+        assertFalse(registry.mightContain(CACHE_NAME, 5L));
+        cache.put(5L, "v5");
+        assertEquals("v5", cache.get(5L).get());
+        cache.putAll(Map.of(6L, "v6"));
+        assertEquals("v6", cache.get(6L).get());
+    }
+
+    @Test
+    void localFilterFallsBackToCache() {
+        CacheBloomFilterRegistry registry = registry(new BloomFilterSpec(),
+                List.of(CacheBloomFilterLoader.of(CACHE_NAME, () -> List.of(1L))));
+        Cache target = new ConcurrentMapCache(CACHE_NAME);
+        BloomFilterCache cache = decorate(registry, target);
+        // 其他节点写入共享缓存, 本节点过滤器中没有该 key
+        target.put(7L, "v7");
+        assertFalse(registry.mightContain(CACHE_NAME, 7L));
+        assertEquals("v7", cache.get(7L).get());
+        assertTrue(registry.mightContain(CACHE_NAME, 7L));
+        assertEquals(0, cache.getRejectedCount());
+    }
+
+    @Test
+    void sharedFilterReadyWhenNotEmpty() {
+        BloomFilterSpec spec = new BloomFilterSpec();
+        spec.setType(BloomFilterType.REDIS);
+        SetBloomFilter shared = new SetBloomFilter();
+        shared.put(1L);
+        CacheBloomFilterRegistry registry = new CacheBloomFilterRegistry(Map.of(CACHE_NAME, spec));
+        registry.setBloomFilterFactory((name, filterSpec) -> shared);
+        registry.afterSingletonsInstantiated();
+        assertFalse(registry.isLocal(CACHE_NAME));
+
+        Cache target = new ConcurrentMapCache(CACHE_NAME);
+        BloomFilterCache cache = decorate(registry, target);
+        target.put(7L, "v7");
+        // 共享过滤器判定不存在时不再查询缓存
+        assertNull(cache.get(7L).get());
+        assertEquals(1, cache.getRejectedCount());
+    }
+
+    @Test
+    void notReadyWhenLoaderFails() {
+        CacheBloomFilterRegistry registry = registry(new BloomFilterSpec(),
+                List.of(CacheBloomFilterLoader.of(CACHE_NAME, () -> {
+                    throw new IllegalStateException("db down");
+                })));
+        BloomFilterCache cache = decorate(registry, new ConcurrentMapCache(CACHE_NAME));
+        assertEquals("v", cache.get(9L, () -> "v"));
+        assertEquals(0, cache.getRejectedCount());
+    }
+
+    private static CacheBloomFilterRegistry registry(BloomFilterSpec spec, List<CacheBloomFilterLoader> loaders) {
+        CacheBloomFilterRegistry registry = new CacheBloomFilterRegistry(Map.of(CACHE_NAME, spec));
+        registry.setLoaders(loaders);
+        registry.afterSingletonsInstantiated();
+        return registry;
+    }
+
+    private static BloomFilterCache decorate(CacheBloomFilterRegistry registry, Cache cache) {
+        return assertInstanceOf(BloomFilterCache.class, registry.decorate(cache));
+    }
+
+    /**
+     * 模拟 REDIS 类型的共享过滤器
+     */
+    private static final class SetBloomFilter implements CacheBloomFilter {
+
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean mightContain(Object key) {
+            return this.keys.contains(String.valueOf(key));
+        }
+
+        @Override
+        public void put(Object key) {
+            this.keys.add(String.valueOf(key));
+        }
+
+        @Override
+        public long count() {
+            return this.keys.size();
+        }
+
+    }
+
+}
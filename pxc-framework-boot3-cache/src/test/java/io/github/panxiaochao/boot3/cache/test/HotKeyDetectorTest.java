@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 热点 key 探测测试
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class HotKeyDetectorTest {
+
+    private static final String NS = "user";
+
+    @Test
+    void promoteAtThreshold() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 3, 10, Duration.ofMinutes(1), 100);
+        assertFalse(detector.record(NS, "a"));
+        assertFalse(detector.record(NS, "a"));
+        assertFalse(detector.isHot(NS, "a"));
+        assertTrue(detector.record(NS, "a"));
+        assertTrue(detector.isHot(NS, "a"));
+        assertFalse(detector.isHot("other", "a"));
+        List<HotKeyDetector.HotKey> hotKeys = detector.getHotKeys();
+        assertEquals(1, hotKeys.size());
+        assertEquals("a", hotKeys.get(0).getKey());
+        assertEquals(3, hotKeys.get(0).getCount());
+    }
+
+    @Test
+    void replaceColdestWhenTopKIsFull() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 2, 1, Duration.ofMinutes(1), 100);
+        record(detector, "a", 5);
+        assertTrue(detector.isHot(NS, "a"));
+        // 次数不超过当前最冷的热点时不替换
+        record(detector, "b", 5);
+        assertFalse(detector.isHot(NS, "b"));
+        assertTrue(detector.record(NS, "b"));
+        assertTrue(detector.isHot(NS, "b"));
+        assertFalse(detector.isHot(NS, "a"));
+    }
+
+    @Test
+    void rollWindow() throws InterruptedException {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMillis(500), 2, 10, Duration.ofMinutes(1), 100);
+        record(detector, "a", 2);
+        detector.putLocal(NS, "a", "va", detector.localStamp(NS, "a"));
+        assertTrue(detector.isHot(NS, "a"));
+
+        // 进入下一个窗口: 计数清零, 上一个窗口的热点仍有效
+        Thread.sleep(600);
+        assertFalse(detector.record(NS, "b"));
+        assertTrue(detector.isHot(NS, "a"));
+        assertNotNull(detector.getLocal(NS, "a"));
+
+        // 连续两个窗口没有达到阈值, 热点及本地副本失效
+        Thread.sleep(1100);
+        assertFalse(detector.record(NS, "b"));
+        assertFalse(detector.isHot(NS, "a"));
+        assertNull(detector.getLocal(NS, "a"));
+        assertTrue(detector.getHotKeys().isEmpty());
+    }
+
+    @Test
+    void localCopyOnlyForHotKeys() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 2, 10, Duration.ofMinutes(1), 100);
+        detector.putLocal(NS, "a", "va", detector.localStamp(NS, "a"));
+        assertNull(detector.getLocal(NS, "a"));
+
+        record(detector, "a", 2);
+        detector.putLocal(NS, "a", null, detector.localStamp(NS, "a"));
+        ValueWrapper wrapper = detector.getLocal(NS, "a");
+        assertNotNull(wrapper);
+        assertNull(wrapper.get());
+
+        detector.putLocal(NS, "a", "va", detector.localStamp(NS, "a"));
+        assertEquals("va", detector.getLocal(NS, "a").get());
+        detector.invalidateLocal(NS, "a");
+        assertNull(detector.getLocal(NS, "a"));
+        assertEquals(0, detector.getLocalSize());
+    }
+
+    @Test
+    void skipPutLocalAfterInvalidation() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 1, 10, Duration.ofMinutes(1), 100);
+        detector.record(NS, "a");
+        // 读取数据源期间发生写入并失效, 读到的旧值不回填
+        long stamp = detector.localStamp(NS, "a");
+        detector.invalidateLocal(NS, "a");
+        detector.putLocal(NS, "a", "old", stamp);
+        assertNull(detector.getLocal(NS, "a"));
+
+        detector.putLocal(NS, "a", "new", detector.localStamp(NS, "a"));
+        assertEquals("new", detector.getLocal(NS, "a").get());
+    }
+
+    @Test
+    void otherKeyWritesDoNotCancelPutLocal() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 1, 10, Duration.ofMinutes(1), 100);
+        detector.record(NS, "a");
+        long stamp = detector.localStamp(NS, "a");
+        // 读取期间其他 key 频繁写入, 落在其他分段时不影响热点 key 回填
+        int cancelled = 0;
+        for (int i = 0; i < 100; i++) {
+            String other = "other-" + i;
+            long before = detector.localStamp(NS, "a");
+            detector.invalidateLocal(NS, other);
+            if (detector.localStamp(NS, "a") != before) {
+                cancelled++;
+            }
+        }
+        if (cancelled == 0) {
+            detector.putLocal(NS, "a", "va", stamp);
+            assertEquals("va", detector.getLocal(NS, "a").get());
+        }
+        assertTrue(cancelled < 5);
+    }
+
+    @Test
+    void invalidateNamespaceCancelsPutLocal() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 1, 10, Duration.ofMinutes(1), 100);
+        detector.record(NS, "a");
+        long stamp = detector.localStamp(NS, "a");
+        detector.invalidateLocal(NS);
+        detector.putLocal(NS, "a", "old", stamp);
+        assertNull(detector.getLocal(NS, "a"));
+    }
+
+    @Test
+    void invalidateNamespace() {
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofMinutes(1), 1, 10, Duration.ofMinutes(1), 100);
+        detector.record(NS, "a");
+        detector.record("order", "a");
+        detector.putLocal(NS, "a", "user-a", detector.localStamp(NS, "a"));
+        detector.putLocal("order", "a", "order-a", detector.localStamp("order", "a"));
+        detector.invalidateLocal(NS);
+        assertNull(detector.getLocal(NS, "a"));
+        assertEquals("order-a", detector.getLocal("order", "a").get());
+    }
+
+    private static void record(HotKeyDetector detector, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(NS, key);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import io.github.panxiaochao.boot3.cache.serializer.JdkCacheValueSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ * JDK 序列化白名单测试
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class JdkCacheValueSerializerTest {
+
+    @Test
+    void defaultAllowedClassesRoundTrip() {
+        JdkCacheValueSerializer serializer = JdkCacheValueSerializer.withAllowedClasses(List.of());
+        Object value = new ArrayList<>(List.of(Map.of("day", LocalDate.of(2026, 10, 17)), 1L, "a"));
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+        SimpleKey key = new SimpleKey("a", 1);
+        assertEquals(key, serializer.deserialize(serializer.serialize(key)));
+    }
+
+    @Test
+    void rejectsClassOutsideWhitelist() {
+        JdkCacheValueSerializer serializer = JdkCacheValueSerializer.withAllowedClasses(List.of());
+        byte[] bytes = serializer.serialize(List.of(new Dict("sex", "1")));
+        assertThrows(IllegalStateException.class, () -> serializer.deserialize(bytes));
+        // 未限制的实例不受影响
+        assertEquals(List.of(new Dict("sex", "1")), JdkCacheValueSerializer.INSTANCE.deserialize(bytes));
+    }
+
+    @Test
+    void acceptsConfiguredClass() {
+        JdkCacheValueSerializer serializer = JdkCacheValueSerializer
+            .withAllowedClasses(List.of(JdkCacheValueSerializerTest.class.getName() + "$*"));
+        Dict dict = new Dict("sex", "1");
+        assertEquals(dict, serializer.deserialize(serializer.serialize(dict)));
+    }
+
+    record Dict(String type, String code) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import io.github.panxiaochao.boot3.cache.offheap.OffHeapCache;
+import io.github.panxiaochao.boot3.cache.offheap.OffHeapMemoryBudget;
+import io.github.panxiaochao.boot3.cache.serializer.JdkCacheValueSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 堆外缓存测试
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class OffHeapCacheTest {
+
+    private static final long CACHE_BYTES = 64 * 1024;
+
+    @Test
+    void slabIsAllocatedOnDemandWithinBudget() {
+        OffHeapMemoryBudget budget = new OffHeapMemoryBudget(4 * 1024 * 1024);
+        OffHeapCache cache = newCache("a", 4 * 1024 * 1024, budget);
+        assertEquals(0, budget.getReservedBytes());
+        cache.put("k", new byte[100]);
+        // 只分配一个 2MB 的 slab, 而不是整个 maximumBytes
+        assertEquals(2 * 1024 * 1024, budget.getReservedBytes());
+        assertArrayEquals(new byte[100], (byte[]) cache.get("k").get());
+    }
+
+    @Test
+    void exhaustedBudgetSkipsCaching() {
+        OffHeapMemoryBudget budget = new OffHeapMemoryBudget(CACHE_BYTES);
+        OffHeapCache first = newCache("first", CACHE_BYTES, budget);
+        OffHeapCache second = newCache("second", CACHE_BYTES, budget);
+        first.put("k", "v");
+        assertEquals(CACHE_BYTES, budget.getReservedBytes());
+
+        // 预算已被占满, 不抛出异常也不缓存
+        second.put("k", "v");
+        assertNull(second.get("k"));
+        assertEquals(0, second.getUsedBytes());
+        assertEquals(CACHE_BYTES, budget.getReservedBytes());
+        assertNotNull(first.get("k"));
+    }
+
+    @Test
+    void evictsWithinAllocatedSpace() {
+        OffHeapMemoryBudget budget = new OffHeapMemoryBudget(CACHE_BYTES);
+        OffHeapCache cache = newCache("a", CACHE_BYTES, budget);
+        for (int i = 0; i < 200; i++) {
+            cache.put(i, new byte[512]);
+        }
+        assertTrue(cache.getEvictionCount() > 0);
+        assertTrue(cache.getUsedBytes() <= CACHE_BYTES);
+        assertEquals(CACHE_BYTES, budget.getReservedBytes());
+        assertNotNull(cache.get(199));
+    }
+
+    private static OffHeapCache newCache(String name, long maximumBytes, OffHeapMemoryBudget budget) {
+        return new OffHeapCache(name, JdkCacheValueSerializer.INSTANCE, maximumBytes, budget, Duration.ZERO, true);
+    }
+
+}
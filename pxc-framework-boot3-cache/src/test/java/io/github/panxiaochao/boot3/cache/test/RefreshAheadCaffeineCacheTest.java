@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.panxiaochao.boot3.cache.core.RefreshAheadCaffeineCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * <p>
+ * 提前刷新测试, 以手动推进的 Ticker 与暂存任务的 Executor 控制刷新时机
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RefreshAheadCaffeineCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private RefreshAheadCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new RefreshAheadCaffeineCache("test",
+                Caffeine.newBuilder()
+                    .ticker(this.nanos::get)
+                    .executor(Runnable::run)
+                    .expireAfterWrite(Duration.ofSeconds(10))
+                    .build(),
+                true, Duration.ofSeconds(1), this.tasks::add);
+    }
+
+    @Test
+    void refreshReplacesOldValue() {
+        this.cache.put("k", "v1");
+        advanceSeconds(2);
+        assertEquals("v1", this.cache.get("k", () -> "loaded"));
+        runTasks();
+        assertEquals("loaded", this.cache.get("k").get());
+    }
+
+    @Test
+    void refreshDoesNotOverwriteNewerPut() {
+        this.cache.put("k", "v1");
+        advanceSeconds(2);
+        assertEquals("v1", this.cache.get("k", () -> "loaded"));
+        this.cache.put("k", "v2");
+        runTasks();
+        assertEquals("v2", this.cache.get("k").get());
+    }
+
+    @Test
+    void refreshDoesNotRestoreEvictedKey() {
+        this.cache.put("k", "v1");
+        advanceSeconds(2);
+        this.cache.get("k", () -> "loaded");
+        this.cache.evict("k");
+        runTasks();
+        assertNull(this.cache.get("k"));
+    }
+
+    @Test
+    void retrieveRefreshDoesNotOverwriteReput() {
+        RefreshAheadCaffeineCache asyncCache = new RefreshAheadCaffeineCache("async",
+                Caffeine.newBuilder()
+                    .ticker(this.nanos::get)
+                    .executor(Runnable::run)
+                    .expireAfterWrite(Duration.ofSeconds(10))
+                    .buildAsync(),
+                true, Duration.ofSeconds(1), this.tasks::add);
+        asyncCache.put("k", "v1");
+        advanceSeconds(2);
+        assertEquals("v1", asyncCache.retrieve("k", () -> CompletableFuture.completedFuture("loaded")).join());
+        asyncCache.evict("k");
+        asyncCache.put("k", "v3");
+        runTasks();
+        assertEquals("v3", asyncCache.get("k").get());
+
+        // 未被修改时正常写回
+        advanceSeconds(2);
+        asyncCache.retrieve("k", () -> CompletableFuture.completedFuture("loaded")).join();
+        runTasks();
+        assertEquals("loaded", asyncCache.get("k").get());
+    }
+
+    private void advanceSeconds(long seconds) {
+        this.nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private void runTasks() {
+        List<Runnable> pending = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.cache.test;
+
+import io.github.panxiaochao.boot3.cache.constants.CompressionAlgorithm;
+import io.github.panxiaochao.boot3.cache.serializer.ValueCompressor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ * 值压缩测试
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class ValueCompressorTest {
+
+    private static final byte[] LARGE = "{\"name\":\"pxc-framework\",\"tags\":[\"cache\",\"redis\"]}".repeat(64)
+        .getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(CompressionAlgorithm.class)
+    void roundTripAboveThreshold(CompressionAlgorithm algorithm) {
+        ValueCompressor compressor = new ValueCompressor(algorithm, 128);
+        byte[] compressed = compressor.compress(LARGE);
+        assertTrue(compressed.length < LARGE.length);
+        assertEquals(algorithm.getHeader(), compressed[2]);
+        assertArrayEquals(LARGE, compressor.decompress(compressed));
+    }
+
+    @Test
+    void roundTripBelowThreshold() {
+        ValueCompressor compressor = new ValueCompressor(CompressionAlgorithm.DEFLATE, 1024);
+        byte[] small = "\"hello\"".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compressor.compress(small);
+        assertEquals(small.length + 3, compressed.length);
+        assertEquals(ValueCompressor.RAW, compressed[2]);
+        assertArrayEquals(small, compressor.decompress(compressed));
+    }
+
+    @Test
+    void roundTripEmpty() {
+        ValueCompressor compressor = new ValueCompressor(CompressionAlgorithm.GZIP, 0);
+        assertArrayEquals(new byte[0], compressor.decompress(compressor.compress(new byte[0])));
+    }
+
+    @Test
+    void decompressWithOtherAlgorithm() {
+        byte[] compressed = new ValueCompressor(CompressionAlgorithm.GZIP, 0).compress(LARGE);
+        assertArrayEquals(LARGE, new ValueCompressor(CompressionAlgorithm.LZ4, 0).decompress(compressed));
+    }
+
+    @Test
+    void legacyPassthrough() {
+        ValueCompressor compressor = new ValueCompressor(CompressionAlgorithm.LZ4, 0);
+        // JSON、CBOR 小整数 0-3、JDK 序列化及过短的数据都没有 magic, 原样返回
+        byte[][] legacyValues = { LARGE, { 0x00 }, { 0x01, 0x02 }, { 0x03, 0x00, 0x01, 0x02 },
+                { (byte) 0xAC, (byte) 0xED, 0x00, 0x05 }, { (byte) 0xFF }, { (byte) 0xFF, 0x5A }, new byte[0] };
+        for (byte[] legacy : legacyValues) {
+            assertSame(legacy, compressor.decompress(legacy));
+        }
+    }
+
+}
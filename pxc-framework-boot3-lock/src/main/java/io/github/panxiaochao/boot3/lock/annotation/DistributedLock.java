@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.lock.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 分布式锁注解, 应用于方法, 基于 Redisson 实现
+ * </p>
+ * <pre>
+ * 1、 锁名称为 [lock:name:key], name 为空时使用方法全限定名的MD5
+ * 2、 多个 key 时使用联锁(MultiLock), 全部获取成功才执行方法
+ * 3、 stripes 大于0时开启分段锁, key 按哈希映射到固定数量的分段锁上, 限制 Redis 中锁对象的数量
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Documented
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedLock {
+
+    /**
+     * 锁名称前缀, 默认使用方法全限定名的MD5
+     */
+    String name() default "";
+
+    /**
+     * 锁Key, 支持 Spring EL 表达式, 例如 #id, #user.id, 多个 key 时使用联锁
+     */
+    String[] keys() default {};
+
+    /**
+     * 锁类型
+     */
+    LockType lockType() default LockType.REENTRANT;
+
+    /**
+     * 获取锁的最大等待时间, 0 表示不等待
+     */
+    long waitTime() default 0;
+
+    /**
+     * 锁自动释放时间, -1 表示启用看门狗自动续期, 直到方法执行完毕
+     */
+    long leaseTime() default -1;
+
+    /**
+     * 时间单位格式, 默认毫秒
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 分段数量, 大于0时开启分段锁, 例如 64 表示所有 key 最多映射到 64 把锁上
+     */
+    int stripes() default 0;
+
+    /**
+     * 自定义提示消息
+     */
+    String message() default "";
+
+    /**
+     * 锁类型
+     */
+    enum LockType {
+
+        /**
+         * 可重入锁
+         */
+        REENTRANT,
+
+        /**
+         * 公平锁, 按请求顺序获取锁
+         */
+        FAIR,
+
+        /**
+         * 读锁, 读读共享
+         */
+        READ,
+
+        /**
+         * 写锁, 读写互斥
+         */
+        WRITE
+
+    }
+
+}
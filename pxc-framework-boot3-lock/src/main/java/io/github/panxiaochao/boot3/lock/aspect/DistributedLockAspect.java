@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.lock.aspect;
+
+import io.github.panxiaochao.boot3.core.exception.ServerRuntimeException;
+import io.github.panxiaochao.boot3.core.ienums.IEnum;
+import io.github.panxiaochao.boot3.core.utils.StrUtil;
+import io.github.panxiaochao.boot3.core.utils.StringPools;
+import io.github.panxiaochao.boot3.lock.annotation.DistributedLock;
+import io.github.panxiaochao.boot3.redis.utils.RedissonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 分布式锁 Aspect 处理
+ * </p>
+ * <p>
+ * 锁名称排序去重后加锁, 保证多把锁的加锁顺序一致, 避免死锁; 锁在 finally 中释放.
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Aspect
+@Order(3)
+public class DistributedLockAspect {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DistributedLockAspect.class);
+
+    public DistributedLockAspect() {
+        LOGGER.info("配置[DistributedLockAspect]成功！");
+    }
+
+    /**
+     * 分布式锁 redis key
+     */
+    private static final String DISTRIBUTED_LOCK_KEY = "lock:";
+
+    /**
+     * 分段锁 key 标识
+     */
+    private static final String STRIPE_KEY = ":stripe:";
+
+    /**
+     * 定义EL表达式解析器
+     */
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+
+    /**
+     * 定义EL解析模版
+     */
+    private final ParserContext parserContext = new TemplateParserContext();
+
+    /**
+     * 方法参数解析器
+     */
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    /**
+     * EL表达式缓存, 避免每次调用重复解析
+     */
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>(64);
+
+    @Around("@annotation(distributedLock)")
+    public Object around(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        SortedSet<String> lockNames = getLockNames(joinPoint, distributedLock);
+        RLock lock = buildLock(lockNames, distributedLock.lockType());
+        boolean acquired = RedissonUtil.tryLock(lock, distributedLock.waitTime(), distributedLock.leaseTime(),
+                distributedLock.timeUnit());
+        if (!acquired) {
+            // tryLock 已恢复中断标记
+            if (Thread.currentThread().isInterrupted()) {
+                throw new ServerRuntimeException(DistributedLockErrorEnum.LOCK_INTERRUPTED_ERROR);
+            }
+            String message = StringUtils.hasText(distributedLock.message()) ? distributedLock.message()
+                    : DistributedLockErrorEnum.LOCK_ACQUIRE_ERROR.getMessage();
+            throw new ServerRuntimeException(DistributedLockErrorEnum.LOCK_ACQUIRE_ERROR, message);
+        }
+        try {
+            return joinPoint.proceed();
+        }
+        finally {
+            release(lock, lockNames);
+        }
+    }
+
+    /**
+     * 释放锁, leaseTime 到期后锁已自动释放时仅记录日志
+     */
+    private void release(RLock lock, SortedSet<String> lockNames) {
+        try {
+            RedissonUtil.unLock(lock);
+        }
+        catch (Exception e) {
+            LOGGER.warn("分布式锁 {} 释放失败, 可能已超过 leaseTime 自动释放: {}", lockNames, e.getMessage());
+        }
+    }
+
+    /**
+     * 根据锁名称及锁类型构建锁, 多个名称时构建联锁
+     * @param lockNames 已排序去重的锁名称
+     * @param lockType 锁类型
+     * @return RLock
+     */
+    private RLock buildLock(SortedSet<String> lockNames, DistributedLock.LockType lockType) {
+        if (lockNames.size() == 1) {
+            return obtainLock(lockNames.first(), lockType);
+        }
+        RLock[] locks = lockNames.stream().map(lockName -> obtainLock(lockName, lockType)).toArray(RLock[]::new);
+        return RedissonUtil.rMultiLock(locks);
+    }
+
+    private RLock obtainLock(String lockName, DistributedLock.LockType lockType) {
+        return switch (lockType) {
+            case FAIR -> RedissonUtil.rFairLock(lockName);
+            case READ -> RedissonUtil.rReadWriteLock(lockName).readLock();
+            case WRITE -> RedissonUtil.rReadWriteLock(lockName).writeLock();
+            default -> RedissonUtil.rLock(lockName);
+        };
+    }
+
+    /**
+     * 获取锁名称集合, 按名称排序去重
+     * @param joinPoint joinPoint
+     * @param distributedLock distributedLock
+     * @return lock names
+     */
+    private SortedSet<String> getLockNames(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String prefix = DISTRIBUTED_LOCK_KEY + (StringUtils.hasText(distributedLock.name()) ? distributedLock.name()
+                : DigestUtils.md5DigestAsHex((method.getDeclaringClass().getName() + "." + method.getName())
+                    .getBytes(StandardCharsets.UTF_8)));
+        SortedSet<String> lockNames = new TreeSet<>();
+        String[] keys = distributedLock.keys();
+        if (keys.length == 0) {
+            lockNames.add(prefix);
+            return lockNames;
+        }
+        // 每次调用创建独立的上下文, 保证线程安全
+        EvaluationContext evaluationContext = new MethodBasedEvaluationContext(null, method, joinPoint.getArgs(),
+                parameterNameDiscoverer);
+        int stripes = distributedLock.stripes();
+        for (String key : keys) {
+            String value = parseExpressionKey(evaluationContext, key);
+            if (stripes > 0) {
+                // String.hashCode 算法由规范定义, 各节点映射结果一致
+                lockNames.add(prefix + STRIPE_KEY + Math.floorMod(value.hashCode(), stripes));
+            }
+            else {
+                lockNames.add(prefix + StringPools.COLON + value);
+            }
+        }
+        return lockNames;
+    }
+
+    /**
+     * 解析EL表达式获取动态Key
+     */
+    private String parseExpressionKey(EvaluationContext evaluationContext, String key) {
+        if (StrUtil.isBlank(key) || !StrUtil.containsAny(key, StringPools.HASH)) {
+            return key;
+        }
+        String value;
+        try {
+            value = expressionCache.computeIfAbsent(key, this::parseExpression)
+                .getValue(evaluationContext, String.class);
+        }
+        catch (Exception e) {
+            throw new ServerRuntimeException(DistributedLockErrorEnum.LOCK_PARSE_EXPRESSION_ERROR, e);
+        }
+        // 空值会导致不同请求共用同一把锁, 直接拒绝
+        if (!StringUtils.hasText(value)) {
+            throw new ServerRuntimeException(DistributedLockErrorEnum.LOCK_PARSE_EXPRESSION_ERROR);
+        }
+        return value;
+    }
+
+    private Expression parseExpression(String key) {
+        if (StringUtils.startsWithIgnoreCase(key, parserContext.getExpressionPrefix())
+                && StringUtils.endsWithIgnoreCase(key, parserContext.getExpressionSuffix())) {
+            return expressionParser.parseExpression(key, parserContext);
+        }
+        return expressionParser.parseExpression(key);
+    }
+
+    /**
+     * 分布式锁错误码
+     */
+    @Getter
+    @AllArgsConstructor
+    enum DistributedLockErrorEnum implements IEnum<Integer> {
+
+        /**
+         * 获取锁失败
+         */
+        LOCK_ACQUIRE_ERROR(6030, "资源正在处理中，请稍后再试!"),
+        /**
+         * 分布式锁KEY解析异常
+         */
+        LOCK_PARSE_EXPRESSION_ERROR(6031, "分布式锁KEY解析异常!"),
+        /**
+         * 获取锁被中断
+         */
+        LOCK_INTERRUPTED_ERROR(6032, "获取分布式锁被中断!");
+
+        private final Integer code;
+
+        private final String message;
+
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import io.github.panxiaochao.boot3.cache.core.BatchCacheSupport;
+import io.github.panxiaochao.boot3.cache.core.CacheDecorator;
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 热点 key 本地化的 Redisson 缓存装饰器
+ * </p>
+ * <pre>
+ * 1. 读取时由 {@link HotKeyDetector} 计数, 热点 key 优先读取本地副本, 未命中再读取 Redis 并保存本地副本
+ * 2. 写入/删除时先操作 Redis 再删除本节点的本地副本, 回填副本使用 {@link HotKeyDetector#localStamp(String, Object)} 版本校验,
+ *    读取 Redis 期间本节点发生过写入时放弃回填
+ * 3. 批量读取与异步读取不经过本地副本
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class HotKeyRedissonCache implements Cache, CacheDecorator, BatchCache {
+
+    private final Cache cache;
+
+    private final HotKeyDetector hotKeyDetector;
+
+    public HotKeyRedissonCache(Cache cache, HotKeyDetector hotKeyDetector) {
+        this.cache = cache;
+        this.hotKeyDetector = hotKeyDetector;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return this.cache.getName();
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return this.cache.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        if (!this.hotKeyDetector.record(getName(), key)) {
+            return this.cache.get(key);
+        }
+        ValueWrapper wrapper = this.hotKeyDetector.getLocal(getName(), key);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        long stamp = this.hotKeyDetector.localStamp(getName(), key);
+        wrapper = this.cache.get(key);
+        if (wrapper != null) {
+            this.hotKeyDetector.putLocal(getName(), key, wrapper.get(), stamp);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        if (!this.hotKeyDetector.record(getName(), key)) {
+            return this.cache.get(key, valueLoader);
+        }
+        ValueWrapper wrapper = this.hotKeyDetector.getLocal(getName(), key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        long stamp = this.hotKeyDetector.localStamp(getName(), key);
+        T value = this.cache.get(key, valueLoader);
+        this.hotKeyDetector.putLocal(getName(), key, value, stamp);
+        return value;
+    }
+
+    @Override
+    @Nullable
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        return this.cache.retrieve(key);
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        return this.cache.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        this.cache.put(key, value);
+        this.hotKeyDetector.invalidateLocal(getName(), key);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        ValueWrapper existing = this.cache.putIfAbsent(key, value);
+        this.hotKeyDetector.invalidateLocal(getName(), key);
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        this.cache.evict(key);
+        this.hotKeyDetector.invalidateLocal(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean present = this.cache.evictIfPresent(key);
+        this.hotKeyDetector.invalidateLocal(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        this.cache.clear();
+        this.hotKeyDetector.invalidateLocal(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = this.cache.invalidate();
+        this.hotKeyDetector.invalidateLocal(getName());
+        return notEmpty;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        return BatchCacheSupport.getAll(this.cache, keys);
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        BatchCacheSupport.putAll(this.cache, entries);
+        entries.keySet().forEach(key -> this.hotKeyDetector.invalidateLocal(getName(), key));
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        BatchCacheSupport.evictAll(this.cache, keys);
+        keys.forEach(key -> this.hotKeyDetector.invalidateLocal(getName(), key));
+    }
+
+    @Override
+    public Cache getTargetCache() {
+        return this.cache;
+    }
+
+}
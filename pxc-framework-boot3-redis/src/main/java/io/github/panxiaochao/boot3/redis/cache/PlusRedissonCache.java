@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.spring.cache.CacheConfig;
+import org.redisson.spring.cache.RedissonCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 支持批量操作的 RedissonCache
+ * </p>
+ * <pre>
+ * 1. getAll 映射为 RMap.getAll, putAll 映射为 RMap.putAll, evictAll 映射为 RMap.fastRemove, 各一次往返
+ * 2. 配置了 ttl 的缓存组使用 RMapCache.putAll(map, ttl); 配置了 maxIdleTime 时并发发出 fastPutAsync 后统一等待
+ * 3. 不允许缓存 null 值时, 值为 null 的 key 按删除处理, 与 put 一致
+ * 4. 批量操作不计入 RedissonCache 的命中率统计
+ * 5. 配置了 nullValueTtl 时, RMapCache 中的 null 值按 nullValueTtl 过期, 用于缓存不存在的数据防止穿透
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class PlusRedissonCache extends RedissonCache implements BatchCache {
+
+    private final RMap<Object, Object> map;
+
+    @Nullable
+    private final RMapCache<Object, Object> mapCache;
+
+    @Nullable
+    private final CacheConfig config;
+
+    private final boolean allowNullValues;
+
+    /**
+     * null 值的存活毫秒数, 小于等于0时与普通值一致
+     */
+    private final long nullValueTtlMillis;
+
+    public PlusRedissonCache(RMapCache<Object, Object> mapCache, CacheConfig config, boolean allowNullValues) {
+        this(mapCache, config, allowNullValues, 0L);
+    }
+
+    public PlusRedissonCache(RMapCache<Object, Object> mapCache, CacheConfig config, boolean allowNullValues,
+            long nullValueTtlMillis) {
+        super(mapCache, config, allowNullValues);
+        this.map = mapCache;
+        this.mapCache = mapCache;
+        this.config = config;
+        this.allowNullValues = allowNullValues;
+        this.nullValueTtlMillis = nullValueTtlMillis;
+    }
+
+    public PlusRedissonCache(RMap<Object, Object> map, boolean allowNullValues) {
+        super(map, allowNullValues);
+        this.map = map;
+        this.mapCache = null;
+        this.config = null;
+        this.allowNullValues = allowNullValues;
+        this.nullValueTtlMillis = 0L;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null && isNullValueTtlEnabled()) {
+            this.mapCache.fastPut(key, toStoreValue(null), this.nullValueTtlMillis, TimeUnit.MILLISECONDS);
+        }
+        else {
+            super.put(key, value);
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (value == null && isNullValueTtlEnabled()) {
+            Object previous = this.mapCache.putIfAbsent(key, toStoreValue(null), this.nullValueTtlMillis,
+                    TimeUnit.MILLISECONDS);
+            return previous != null ? new SimpleValueWrapper(fromStoreValue(previous)) : null;
+        }
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> result = new LinkedHashMap<>(keys.size() * 2);
+        if (keys.isEmpty()) {
+            return result;
+        }
+        this.map.getAll(toKeySet(keys)).forEach((key, value) -> result.put(key, fromStoreValue(value)));
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        putAll(entries, this.config != null ? this.config.getTTL() : 0L);
+    }
+
+    /**
+     * 按指定的存活时间批量保存缓存值
+     * @param entries 缓存key与缓存值
+     * @param ttlMillis 存活毫秒数, 小于等于0时使用 RMap.putAll
+     */
+    public void putAll(Map<?, ?> entries, long ttlMillis) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<Object, Object> storeValues = new LinkedHashMap<>(entries.size() * 2);
+        List<Object> nullKeys = new ArrayList<>();
+        entries.forEach((key, value) -> {
+            if (value == null && (!this.allowNullValues || isNullValueTtlEnabled())) {
+                nullKeys.add(key);
+            }
+            else {
+                storeValues.put(key, toStoreValue(value));
+            }
+        });
+        if (!nullKeys.isEmpty() && isNullValueTtlEnabled()) {
+            Object nullValue = toStoreValue(null);
+            Map<Object, Object> nullValues = new LinkedHashMap<>(nullKeys.size() * 2);
+            nullKeys.forEach(key -> nullValues.put(key, nullValue));
+            this.mapCache.putAll(nullValues, this.nullValueTtlMillis, TimeUnit.MILLISECONDS);
+        }
+        else if (!nullKeys.isEmpty()) {
+            evictAll(nullKeys);
+        }
+        if (storeValues.isEmpty()) {
+            return;
+        }
+        long maxIdleMillis = this.config != null ? this.config.getMaxIdleTime() : 0L;
+        if (this.mapCache != null && maxIdleMillis > 0) {
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>(storeValues.size());
+            storeValues.forEach((key, value) -> {
+                RFuture<Boolean> future = this.mapCache.fastPutAsync(key, value, Math.max(ttlMillis, 0L),
+                        TimeUnit.MILLISECONDS, maxIdleMillis, TimeUnit.MILLISECONDS);
+                futures.add(future.toCompletableFuture());
+            });
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+        else if (this.mapCache != null && ttlMillis > 0) {
+            this.mapCache.putAll(storeValues, ttlMillis, TimeUnit.MILLISECONDS);
+        }
+        else {
+            this.map.putAll(storeValues);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        this.map.fastRemove(keys.toArray());
+    }
+
+    private boolean isNullValueTtlEnabled() {
+        return this.allowNullValues && this.mapCache != null && this.nullValueTtlMillis > 0;
+    }
+
+    private static Set<Object> toKeySet(Collection<?> keys) {
+        // unmodifiableSet 接受 Set<? extends Object>, 无需复制也无需强制转换
+        return keys instanceof Set<?> set ? Collections.unmodifiableSet(set) : new LinkedHashSet<>(keys);
+    }
+
+}
@@ -15,31 +15,45 @@
  */
 package io.github.panxiaochao.boot3.redis.cache;
 
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterCache;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
+import io.github.panxiaochao.boot3.cache.config.properties.CacheManagerProperties;
+import io.github.panxiaochao.boot3.cache.core.CacheCreationListener;
+import io.github.panxiaochao.boot3.cache.core.ObservableCacheManager;
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import io.github.panxiaochao.boot3.cache.serializer.ValueCompressor;
+import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
 import io.github.panxiaochao.boot3.core.utils.StringPools;
+import io.github.panxiaochao.boot3.redis.codec.CompressionCodec;
 import io.github.panxiaochao.boot3.redis.utils.RedissonUtil;
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.redisson.spring.cache.CacheConfig;
-import org.redisson.spring.cache.RedissonCache;
 import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <p>
@@ -55,11 +69,27 @@ import java.util.concurrent.ConcurrentMap;
  * maxSize 组最大长度 根据LRU算法清理溢出数据 如果设置为0则无限长 默认为0
  * 例子: test、test#60s、test#0#60s、test#0#1m#1000、test#1h#0#500
  *</pre>
+ * <p>
+ * 开启 {@link #setSingleFlight} 后缓存使用 {@link SingleFlightRedissonCache} 装饰, 合并进程内与集群内的并发回源.
+ * </p>
+ * <p>
+ * 缓存实例为 {@link PlusRedissonCache}, 支持 getAll/putAll/evictAll 批量操作.
+ * </p>
+ * <p>
+ * 设置 {@link #setCompressor} 后缓存值超过阈值时压缩写入, 开启前写入的 JSON 数据仍可读取.
+ * </p>
+ * <p>
+ * 存在 {@link HotKeyDetector} 时缓存使用 {@link HotKeyRedissonCache} 装饰, 热点 key 读取本地短时副本.
+ * </p>
+ * <p>
+ * 存在 {@link CacheBloomFilterRegistry} 时配置了布隆过滤器的缓存组使用 {@link BloomFilterCache} 装饰; 设置
+ * {@link #setNullValueTtl} 后 null 值按较短的时间过期.
+ * </p>
  *
  * @author Lypxc
  * @since 2023-08-01
  */
-public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAware, InitializingBean {
+public class PlusRedissonCacheManager implements ObservableCacheManager, ResourceLoaderAware, InitializingBean {
 
     ResourceLoader resourceLoader;
 
@@ -69,12 +99,38 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
 
     private boolean transactionAware = false;
 
+    private boolean singleFlight = false;
+
+    private Duration lockWaitTime = Duration.ofSeconds(3);
+
+    private Duration lockLeaseTime = Duration.ofSeconds(10);
+
+    private Duration staleWhileRevalidate = Duration.ZERO;
+
+    private Executor refreshExecutor = ForkJoinPool.commonPool();
+
+    private ValueCompressor compressor;
+
+    private HotKeyDetector hotKeyDetector;
+
+    private boolean hotKeyDetectorResolved = false;
+
+    private Duration nullValueTtl = Duration.ZERO;
+
+    private CacheBloomFilterRegistry bloomFilterRegistry;
+
+    private boolean bloomFilterRegistryResolved = false;
+
+    Codec codec;
+
     RedissonClient redisson;
 
     Map<String, CacheConfig> configMap = new ConcurrentHashMap<String, CacheConfig>();
 
     ConcurrentMap<String, Cache> instanceMap = new ConcurrentHashMap<String, Cache>();
 
+    private final List<CacheCreationListener> cacheCreationListeners = new CopyOnWriteArrayList<>();
+
     String configLocation;
 
     /**
@@ -83,6 +139,21 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
     public PlusRedissonCacheManager() {
     }
 
+    /**
+     * Creates CacheManager with properties
+     * @param redisson redisson cache properties
+     */
+    public PlusRedissonCacheManager(CacheManagerProperties.Redisson redisson) {
+        setSingleFlight(redisson.isSingleFlight());
+        setLockWaitTime(redisson.getLockWaitTime());
+        setLockLeaseTime(redisson.getLockLeaseTime());
+        setStaleWhileRevalidate(redisson.getStaleWhileRevalidate());
+        setNullValueTtl(redisson.getNullValueTtl());
+        if (redisson.getCompression().isEnabled()) {
+            setCompressor(redisson.getCompression().createCompressor());
+        }
+    }
+
     /**
      * Defines possibility of storing {@code null} values.
      * <p>
@@ -104,6 +175,123 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
         this.transactionAware = transactionAware;
     }
 
+    /**
+     * Defines if concurrent loads of the same key are coalesced, in-process and across
+     * the cluster, for {@code @Cacheable(sync = true)}.
+     * <p>
+     * Default is <code>false</code>
+     * @param singleFlight coalesce loads if <code>true</code>
+     * @see SingleFlightRedissonCache
+     */
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Defines how long a load waits for the cluster-wide lock of a key before loading by
+     * itself.
+     * <p>
+     * Default is 3 seconds
+     * @param lockWaitTime lock wait time
+     */
+    public void setLockWaitTime(Duration lockWaitTime) {
+        Assert.notNull(lockWaitTime, "lockWaitTime must not be null");
+        this.lockWaitTime = lockWaitTime;
+    }
+
+    /**
+     * Defines the lease of the cluster-wide lock of a key, the lock is released
+     * automatically after it even if the loading node crashed.
+     * <p>
+     * Default is 10 seconds
+     * @param lockLeaseTime lock lease time
+     */
+    public void setLockLeaseTime(Duration lockLeaseTime) {
+        Assert.notNull(lockLeaseTime, "lockLeaseTime must not be null");
+        this.lockLeaseTime = lockLeaseTime;
+    }
+
+    /**
+     * Defines how long an expired entry keeps being served while one node reloads it in
+     * the background. Applies to caches with ttl only.
+     * <p>
+     * Default is 0, disabled
+     * @param staleWhileRevalidate stale window
+     */
+    public void setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+        Assert.notNull(staleWhileRevalidate, "staleWhileRevalidate must not be null");
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Defines the executor used for stale-while-revalidate background reloads.
+     * <p>
+     * Default is {@link ForkJoinPool#commonPool()}
+     * @param refreshExecutor executor
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        Assert.notNull(refreshExecutor, "refreshExecutor must not be null");
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Defines codec for all caches.
+     * <p>
+     * Default is the codec of {@link RedissonClient}
+     * @param codec object
+     */
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Defines compressor for cache values, values larger than its threshold are
+     * compressed by {@link CompressionCodec} wrapping the cache codec.
+     * <p>
+     * Default is <code>null</code>, no compression
+     * @param compressor value compressor
+     */
+    public void setCompressor(@Nullable ValueCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    /**
+     * Defines hot key detector, caches are decorated by {@link HotKeyRedissonCache} to
+     * serve hot keys from a short-lived local copy.
+     * <p>
+     * Default is the {@link HotKeyDetector} bean if present
+     * @param hotKeyDetector hot key detector
+     */
+    public void setHotKeyDetector(@Nullable HotKeyDetector hotKeyDetector) {
+        this.hotKeyDetector = hotKeyDetector;
+        this.hotKeyDetectorResolved = true;
+    }
+
+    /**
+     * Defines time to live of cached {@code null} values, shorter than regular values to
+     * guard against cache penetration. Applies to caches with ttl, maxIdleTime or maxSize
+     * only.
+     * <p>
+     * Default is 0, same as regular values
+     * @param nullValueTtl null value time to live
+     */
+    public void setNullValueTtl(Duration nullValueTtl) {
+        Assert.notNull(nullValueTtl, "nullValueTtl must not be null");
+        this.nullValueTtl = nullValueTtl;
+    }
+
+    /**
+     * Defines bloom filter registry, caches configured with a bloom filter are decorated
+     * by {@link BloomFilterCache} to reject keys known not to exist.
+     * <p>
+     * Default is the {@link CacheBloomFilterRegistry} bean if present
+     * @param bloomFilterRegistry bloom filter registry
+     */
+    public void setBloomFilterRegistry(@Nullable CacheBloomFilterRegistry bloomFilterRegistry) {
+        this.bloomFilterRegistry = bloomFilterRegistry;
+        this.bloomFilterRegistryResolved = true;
+    }
+
     /**
      * Defines 'fixed' cache names. A new cache instance will not be created in dynamic
      * for non-defined names.
@@ -150,6 +338,20 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
         return this.redisson;
     }
 
+    /**
+     * Obtain codec for caches, wrapped by {@link CompressionCodec} if compressor is set
+     * @return codec, or {@code null} to use the codec of RedissonClient
+     */
+    @Nullable
+    protected Codec obtainCodec() {
+        if (compressor == null || codec instanceof CompressionCodec) {
+            return codec;
+        }
+        Codec innerCodec = codec != null ? codec : getRedisson().getConfig().getCodec();
+        codec = new CompressionCodec(innerCodec, compressor);
+        return codec;
+    }
+
     protected CacheConfig createDefaultConfig() {
         return new CacheConfig();
     }
@@ -193,8 +395,10 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
     }
 
     private Cache createMap(String name) {
-        RMap<Object, Object> map = getRedisson().getMap(name);
-        Cache cache = new RedissonCache(map, allowNullValues);
+        Codec cacheCodec = obtainCodec();
+        RMap<Object, Object> map = cacheCodec != null ? getRedisson().getMap(name, cacheCodec)
+                : getRedisson().getMap(name);
+        Cache cache = decorateCache(new PlusRedissonCache(map, allowNullValues), null);
         if (transactionAware) {
             cache = new TransactionAwareCacheDecorator(cache);
         }
@@ -202,12 +406,18 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
         if (oldCache != null) {
             cache = oldCache;
         }
+        else {
+            notifyCacheCreated(cache);
+        }
         return cache;
     }
 
     private Cache createMapCache(String name, CacheConfig config) {
-        RMapCache<Object, Object> map = getRedisson().getMapCache(name);
-        Cache cache = new RedissonCache(map, config, allowNullValues);
+        Codec cacheCodec = obtainCodec();
+        RMapCache<Object, Object> map = cacheCodec != null ? getRedisson().getMapCache(name, cacheCodec)
+                : getRedisson().getMapCache(name);
+        Cache cache = decorateCache(new PlusRedissonCache(map, config, allowNullValues, nullValueTtl.toMillis()),
+                config);
         if (transactionAware) {
             cache = new TransactionAwareCacheDecorator(cache);
         }
@@ -217,10 +427,58 @@ public class PlusRedissonCacheManager implements CacheManager, ResourceLoaderAwa
         }
         else {
             map.setMaxSize(config.getMaxSize());
+            notifyCacheCreated(cache);
         }
         return cache;
     }
 
+    private void notifyCacheCreated(Cache cache) {
+        for (CacheCreationListener listener : cacheCreationListeners) {
+            listener.onCacheCreated(this, cache);
+        }
+    }
+
+    private Cache decorateCache(PlusRedissonCache cache, @Nullable CacheConfig config) {
+        Cache decorated = cache;
+        if (singleFlight) {
+            decorated = new SingleFlightRedissonCache(cache, config, lockWaitTime, lockLeaseTime, staleWhileRevalidate,
+                    refreshExecutor);
+        }
+        HotKeyDetector detector = obtainHotKeyDetector();
+        if (detector != null) {
+            decorated = new HotKeyRedissonCache(decorated, detector);
+        }
+        CacheBloomFilterRegistry registry = obtainBloomFilterRegistry();
+        return registry != null ? registry.decorate(decorated) : decorated;
+    }
+
+    @Nullable
+    private CacheBloomFilterRegistry obtainBloomFilterRegistry() {
+        if (!bloomFilterRegistryResolved) {
+            bloomFilterRegistry = SpringContextUtil.getApplicationContext()
+                .getBeanProvider(CacheBloomFilterRegistry.class)
+                .getIfAvailable();
+            bloomFilterRegistryResolved = true;
+        }
+        return bloomFilterRegistry;
+    }
+
+    @Nullable
+    private HotKeyDetector obtainHotKeyDetector() {
+        if (!hotKeyDetectorResolved) {
+            hotKeyDetector = RedissonUtil.ofHotKeyDetector();
+            hotKeyDetectorResolved = true;
+        }
+        return hotKeyDetector;
+    }
+
+    @Override
+    public void addCacheCreationListener(CacheCreationListener listener) {
+        Assert.notNull(listener, "CacheCreationListener must not be null");
+        cacheCreationListeners.add(listener);
+        instanceMap.values().forEach(cache -> listener.onCacheCreated(this, cache));
+    }
+
     @Override
     public Collection<String> getCacheNames() {
         return Collections.unmodifiableSet(configMap.keySet());
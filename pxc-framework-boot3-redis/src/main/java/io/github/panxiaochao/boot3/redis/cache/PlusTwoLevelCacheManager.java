@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterCache;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterRegistry;
+import io.github.panxiaochao.boot3.cache.config.properties.CacheManagerProperties;
+import io.github.panxiaochao.boot3.cache.core.BatchCacheSupport;
+import io.github.panxiaochao.boot3.cache.core.CacheCreationListener;
+import io.github.panxiaochao.boot3.cache.core.ObservableCacheManager;
+import io.github.panxiaochao.boot3.cache.core.PlusCaffeineCacheManager;
+import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
+import io.github.panxiaochao.boot3.core.utils.StringPools;
+import io.github.panxiaochao.boot3.redis.utils.RedissonUtil;
+import org.redisson.api.RTopic;
+import org.redisson.codec.SerializationCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * 二级缓存管理器, 一级缓存使用 {@link PlusCaffeineCacheManager}, 二级缓存使用
+ * {@link PlusRedissonCacheManager}.
+ * </p>
+ * <pre>
+ * 1. cacheName 格式与一级、二级缓存管理器一致, 例如: test、test#60s
+ * 2. put/evict/clear 时通过 Redisson Topic 广播失效消息, 其他节点收到后删除本地一级缓存
+ * 3. 一级缓存过期时间建议小于二级缓存, 作为广播丢失时的兜底
+ * 4. 缓存创建监听分别注册到一级、二级缓存管理器, 回调的 source 为对应的缓存管理器
+ * 5. 存在 {@link CacheBloomFilterRegistry} 时由本管理器以 {@link BloomFilterCache} 装饰二级缓存整体
+ * 6. 失效消息使用 JDK 序列化, 反序列化只允许白名单中的类: 消息本身、常用 key 类型与 {@link SimpleKey}(其参数同样受白名单限制);
+ *    其他 key 类型(包括其父类与字段类型)需要通过 {@link #setAllowedKeyClasses} 加入. 发送前按序列化时写出的全部类校验 key,
+ *    SimpleKey 参数、数组元素与字段中任一类型不在白名单中时改为广播清空整个缓存组, 避免接收方拒收后一级缓存保留旧值
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class PlusTwoLevelCacheManager implements ObservableCacheManager, SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlusTwoLevelCacheManager.class);
+
+    /**
+     * 默认失效广播通道
+     */
+    public static final String DEFAULT_TOPIC_NAME = "pxc-framework:cache:two-level";
+
+    private final PlusCaffeineCacheManager localCacheManager;
+
+    private final PlusRedissonCacheManager remoteCacheManager;
+
+    private final ConcurrentMap<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
+
+    /**
+     * 当前节点标识
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 失效消息反序列化默认允许的类, byte[] 为 BigInteger/BigDecimal 序列化所需
+     */
+    private static final Set<String> DEFAULT_ALLOWED_CLASSES = Set.of(TwoLevelCacheMessage.class.getName(),
+            ArrayList.class.getName(), Object[].class.getName(), SimpleKey.class.getName(), String.class.getName(),
+            Number.class.getName(), Long.class.getName(), Integer.class.getName(), Short.class.getName(),
+            Byte.class.getName(), Double.class.getName(), Float.class.getName(), Boolean.class.getName(),
+            Character.class.getName(), BigInteger.class.getName(), BigDecimal.class.getName(), byte[].class.getName(),
+            UUID.class.getName());
+
+    /**
+     * 序列化结果只包含自身类描述的 key 类型, 白名单命中即可发送, 无需试序列化
+     */
+    private static final Set<Class<?>> LEAF_KEY_CLASSES = Set.of(String.class, Long.class, Integer.class, Short.class,
+            Byte.class, Double.class, Float.class, Boolean.class, Character.class, BigInteger.class, BigDecimal.class,
+            UUID.class);
+
+    private String topicName = DEFAULT_TOPIC_NAME;
+
+    /**
+     * 失效消息白名单, 直接交给 SerializationCodec 使用, 通道创建后追加的类同样生效
+     */
+    private final Set<String> allowedClasses = ConcurrentHashMap.newKeySet();
+
+    private volatile RTopic topic;
+
+    private volatile int listenerId = -1;
+
+    private CacheBloomFilterRegistry bloomFilterRegistry;
+
+    private boolean bloomFilterRegistryResolved = false;
+
+    public PlusTwoLevelCacheManager(PlusCaffeineCacheManager localCacheManager) {
+        this(localCacheManager, new PlusRedissonCacheManager());
+    }
+
+    public PlusTwoLevelCacheManager(PlusCaffeineCacheManager localCacheManager,
+            CacheManagerProperties.Redisson redisson) {
+        this(localCacheManager, new PlusRedissonCacheManager(redisson));
+    }
+
+    public PlusTwoLevelCacheManager(PlusCaffeineCacheManager localCacheManager,
+            PlusRedissonCacheManager remoteCacheManager) {
+        Assert.notNull(localCacheManager, "localCacheManager must not be null");
+        Assert.notNull(remoteCacheManager, "remoteCacheManager must not be null");
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.allowedClasses.addAll(DEFAULT_ALLOWED_CLASSES);
+        // 布隆过滤器只装饰二级缓存整体, 避免一级、二级重复判断
+        this.localCacheManager.setBloomFilterRegistry(null);
+        this.remoteCacheManager.setBloomFilterRegistry(null);
+    }
+
+    /**
+     * 设置布隆过滤器, 默认使用容器中的 {@link CacheBloomFilterRegistry}, 需要在获取缓存前设置
+     * @param bloomFilterRegistry 布隆过滤器
+     */
+    public void setBloomFilterRegistry(@Nullable CacheBloomFilterRegistry bloomFilterRegistry) {
+        this.bloomFilterRegistry = bloomFilterRegistry;
+        this.bloomFilterRegistryResolved = true;
+    }
+
+    /**
+     * 设置失效广播通道名称, 需要在容器初始化完成前设置
+     * @param topicName 通道名称
+     */
+    public void setTopicName(String topicName) {
+        Assert.hasText(topicName, "topicName must not be empty");
+        this.topicName = topicName;
+    }
+
+    /**
+     * 追加失效消息反序列化允许的 key 类型, 各节点需要保持一致, 通道创建后追加同样生效. 自定义 key 需要同时加入其父类与字段类型, 枚举需要加入枚举类与
+     * java.lang.Enum
+     * @param classNames 全类名
+     */
+    public void setAllowedKeyClasses(Collection<String> classNames) {
+        Assert.notNull(classNames, "classNames must not be null");
+        this.allowedClasses.addAll(classNames);
+    }
+
+    /**
+     * 一级缓存管理器
+     * @return PlusCaffeineCacheManager
+     */
+    public PlusCaffeineCacheManager getLocalCacheManager() {
+        return this.localCacheManager;
+    }
+
+    /**
+     * 二级缓存管理器
+     * @return PlusRedissonCacheManager
+     */
+    public PlusRedissonCacheManager getRemoteCacheManager() {
+        return this.remoteCacheManager;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        Cache cache = this.cacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache localCache = this.localCacheManager.getCache(name);
+        Cache remoteCache = this.remoteCacheManager.getCache(name);
+        if (localCache == null || remoteCache == null) {
+            return null;
+        }
+        return this.cacheMap.computeIfAbsent(name, key -> decorateCache(
+                new TwoLevelCache(localCache.getName(), localCache, remoteCache, this::publish, this::publishAll)));
+    }
+
+    private Cache decorateCache(TwoLevelCache cache) {
+        if (!this.bloomFilterRegistryResolved) {
+            this.bloomFilterRegistry = SpringContextUtil.getApplicationContext()
+                .getBeanProvider(CacheBloomFilterRegistry.class)
+                .getIfAvailable();
+            this.bloomFilterRegistryResolved = true;
+        }
+        return this.bloomFilterRegistry != null ? this.bloomFilterRegistry.decorate(cache) : cache;
+    }
+
+    @Override
+    public void addCacheCreationListener(CacheCreationListener listener) {
+        this.localCacheManager.addCacheCreationListener(listener);
+        this.remoteCacheManager.addCacheCreationListener(listener);
+    }
+
+    @NonNull
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableCollection(this.localCacheManager.getCacheNames());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.listenerId = obtainTopic().addListener(TwoLevelCacheMessage.class,
+                (channel, message) -> onMessage(message));
+        LOGGER.info("配置[Cache -> TwoLevel]订阅失效通道[{}]成功！", this.topicName);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.topic != null && this.listenerId != -1) {
+            this.topic.removeListener(this.listenerId);
+        }
+    }
+
+    /**
+     * 广播失效消息
+     * @param cacheName 缓存组名称
+     * @param key 缓存key, 为空时清空
+     */
+    private void publish(String cacheName, @Nullable Object key) {
+        if (key != null && !isAllowedKey(key)) {
+            LOGGER.warn("二级缓存[{}]的 key[{}]包含不在失效消息白名单中的类型, 改为广播清空", cacheName, key);
+            key = null;
+        }
+        try {
+            obtainTopic().publish(new TwoLevelCacheMessage(this.instanceId, cacheName, key));
+        }
+        catch (Exception e) {
+            LOGGER.error("二级缓存[{}]失效广播失败, key: {}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 广播批量失效消息
+     * @param cacheName 缓存组名称
+     * @param keys 缓存key
+     */
+    private void publishAll(String cacheName, Collection<Object> keys) {
+        for (Object key : keys) {
+            if (key != null && !isAllowedKey(key)) {
+                // 任一 key 不在白名单中时整体降级为广播清空
+                publish(cacheName, key);
+                return;
+            }
+        }
+        try {
+            obtainTopic().publish(new TwoLevelCacheMessage(this.instanceId, cacheName, keys));
+        }
+        catch (Exception e) {
+            LOGGER.error("二级缓存[{}]批量失效广播失败, key: {}", cacheName, keys, e);
+        }
+    }
+
+    /**
+     * key 序列化时写出的每个类(包括 SimpleKey 参数、数组元素、字段与父类)都在白名单中时才能被其他节点反序列化
+     * @param key 缓存key
+     * @return 是否可以按 key 广播
+     */
+    private boolean isAllowedKey(Object key) {
+        if (!this.allowedClasses.contains(key.getClass().getName())) {
+            return false;
+        }
+        if (LEAF_KEY_CLASSES.contains(key.getClass())) {
+            return true;
+        }
+        try (ClassCollectingOutputStream out = new ClassCollectingOutputStream()) {
+            out.writeObject(key);
+            return this.allowedClasses.containsAll(out.classNames);
+        }
+        catch (IOException e) {
+            // 包含不可序列化的参数或字段
+            return false;
+        }
+    }
+
+    /**
+     * 获取失效广播通道, 消息使用 JDK 序列化以兼容 SimpleKey 等复合 key, 反序列化限制在白名单内
+     * @return RTopic
+     */
+    private RTopic obtainTopic() {
+        RTopic rTopic = this.topic;
+        if (rTopic == null) {
+            rTopic = RedissonUtil.ofRedissonClient()
+                .getTopic(this.topicName, new SerializationCodec(getClass().getClassLoader(), this.allowedClasses));
+            this.topic = rTopic;
+        }
+        return rTopic;
+    }
+
+    /**
+     * 处理其他节点的失效消息, 删除本地一级缓存
+     * @param message 失效消息
+     */
+    private void onMessage(TwoLevelCacheMessage message) {
+        if (this.instanceId.equals(message.getInstanceId())) {
+            return;
+        }
+        String cacheName = message.getCacheName();
+        // 本节点未创建过该缓存组, 无需处理
+        if (!this.localCacheManager.getCacheNames().contains(cacheName)) {
+            return;
+        }
+        Cache localCache = this.localCacheManager.getCache(cacheName);
+        if (localCache == null) {
+            return;
+        }
+        if (message.getKeys() != null) {
+            BatchCacheSupport.evictAll(localCache, message.getKeys());
+        }
+        else if (message.getKey() == null) {
+            localCache.clear();
+        }
+        else {
+            localCache.evict(message.getKey());
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("二级缓存[{}]收到失效消息, key: {}", cacheName, message.getKeys() != null ? message.getKeys()
+                    : message.getKey() == null ? StringPools.ASTERISK : message.getKey());
+        }
+    }
+
+    /**
+     * 丢弃输出, 只记录序列化时写出的类描述, 与接收方反序列化时校验的类一致
+     */
+    private static final class ClassCollectingOutputStream extends ObjectOutputStream {
+
+        private final Set<String> classNames = new HashSet<>();
+
+        private ClassCollectingOutputStream() throws IOException {
+            super(OutputStream.nullOutputStream());
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) {
+            this.classNames.add(cl.getName());
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl) throws IOException {
+            throw new IOException("proxy class is not allowed: " + cl.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.bloom.BloomFilterSpec;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilter;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 基于 Redisson RBloomFilter 的缓存布隆过滤器, 所有节点共享
+ * </p>
+ * <pre>
+ * 1. 创建时 tryInit, 已存在时沿用 Redis 中的容量与误判率
+ * 2. key 以 String.valueOf 后的字符串写入, 使用 StringCodec
+ * 3. putAll 按 {@link #BATCH_SIZE} 分批写入, 避免单条命令过大
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RedissonCacheBloomFilter implements CacheBloomFilter {
+
+    /**
+     * 批量写入时每批的 key 数量
+     */
+    public static final int BATCH_SIZE = 10000;
+
+    private final RBloomFilter<String> bloomFilter;
+
+    public RedissonCacheBloomFilter(RedissonClient redissonClient, String name, BloomFilterSpec spec) {
+        this.bloomFilter = redissonClient.getBloomFilter(name, StringCodec.INSTANCE);
+        this.bloomFilter.tryInit(spec.getExpectedInsertions(), spec.getFalseProbability());
+    }
+
+    @Override
+    public boolean mightContain(Object key) {
+        return this.bloomFilter.contains(String.valueOf(key));
+    }
+
+    @Override
+    public void put(Object key) {
+        this.bloomFilter.add(String.valueOf(key));
+    }
+
+    @Override
+    public void putAll(Collection<?> keys) {
+        List<String> batch = new ArrayList<>(Math.min(keys.size(), BATCH_SIZE));
+        for (Object key : keys) {
+            batch.add(String.valueOf(key));
+            if (batch.size() == BATCH_SIZE) {
+                this.bloomFilter.add(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.bloomFilter.add(batch);
+        }
+    }
+
+    @Override
+    public long count() {
+        return this.bloomFilter.count();
+    }
+
+    /**
+     * 原生 RBloomFilter
+     * @return RBloomFilter
+     */
+    public RBloomFilter<String> getNativeBloomFilter() {
+        return this.bloomFilter;
+    }
+
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import io.github.panxiaochao.boot3.cache.core.CacheDecorator;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.spring.cache.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 单飞加载的 RedissonCache 装饰器, 防止热点 key 过期时的缓存击穿.
+ * </p>
+ * <pre>
+ * 1. 进程内: 同一 key 只有一个线程回源, 其他线程等待同一个 CompletableFuture 的结果
+ * 2. 集群内: 回源前获取 key 对应的 Redisson 锁(带等待时间与租约时间), 获取后再次读取缓存,
+ *    其他节点已写入则直接返回; 等待超时仍未命中时降级为直接回源
+ * 3. staleWhileRevalidate 大于0且缓存组配置了 ttl 时, 实际写入 ttl + staleWhileRevalidate,
+ *    剩余存活时间小于 staleWhileRevalidate 视为逻辑过期, 先返回旧值再由一个节点后台刷新
+ * 4. 只作用于 get(key, valueLoader), 即 &#64;Cacheable(sync = true)
+ * 5. 批量操作委托给 {@link PlusRedissonCache}, putAll 同样写入 ttl + staleWhileRevalidate
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class SingleFlightRedissonCache implements Cache, CacheDecorator, BatchCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingleFlightRedissonCache.class);
+
+    private final PlusRedissonCache cache;
+
+    private final RMap<Object, Object> map;
+
+    @Nullable
+    private final RMapCache<Object, Object> mapCache;
+
+    @Nullable
+    private final CacheConfig config;
+
+    private final long lockWaitMillis;
+
+    private final long lockLeaseMillis;
+
+    private final long staleMillis;
+
+    private final Executor refreshExecutor;
+
+    /**
+     * 进程内正在回源的 key
+     */
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inflightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * 进程内正在后台刷新的 key
+     */
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("unchecked")
+    public SingleFlightRedissonCache(PlusRedissonCache cache, @Nullable CacheConfig config, Duration lockWaitTime,
+            Duration lockLeaseTime, Duration staleWhileRevalidate, Executor refreshExecutor) {
+        this.cache = cache;
+        this.map = (RMap<Object, Object>) cache.getNativeCache();
+        this.mapCache = this.map instanceof RMapCache ? (RMapCache<Object, Object>) this.map : null;
+        this.config = config;
+        this.lockWaitMillis = lockWaitTime.toMillis();
+        this.lockLeaseMillis = lockLeaseTime.toMillis();
+        this.staleMillis = staleWhileRevalidate.toMillis();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return this.cache.getName();
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return this.map;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        return this.cache.get(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        return this.cache.get(key, type);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper;
+        if (isStaleWhileRevalidate()) {
+            // 与读取并发发出, 不额外增加一次往返
+            RFuture<Long> ttlFuture = this.mapCache.remainTimeToLiveAsync(key);
+            wrapper = this.cache.get(key);
+            if (wrapper != null) {
+                long remainMillis = ttlFuture.toCompletableFuture().join();
+                if (remainMillis >= 0 && remainMillis < this.staleMillis) {
+                    refreshAsync(key, valueLoader);
+                }
+            }
+        }
+        else {
+            wrapper = this.cache.get(key);
+        }
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        return (T) loadSingleFlight(key, valueLoader);
+    }
+
+    @Override
+    @NonNull
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        return this.cache.retrieve(key);
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        return this.cache.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        if (value != null && isStaleWhileRevalidate()) {
+            this.mapCache.fastPut(key, value, this.config.getTTL() + this.staleMillis, TimeUnit.MILLISECONDS,
+                    this.config.getMaxIdleTime(), TimeUnit.MILLISECONDS);
+        }
+        else {
+            this.cache.put(key, value);
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        return this.cache.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        this.cache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        return this.cache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.cache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return this.cache.invalidate();
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        return this.cache.getAll(keys);
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (isStaleWhileRevalidate()) {
+            this.cache.putAll(entries, this.config.getTTL() + this.staleMillis);
+        }
+        else {
+            this.cache.putAll(entries);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        this.cache.evictAll(keys);
+    }
+
+    /**
+     * 被装饰的 RedissonCache
+     * @return PlusRedissonCache
+     */
+    @Override
+    public PlusRedissonCache getTargetCache() {
+        return this.cache;
+    }
+
+    /**
+     * 进程内合并同一 key 的并发回源
+     */
+    @Nullable
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inflight = this.inflightLoads.putIfAbsent(key, future);
+        if (inflight != null) {
+            try {
+                return inflight.join();
+            }
+            catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ValueRetrievalException retrievalException) {
+                    throw retrievalException;
+                }
+                throw new ValueRetrievalException(key, valueLoader, cause);
+            }
+        }
+        try {
+            Object value = loadWithLock(key, valueLoader);
+            future.complete(value);
+            return value;
+        }
+        catch (Throwable e) {
+            // Error 或绕过编译检查的受检异常同样要结束 future, 否则等待中的调用方会永久阻塞
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            this.inflightLoads.remove(key, future);
+        }
+    }
+
+    /**
+     * 集群内通过 Redisson 锁合并同一 key 的回源
+     */
+    @Nullable
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        RLock lock = this.map.getLock(key);
+        boolean locked;
+        try {
+            locked = lock.tryLock(this.lockWaitMillis, this.lockLeaseMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        try {
+            // 等待期间其他节点可能已经写入
+            ValueWrapper wrapper = this.cache.get(key);
+            if (wrapper != null) {
+                return wrapper.get();
+            }
+            if (!locked) {
+                LOGGER.warn("缓存[{}]等待回源锁超时, 直接回源, key: {}", getName(), key);
+            }
+            Object value = callLoader(key, valueLoader);
+            put(key, value);
+            return value;
+        }
+        finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 后台刷新逻辑过期的 key, 集群内只有抢到锁的节点刷新
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        if (!this.refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(() -> {
+                RLock lock = this.map.getLock(key);
+                try {
+                    if (!lock.tryLock(0, this.lockLeaseMillis, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                    try {
+                        // 其他节点可能已经刷新完成, -1 表示未设置过期时间
+                        long remainMillis = this.mapCache.remainTimeToLive(key);
+                        if (remainMillis != -1 && remainMillis < this.staleMillis) {
+                            put(key, callLoader(key, valueLoader));
+                        }
+                    }
+                    finally {
+                        if (lock.isHeldByCurrentThread()) {
+                            lock.unlock();
+                        }
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                catch (Exception e) {
+                    LOGGER.warn("缓存[{}]后台刷新失败, key: {}", getName(), key, e);
+                }
+                finally {
+                    this.refreshingKeys.remove(key);
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            this.refreshingKeys.remove(key);
+            LOGGER.warn("缓存[{}]后台刷新任务提交失败, key: {}", getName(), key, e);
+        }
+    }
+
+    @Nullable
+    private Object callLoader(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        }
+        catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private boolean isStaleWhileRevalidate() {
+        return this.mapCache != null && this.config != null && this.config.getTTL() > 0 && this.staleMillis > 0;
+    }
+
+}
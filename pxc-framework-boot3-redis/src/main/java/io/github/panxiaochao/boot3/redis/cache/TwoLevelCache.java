@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import io.github.panxiaochao.boot3.cache.core.BatchCache;
+import io.github.panxiaochao.boot3.cache.core.BatchCacheSupport;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * 二级缓存, 一级为本地 Caffeine 缓存, 二级为 Redisson 缓存.
+ * </p>
+ * <pre>
+ * 1. 读取: 先读一级缓存, 未命中再读二级缓存并回填一级缓存
+ * 2. 写入/删除: 先操作二级缓存, 再操作一级缓存, 最后广播失效消息让其他节点删除一级缓存
+ * 3. 批量操作: getAll 只向二级缓存查询一级缓存未命中的 key, putAll/evictAll 只广播一条批量失效消息
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TwoLevelCache implements Cache, BatchCache {
+
+    private final String name;
+
+    private final Cache localCache;
+
+    private final Cache remoteCache;
+
+    /**
+     * 失效广播, 参数为 cacheName 与 key, key 为空时表示清空
+     */
+    private final BiConsumer<String, Object> invalidationPublisher;
+
+    /**
+     * 批量失效广播, 参数为 cacheName 与 key 集合
+     */
+    private final BiConsumer<String, Collection<Object>> batchInvalidationPublisher;
+
+    public TwoLevelCache(String name, Cache localCache, Cache remoteCache,
+            BiConsumer<String, Object> invalidationPublisher) {
+        this(name, localCache, remoteCache, invalidationPublisher,
+                (cacheName, keys) -> keys.forEach(key -> invalidationPublisher.accept(cacheName, key)));
+    }
+
+    public TwoLevelCache(String name, Cache localCache, Cache remoteCache,
+            BiConsumer<String, Object> invalidationPublisher,
+            BiConsumer<String, Collection<Object>> batchInvalidationPublisher) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.batchInvalidationPublisher = batchInvalidationPublisher;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return this.remoteCache.getNativeCache();
+    }
+
+    /**
+     * 一级缓存
+     * @return Cache
+     */
+    public Cache getLocalCache() {
+        return this.localCache;
+    }
+
+    /**
+     * 二级缓存
+     * @return Cache
+     */
+    public Cache getRemoteCache() {
+        return this.remoteCache;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        ValueWrapper wrapper = this.localCache.get(key);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = this.remoteCache.get(key);
+        if (wrapper != null) {
+            this.localCache.put(key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        // 本地缓存按 key 串行加载, 二级缓存内部再按 key 加分布式锁, 保证同一 key 只回源一次
+        return this.localCache.get(key, () -> this.remoteCache.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        this.remoteCache.put(key, value);
+        this.localCache.put(key, value);
+        this.invalidationPublisher.accept(this.name, key);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        ValueWrapper existing = this.remoteCache.putIfAbsent(key, value);
+        if (existing != null) {
+            this.localCache.put(key, existing.get());
+        }
+        else {
+            this.localCache.put(key, value);
+            this.invalidationPublisher.accept(this.name, key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        this.remoteCache.evict(key);
+        this.localCache.evict(key);
+        this.invalidationPublisher.accept(this.name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean present = this.remoteCache.evictIfPresent(key);
+        this.localCache.evict(key);
+        this.invalidationPublisher.accept(this.name, key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        this.remoteCache.clear();
+        this.localCache.clear();
+        this.invalidationPublisher.accept(this.name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = this.remoteCache.invalidate();
+        this.localCache.invalidate();
+        this.invalidationPublisher.accept(this.name, null);
+        return notEmpty;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        // keys 可能包含重复值, 按去重后的数量判断是否全部命中
+        Set<?> distinctKeys = keys instanceof Set<?> set ? set : new LinkedHashSet<>(keys);
+        Map<Object, Object> result = BatchCacheSupport.getAll(this.localCache, distinctKeys);
+        if (result.size() == distinctKeys.size()) {
+            return result;
+        }
+        List<Object> missingKeys = new ArrayList<>(distinctKeys.size() - result.size());
+        for (Object key : distinctKeys) {
+            if (!result.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+        Map<Object, Object> remoteValues = BatchCacheSupport.getAll(this.remoteCache, missingKeys);
+        if (!remoteValues.isEmpty()) {
+            BatchCacheSupport.putAll(this.localCache, remoteValues);
+            result.putAll(remoteValues);
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        BatchCacheSupport.putAll(this.remoteCache, entries);
+        BatchCacheSupport.putAll(this.localCache, entries);
+        this.batchInvalidationPublisher.accept(this.name, new ArrayList<>(entries.keySet()));
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        BatchCacheSupport.evictAll(this.remoteCache, keys);
+        BatchCacheSupport.evictAll(this.localCache, keys);
+        this.batchInvalidationPublisher.accept(this.name, new ArrayList<>(keys));
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * <p>
+ * 二级缓存失效广播消息
+ * </p>
+ * <pre>
+ * key 为空时表示清空整个缓存组
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@NoArgsConstructor
+public class TwoLevelCacheMessage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 发送节点标识, 用于忽略本节点发出的消息
+     */
+    private String instanceId;
+
+    /**
+     * 缓存组名称
+     */
+    private String cacheName;
+
+    /**
+     * 缓存key, 为空时清空整个缓存组
+     */
+    private Object key;
+
+    /**
+     * 批量失效的缓存key, 不为空时忽略 key
+     */
+    private Collection<Object> keys;
+
+    public TwoLevelCacheMessage(String instanceId, String cacheName, Object key) {
+        this.instanceId = instanceId;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public TwoLevelCacheMessage(String instanceId, String cacheName, Collection<Object> keys) {
+        this.instanceId = instanceId;
+        this.cacheName = cacheName;
+        this.keys = keys;
+    }
+
+}
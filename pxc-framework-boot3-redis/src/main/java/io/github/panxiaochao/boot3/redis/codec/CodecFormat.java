@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * <p>
+ * Redis value 序列化格式, 均基于 Jackson, 仅底层 {@link JsonFactory} 不同
+ * </p>
+ * <pre>
+ * 1. JSON: 文本格式, 可直接在 redis-cli 中查看
+ * 2. SMILE: Jackson 二进制 JSON, 字段名回引用, 体积与序列化开销最小, 需要 jackson-dataformat-smile
+ * 3. CBOR: RFC 8949 二进制格式, 跨语言可读, 需要 jackson-dataformat-cbor
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public enum CodecFormat {
+
+    /**
+     * JSON
+     */
+    JSON(null),
+
+    /**
+     * Jackson Smile
+     */
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+
+    /**
+     * CBOR
+     */
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+    private final String factoryClassName;
+
+    CodecFormat(String factoryClassName) {
+        this.factoryClassName = factoryClassName;
+    }
+
+    /**
+     * 创建对应格式的 JsonFactory
+     * @return JsonFactory
+     */
+    public JsonFactory createFactory() {
+        if (factoryClassName == null) {
+            return new JsonFactory();
+        }
+        ClassLoader classLoader = CodecFormat.class.getClassLoader();
+        if (!ClassUtils.isPresent(factoryClassName, classLoader)) {
+            throw new IllegalStateException("Codec format [" + name() + "] requires " + factoryClassName
+                    + ", please add jackson-dataformat-" + name().toLowerCase() + " dependency");
+        }
+        // 可选依赖, 通过反射创建避免未引入时加载失败
+        return BeanUtils.instantiateClass(ClassUtils.resolveClassName(factoryClassName, classLoader),
+                JsonFactory.class);
+    }
+
+}
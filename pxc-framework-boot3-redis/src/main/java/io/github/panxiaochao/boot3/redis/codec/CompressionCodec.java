@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import io.github.panxiaochao.boot3.cache.serializer.ValueCompressor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * 压缩 value 的 Redisson 编解码器, 包装原有编解码器, map key 不压缩.
+ * </p>
+ * <pre>
+ * 1. 写入: 原编解码器序列化后交给 {@link ValueCompressor}, 超过阈值压缩, 前3字节为 header
+ * 2. 读取: 按 header 解压后交给原编解码器, 没有 header 的旧数据按原始数据读取
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CompressionCodec implements Codec {
+
+    private final Codec innerCodec;
+
+    private final ValueCompressor compressor;
+
+    private final Encoder valueEncoder;
+
+    private final Decoder<Object> valueDecoder;
+
+    private final Encoder mapValueEncoder;
+
+    private final Decoder<Object> mapValueDecoder;
+
+    public CompressionCodec(Codec innerCodec, ValueCompressor compressor) {
+        Assert.notNull(innerCodec, "innerCodec must not be null");
+        Assert.notNull(compressor, "compressor must not be null");
+        this.innerCodec = innerCodec;
+        this.compressor = compressor;
+        this.valueEncoder = compressEncoder(innerCodec.getValueEncoder());
+        this.valueDecoder = decompressDecoder(innerCodec.getValueDecoder());
+        this.mapValueEncoder = compressEncoder(innerCodec.getMapValueEncoder());
+        this.mapValueDecoder = decompressDecoder(innerCodec.getMapValueDecoder());
+    }
+
+    /**
+     * Redisson 按 ClassLoader 复制编解码器时使用
+     * @param classLoader ClassLoader
+     * @param codec CompressionCodec
+     * @throws ReflectiveOperationException 复制原编解码器失败
+     */
+    public CompressionCodec(ClassLoader classLoader, CompressionCodec codec) throws ReflectiveOperationException {
+        this(BaseCodec.copy(classLoader, codec.innerCodec), codec.compressor);
+    }
+
+    private Encoder compressEncoder(Encoder encoder) {
+        return in -> {
+            ByteBuf buf = encoder.encode(in);
+            try {
+                return Unpooled.wrappedBuffer(this.compressor.compress(ByteBufUtil.getBytes(buf)));
+            }
+            finally {
+                buf.release();
+            }
+        };
+    }
+
+    private Decoder<Object> decompressDecoder(Decoder<Object> decoder) {
+        return (buf, state) -> {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            ByteBuf raw = Unpooled.wrappedBuffer(this.compressor.decompress(bytes));
+            try {
+                return decoder.decode(raw, state);
+            }
+            finally {
+                raw.release();
+            }
+        };
+    }
+
+    /**
+     * 被包装的编解码器
+     * @return Codec
+     */
+    public Codec getInnerCodec() {
+        return this.innerCodec;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return this.mapValueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return this.mapValueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return this.innerCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return this.innerCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return this.valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return this.valueEncoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return this.innerCodec.getClassLoader();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompressionCodec that)) {
+            return false;
+        }
+        return this.innerCodec.equals(that.innerCodec)
+                && this.compressor.getAlgorithm() == that.compressor.getAlgorithm()
+                && this.compressor.getThreshold() == that.compressor.getThreshold();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.innerCodec, this.compressor.getAlgorithm(), this.compressor.getThreshold());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + " [innerCodec=" + this.innerCodec + ", algorithm="
+                + this.compressor.getAlgorithm() + ", threshold=" + this.compressor.getThreshold() + "]";
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import io.github.panxiaochao.boot3.cache.serializer.ValueCompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * 压缩 value 的 RedisSerializer, 包装原有序列化器, 格式与 {@link CompressionCodec} 一致
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class CompressionRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+
+    private final ValueCompressor compressor;
+
+    public CompressionRedisSerializer(RedisSerializer<T> delegate, ValueCompressor compressor) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(compressor, "compressor must not be null");
+        this.delegate = delegate;
+        this.compressor = compressor;
+    }
+
+    @Override
+    @Nullable
+    public byte[] serialize(@Nullable T value) throws SerializationException {
+        byte[] bytes = this.delegate.serialize(value);
+        return bytes != null ? this.compressor.compress(bytes) : null;
+    }
+
+    @Override
+    @Nullable
+    public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return this.delegate.deserialize(this.compressor.decompress(bytes));
+        }
+        catch (RuntimeException e) {
+            if (e instanceof SerializationException serializationException) {
+                throw serializationException;
+            }
+            throw new SerializationException("Could not decompress value", e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return this.delegate.getTargetType();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * <p>
+ * 优先使用 {@link TypeIdRegistry} 中的短 id, 未注册的类型按全类名处理
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RegisteredTypeIdResolver extends ClassNameIdResolver {
+
+    private final TypeIdRegistry registry;
+
+    public RegisteredTypeIdResolver(JavaType baseType, TypeFactory typeFactory, Collection<NamedType> subtypes,
+            PolymorphicTypeValidator ptv, TypeIdRegistry registry) {
+        super(baseType, typeFactory, subtypes, ptv);
+        this.registry = registry;
+    }
+
+    @Override
+    public JsonTypeInfo.Id getMechanism() {
+        return JsonTypeInfo.Id.CUSTOM;
+    }
+
+    @Override
+    public String idFromValue(Object value) {
+        String id = registry.getId(value.getClass());
+        return id != null ? id : super.idFromValue(value);
+    }
+
+    @Override
+    public String idFromValueAndType(Object value, Class<?> type) {
+        String id = registry.getId(type);
+        return id != null ? id : super.idFromValueAndType(value, type);
+    }
+
+    @Override
+    public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+        Class<?> type = registry.getType(id);
+        if (type == null) {
+            return super.typeFromId(context, id);
+        }
+        // 与全类名一致, 保留声明类型上的泛型参数
+        return context.getTypeFactory().constructSpecializedType(_baseType, type);
+    }
+
+}
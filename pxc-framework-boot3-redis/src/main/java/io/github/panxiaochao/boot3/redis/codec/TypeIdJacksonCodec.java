@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.redisson.codec.JsonJacksonCodec;
+
+/**
+ * <p>
+ * 保留 ObjectMapper 自身类型信息配置的 JsonJacksonCodec, JsonJacksonCodec 默认会覆盖为全类名
+ * </p>
+ * <pre>
+ * 配合 {@link TypeIdTypeResolverBuilder} 使用短类型 id, 也支持 Smile、CBOR 等二进制 ObjectMapper
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TypeIdJacksonCodec extends JsonJacksonCodec {
+
+    public TypeIdJacksonCodec(ObjectMapper mapObjectMapper) {
+        super(mapObjectMapper);
+    }
+
+    public TypeIdJacksonCodec(ClassLoader classLoader, TypeIdJacksonCodec codec) {
+        super(createObjectMapper(classLoader, codec.mapObjectMapper.copy()));
+    }
+
+    @Override
+    protected void initTypeInclusion(ObjectMapper mapObjectMapper) {
+        // 使用传入 ObjectMapper 已配置的类型信息
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 类型与短数字 id 的映射, 写入类型信息时使用 id 代替全类名, 未注册的类型仍写入全类名
+ * </p>
+ * <pre>
+ * 1. 1-99 为内置的常用 JDK 类型保留, 自定义类型 id 需大于等于 {@link #MIN_CUSTOM_ID}
+ * 2. id 会随数据持久化到 Redis, 已使用的 id 不可修改或复用
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TypeIdRegistry {
+
+    /**
+     * 自定义类型 id 的最小值
+     */
+    public static final int MIN_CUSTOM_ID = 100;
+
+    private final Map<Class<?>, String> typeToId = new ConcurrentHashMap<>();
+
+    private final Map<String, Class<?>> idToType = new ConcurrentHashMap<>();
+
+    public TypeIdRegistry() {
+        // 内置类型, 顺序与 id 固定, 只能追加
+        registerInternal(1, ArrayList.class);
+        registerInternal(2, LinkedList.class);
+        registerInternal(3, HashMap.class);
+        registerInternal(4, LinkedHashMap.class);
+        registerInternal(5, TreeMap.class);
+        registerInternal(6, HashSet.class);
+        registerInternal(7, LinkedHashSet.class);
+        registerInternal(8, TreeSet.class);
+        registerInternal(9, ConcurrentHashMap.class);
+        registerInternal(10, Long.class);
+        registerInternal(11, Float.class);
+        registerInternal(12, Short.class);
+        registerInternal(13, Byte.class);
+        registerInternal(14, BigDecimal.class);
+        registerInternal(15, BigInteger.class);
+        registerInternal(16, Date.class);
+        registerInternal(17, Timestamp.class);
+        registerInternal(18, LocalDateTime.class);
+        registerInternal(19, LocalDate.class);
+        registerInternal(20, LocalTime.class);
+        registerInternal(21, Instant.class);
+        registerInternal(22, NullValue.class);
+    }
+
+    /**
+     * 注册自定义类型
+     * @param id 类型 id, 需大于等于 {@link #MIN_CUSTOM_ID}
+     * @param type 类型
+     * @return this
+     */
+    public TypeIdRegistry register(int id, Class<?> type) {
+        Assert.isTrue(id >= MIN_CUSTOM_ID, () -> "Type id must be >= " + MIN_CUSTOM_ID + ": " + id);
+        registerInternal(id, type);
+        return this;
+    }
+
+    /**
+     * 批量注册自定义类型
+     * @param typeIds 类型 id 与类型
+     * @return this
+     */
+    public TypeIdRegistry registerAll(Map<Integer, Class<?>> typeIds) {
+        typeIds.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * 获取类型 id
+     * @param type 类型
+     * @return 类型 id, 未注册时返回 {@code null}
+     */
+    public String getId(Class<?> type) {
+        return typeToId.get(type);
+    }
+
+    /**
+     * 获取类型
+     * @param id 类型 id
+     * @return 类型, 未注册时返回 {@code null}
+     */
+    public Class<?> getType(String id) {
+        return idToType.get(id);
+    }
+
+    private void registerInternal(int id, Class<?> type) {
+        Assert.notNull(type, "type must not be null");
+        String key = Integer.toString(id);
+        Class<?> existingType = idToType.putIfAbsent(key, type);
+        Assert.isTrue(existingType == null || existingType == type,
+                () -> "Type id [" + id + "] is already registered for " + existingType.getName());
+        String existingId = typeToId.putIfAbsent(type, key);
+        Assert.isTrue(existingId == null || existingId.equals(key),
+                () -> "Type " + type.getName() + " is already registered with id [" + existingId + "]");
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * 使用 {@link TypeIdRegistry} 短 id 的默认类型信息配置, 作用范围与 Redisson JsonJacksonCodec 一致
+ * </p>
+ * <pre>
+ * 1. 非 final 类型写入类型信息, Long 也写入, 避免读取时变成 Integer
+ * 2. 类型信息写入 {@link #TYPE_PROPERTY} 属性
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TypeIdTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+    /**
+     * 类型信息属性名
+     */
+    public static final String TYPE_PROPERTY = "@t";
+
+    private final TypeIdRegistry registry;
+
+    public TypeIdTypeResolverBuilder(TypeIdRegistry registry, PolymorphicTypeValidator ptv) {
+        super(ObjectMapper.DefaultTyping.NON_FINAL, ptv);
+        this.registry = registry;
+        init(JsonTypeInfo.Id.CUSTOM, null);
+        inclusion(JsonTypeInfo.As.PROPERTY);
+        typeProperty(TYPE_PROPERTY);
+    }
+
+    protected TypeIdTypeResolverBuilder(TypeIdTypeResolverBuilder base, Class<?> defaultImpl) {
+        super(base, defaultImpl);
+        this.registry = base.registry;
+    }
+
+    @Override
+    public ObjectMapper.DefaultTypeResolverBuilder withDefaultImpl(Class<?> defaultImpl) {
+        if (_defaultImpl == defaultImpl) {
+            return this;
+        }
+        return new TypeIdTypeResolverBuilder(this, defaultImpl);
+    }
+
+    @Override
+    public boolean useForType(JavaType type) {
+        while (type.isArrayType()) {
+            type = type.getContentType();
+        }
+        if (type.getRawClass() == Long.class) {
+            return true;
+        }
+        return !type.isFinal() && !TreeNode.class.isAssignableFrom(type.getRawClass());
+    }
+
+    @Override
+    protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+            PolymorphicTypeValidator subtypeValidator, Collection<NamedType> subtypes, boolean forSer,
+            boolean forDeser) {
+        return new RegisteredTypeIdResolver(baseType, config.getTypeFactory(), subtypes, subtypeValidator, registry);
+    }
+
+}
@@ -22,11 +22,28 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import io.github.panxiaochao.boot3.cache.bloom.CacheBloomFilterFactory;
+import io.github.panxiaochao.boot3.cache.config.properties.CompressionProperties;
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import io.github.panxiaochao.boot3.cache.serializer.CacheValueSerializer;
+import io.github.panxiaochao.boot3.cache.serializer.JacksonCacheValueSerializer;
 import io.github.panxiaochao.boot3.core.utils.date.DatePattern;
 import io.github.panxiaochao.boot3.core.utils.jackson.CustomizeJavaTimeModule;
+import io.github.panxiaochao.boot3.redis.cache.RedissonCacheBloomFilter;
+import io.github.panxiaochao.boot3.redis.codec.CompressionRedisSerializer;
+import io.github.panxiaochao.boot3.redis.codec.TypeIdJacksonCodec;
+import io.github.panxiaochao.boot3.redis.codec.TypeIdTypeResolverBuilder;
 import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import io.github.panxiaochao.boot3.redis.counter.WriteBehindCounter;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJobHandler;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJobScheduler;
+import io.github.panxiaochao.boot3.redis.localcache.LocalCachedMapRegistry;
+import io.github.panxiaochao.boot3.redis.script.LuaScriptRegistry;
+import io.github.panxiaochao.boot3.redis.stream.StreamConsumerContainer;
+import io.github.panxiaochao.boot3.redis.topic.TopicHub;
 import io.github.panxiaochao.boot3.redis.mapper.KeyPrefixNameMapper;
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.codec.CompositeCodec;
 import org.redisson.codec.JsonJacksonCodec;
@@ -37,7 +54,10 @@ import org.redisson.config.SingleServerConfig;
 import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -78,8 +98,9 @@ public class Redisson3AutoConfiguration {
     @Bean
     public RedissonAutoConfigurationCustomizer redissonAutoConfigurationCustomizers() {
         return config -> {
-            // 序列化模式
-            JsonJacksonCodec jsonCodec = new JsonJacksonCodec(objectMapper());
+            // 序列化模式, 使用短类型 id 时保留 ObjectMapper 的类型配置, 否则由 JsonJacksonCodec 写入全类名
+            JsonJacksonCodec jsonCodec = redisson3Properties.getCodec().isTypeIdEnabled()
+                    ? new TypeIdJacksonCodec(objectMapper()) : new JsonJacksonCodec(objectMapper());
             // 组合序列化 key 使用 String 内容使用通用 json 格式
             config.setCodec(new CompositeCodec(StringCodec.INSTANCE, jsonCodec, jsonCodec));
             config.setThreads(16);
@@ -132,28 +153,149 @@ public class Redisson3AutoConfiguration {
         template.setConnectionFactory(redisConnectionFactory);
         Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(
                 objectMapper(), Object.class);
+        RedisSerializer<Object> valueSerializer = jackson2JsonRedisSerializer;
+        CompressionProperties compression = redisson3Properties.getCompression();
+        if (compression.isEnabled()) {
+            // 超过阈值的 VALUE 压缩后写入
+            valueSerializer = new CompressionRedisSerializer<>(jackson2JsonRedisSerializer,
+                    compression.createCompressor());
+        }
         // 使用 StringRedisSerializer 来序列化和反序列化redis的key值
         template.setKeySerializer(RedisSerializer.string());
         template.setHashKeySerializer(RedisSerializer.string());
         // 使用 Jackson2JsonRedisSerializer 序列化VALUE
-        template.setValueSerializer(jackson2JsonRedisSerializer);
-        template.setHashValueSerializer(jackson2JsonRedisSerializer);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         // afterPropertiesSet
         template.afterPropertiesSet();
         LOGGER.info("配置[Redis -> RedisTemplate]成功！");
         return template;
     }
 
+    /**
+     * 缓存值序列化, 与 Redisson 使用同一套 Jackson 配置, 用于堆外缓存等
+     * @return CacheValueSerializer
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheValueSerializer cacheValueSerializer() {
+        return new JacksonCacheValueSerializer(objectMapper());
+    }
+
+    /**
+     * 热点 key 探测
+     * @return HotKeyDetector
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.hot-key.enabled", havingValue = "true")
+    public HotKeyDetector hotKeyDetector() {
+        Redisson3Properties.HotKey hotKey = redisson3Properties.getHotKey();
+        HotKeyDetector hotKeyDetector = new HotKeyDetector(hotKey.getWindow(), hotKey.getThreshold(), hotKey.getTopK(),
+                hotKey.getLocalTtl(), hotKey.getLocalMaximumSize());
+        LOGGER.info("配置[Redis -> HotKey]成功！");
+        return hotKeyDetector;
+    }
+
+    /**
+     * RLocalCachedMap 实例注册表
+     * @return LocalCachedMapRegistry
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.local-cached-map-enabled", havingValue = "true")
+    public LocalCachedMapRegistry localCachedMapRegistry(RedissonClient redissonClient) {
+        LocalCachedMapRegistry localCachedMapRegistry = new LocalCachedMapRegistry(redissonClient,
+                redisson3Properties.getLocalCachedMap(), redisson3Properties.getLocalCachedMaps());
+        LOGGER.info("配置[Redis -> LocalCachedMap]成功！");
+        return localCachedMapRegistry;
+    }
+
+    /**
+     * Redis Stream 消费组订阅容器
+     * @return StreamConsumerContainer
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.stream.enabled", havingValue = "true")
+    public StreamConsumerContainer streamConsumerContainer(RedissonClient redissonClient) {
+        return new StreamConsumerContainer(redissonClient, redisson3Properties.getStream());
+    }
+
+    /**
+     * Redis 延迟任务调度器, 自动注册全部 DelayedJobHandler
+     * @return DelayedJobScheduler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.delay.enabled", havingValue = "true")
+    public DelayedJobScheduler delayedJobScheduler(RedissonClient redissonClient,
+            ObjectProvider<DelayedJobHandler<?>> delayedJobHandlers) {
+        return new DelayedJobScheduler(redissonClient, redisson3Properties.getDelay(),
+                delayedJobHandlers.orderedStream().toList());
+    }
+
+    /**
+     * 共享订阅中心, 同一通道只订阅一次并在本地分发
+     * @return TopicHub
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.topic.enabled", havingValue = "true")
+    public TopicHub topicHub(RedissonClient redissonClient) {
+        return new TopicHub(redissonClient, redisson3Properties.getTopic());
+    }
+
+    /**
+     * 写后计数器, 本地累加后批量写入 Redis
+     * @return WriteBehindCounter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.counter.enabled", havingValue = "true")
+    public WriteBehindCounter writeBehindCounter(RedissonClient redissonClient) {
+        return new WriteBehindCounter(redissonClient, redisson3Properties.getCounter(), redisson3Properties.getBatch());
+    }
+
+    /**
+     * Lua 脚本注册表, 启动时加载并预加载 .lua 脚本
+     * @return LuaScriptRegistry
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.pxc-framework-boot3.redisson.script.enabled", havingValue = "true")
+    public LuaScriptRegistry luaScriptRegistry(RedissonClient redissonClient) {
+        return new LuaScriptRegistry(redissonClient, redisson3Properties.getScript());
+    }
+
+    /**
+     * REDIS 类型的缓存布隆过滤器, 由 CacheBloomFilterRegistry 按缓存组创建
+     * @return CacheBloomFilterFactory
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheBloomFilterFactory cacheBloomFilterFactory(RedissonClient redissonClient) {
+        return (name, spec) -> new RedissonCacheBloomFilter(redissonClient, name, spec);
+    }
+
     private ObjectMapper objectMapper() {
         // 使用Jackson2JsonRedisSerialize 替换默认序列化(默认采用的是JDK序列化)
-        ObjectMapper om = new ObjectMapper();
+        Redisson3Properties.Codec codec = redisson3Properties.getCodec();
+        ObjectMapper om = new ObjectMapper(codec.getFormat().createFactory());
         om.setLocale(Locale.CHINA);
         om.setTimeZone(TimeZone.getTimeZone("GMT+8"));
         // 指定要序列化的域, field, get, set, 以及修饰符范围，ANY是都有包括private和public
         om.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
         // 指定序列化输入的类型，类必须是非final修饰的，final修饰的类，比如String,Integer等会跑出异常
-        om.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY);
+        if (codec.isTypeIdEnabled()) {
+            // 已注册的类型写入短数字 id
+            om.setDefaultTyping(
+                    new TypeIdTypeResolverBuilder(codec.createTypeIdRegistry(), LaissezFaireSubTypeValidator.instance));
+        }
+        else {
+            om.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
+                    JsonTypeInfo.As.PROPERTY);
+        }
         om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         om.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         om.setDateFormat(new SimpleDateFormat(DatePattern.NORMAL_DATE_TIME_PATTERN));
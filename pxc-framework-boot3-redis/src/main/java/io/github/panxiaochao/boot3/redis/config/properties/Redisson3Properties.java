@@ -15,10 +15,23 @@
  */
 package io.github.panxiaochao.boot3.redis.config.properties;
 
+import io.github.panxiaochao.boot3.cache.config.properties.CompressionProperties;
+import io.github.panxiaochao.boot3.redis.codec.CodecFormat;
+import io.github.panxiaochao.boot3.redis.codec.TypeIdRegistry;
+import io.github.panxiaochao.boot3.redis.localcache.LocalCachedMapSpec;
+import io.github.panxiaochao.boot3.redis.topic.TopicOverflowPolicy;
 import lombok.Getter;
 import lombok.Setter;
+import org.redisson.api.BatchOptions;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>
  * Redisson 自定义属性
@@ -47,4 +60,399 @@ public class Redisson3Properties {
      */
     private int nettyThreads = 32;
 
+    /**
+     * Redisson 与 RedisTemplate 的 value 序列化
+     */
+    private final Codec codec = new Codec();
+
+    /**
+     * RedisTemplate value 压缩, 超过阈值的值压缩后写入 Redis
+     */
+    private final CompressionProperties compression = new CompressionProperties();
+
+    /**
+     * 热点 key 探测, 作用于 Redisson 缓存与 RedissonUtil.get
+     */
+    private final HotKey hotKey = new HotKey();
+
+    /**
+     * RedissonUtil 批量操作的管道配置
+     */
+    private final Batch batch = new Batch();
+
+    /**
+     * RedissonUtil SCAN 遍历与按模式删除配置
+     */
+    private final Scan scan = new Scan();
+
+    /**
+     * Redis Stream 生产者与消费组配置
+     */
+    private final Stream stream = new Stream();
+
+    /**
+     * Redis 延迟任务配置
+     */
+    private final Delay delay = new Delay();
+
+    /**
+     * 共享订阅 TopicHub 配置
+     */
+    private final Topic topic = new Topic();
+
+    /**
+     * RedissonUtil Count-Min Sketch 默认配置
+     */
+    private final CountMinSketch countMinSketch = new CountMinSketch();
+
+    /**
+     * RedissonUtil 写后计数器配置
+     */
+    private final Counter counter = new Counter();
+
+    /**
+     * Lua 脚本注册表配置
+     */
+    private final Script script = new Script();
+
+    /**
+     * 是否注册 RLocalCachedMap 实例注册表 Bean, 默认 false; 未注册时 RedissonUtil 首次获取本地缓存 Map 才按配置创建
+     */
+    private boolean localCachedMapEnabled = false;
+
+    /**
+     * RedissonUtil 本地缓存 Map 的默认配置
+     */
+    private final LocalCachedMapSpec localCachedMap = new LocalCachedMapSpec();
+
+    /**
+     * RedissonUtil 本地缓存 Map 按名称的单独配置, 未配置的名称使用 localCachedMap
+     */
+    private Map<String, LocalCachedMapSpec> localCachedMaps = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Codec {
+
+        /**
+         * 序列化格式, 默认 JSON; SMILE、CBOR 为二进制格式, 需要引入对应的 jackson-dataformat 依赖.
+         * 切换格式后已有数据无法读取, 需要清理数据或更换 keyPrefix
+         */
+        private CodecFormat format = CodecFormat.JSON;
+
+        /**
+         * 类型 id 与类型, 不为空时使用短数字 id 代替全类名写入类型信息, id 需大于等于100, 已使用的 id 不可修改
+         */
+        private Map<Integer, Class<?>> typeIds = new LinkedHashMap<>();
+
+        /**
+         * 是否使用短类型 id
+         * @return true or false
+         */
+        public boolean isTypeIdEnabled() {
+            return !typeIds.isEmpty();
+        }
+
+        /**
+         * 创建类型 id 注册表
+         * @return TypeIdRegistry
+         */
+        public TypeIdRegistry createTypeIdRegistry() {
+            return new TypeIdRegistry().registerAll(typeIds);
+        }
+
+    }
+
+    @Getter
+    @Setter
+    public static class HotKey {
+
+        /**
+         * 是否开启热点 key 探测
+         */
+        private boolean enabled = false;
+
+        /**
+         * 统计窗口, 默认1秒
+         */
+        private Duration window = Duration.ofSeconds(1);
+
+        /**
+         * 每个窗口内达到该访问次数视为热点, 默认500
+         */
+        private long threshold = 500;
+
+        /**
+         * 最多保留的热点 key 数量, 默认100
+         */
+        private int topK = 100;
+
+        /**
+         * 热点 key 本地副本的过期时间, 也是其他节点修改后的最大可见延迟, 默认1秒
+         */
+        private Duration localTtl = Duration.ofSeconds(1);
+
+        /**
+         * 本地副本最大条数, 默认10000
+         */
+        private long localMaximumSize = 10000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 单个管道的最大 key 数量, 超过后拆分为多个管道依次执行, 原子模式仅保证单个管道内原子, 默认1000
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * 执行模式, 默认 IN_MEMORY 普通管道; IN_MEMORY_ATOMIC、REDIS_WRITE_ATOMIC 使用 MULTI/EXEC
+         * 原子执行, 集群下要求同一管道内的 key 位于同一 slot
+         */
+        private BatchOptions.ExecutionMode executionMode = BatchOptions.ExecutionMode.IN_MEMORY;
+
+        /**
+         * 管道响应超时, 为空时使用 Redisson timeout 配置
+         */
+        private Duration responseTimeout;
+
+        /**
+         * 管道重试次数, 为空时使用 Redisson retryAttempts 配置
+         */
+        private Integer retryAttempts;
+
+        /**
+         * 写操作是否跳过返回结果, 减少响应流量, 默认false, 读操作不受影响
+         */
+        private boolean skipResult = false;
+
+        /**
+         * 创建 BatchOptions
+         * @param write 是否写操作, 仅写操作应用 skipResult
+         * @return BatchOptions
+         */
+        public BatchOptions createBatchOptions(boolean write) {
+            BatchOptions options = BatchOptions.defaults().executionMode(executionMode);
+            if (responseTimeout != null) {
+                options.responseTimeout(responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (retryAttempts != null) {
+                options.retryAttempts(retryAttempts);
+            }
+            if (write && skipResult) {
+                options.skipResult();
+            }
+            return options;
+        }
+
+    }
+
+    @Getter
+    @Setter
+    public static class Scan {
+
+        /**
+         * 每次 SCAN 返回的 key 数量(COUNT), 默认1000
+         */
+        private int pageSize = 1000;
+
+        /**
+         * 按模式删除时每个管道 UNLINK 的 key 数量, 默认1000
+         */
+        private int deleteBatchSize = 1000;
+
+        /**
+         * 按模式删除时每批之间的间隔, 降低对 Redis 的压力, 为0时不间隔, 默认10毫秒
+         */
+        private Duration deleteInterval = Duration.ofMillis(10);
+
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /**
+         * 是否注册消费组订阅容器 Bean, 默认 false; 未注册时 RedissonUtil 首次订阅才按本配置创建
+         */
+        private boolean enabled = false;
+
+        /**
+         * 写入时按 MAXLEN ~ 近似裁剪的最大长度, 为0时不裁剪, 默认100000
+         */
+        private int maxLen = 100000;
+
+        /**
+         * 消费者每次 XREADGROUP 读取的消息数量, 默认100
+         */
+        private int batchSize = 100;
+
+        /**
+         * 消费者阻塞读取的超时时间, 默认2秒
+         */
+        private Duration pollTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 每个订阅的消费者线程数量, 默认1
+         */
+        private int concurrency = 1;
+
+        /**
+         * 待确认消息空闲超过该时间后由其他消费者认领(XAUTOCLAIM), 默认60秒
+         */
+        private Duration claimIdleTime = Duration.ofSeconds(60);
+
+        /**
+         * 认领待确认消息的检查间隔, 默认30秒
+         */
+        private Duration claimInterval = Duration.ofSeconds(30);
+
+        /**
+         * 消息最大投递次数, 超过后转入死信 Stream(name:dlq) 并确认, 为0时不限制, 默认5
+         */
+        private int maxDeliveries = 5;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Delay {
+
+        /**
+         * 是否注册延迟任务调度器 Bean, 默认 false; 开启后才会拉取 DelayedJobHandler 的主题, 未开启时 RedissonUtil
+         * 首次调度任务才创建只写入、不拉取的调度器
+         */
+        private boolean enabled = false;
+
+        /**
+         * 延迟任务队列名称前缀, 每个主题使用 queueName:topic, 死信列表为 queueName:topic:dlq, 默认
+         * pxc:delay:queue
+         */
+        private String queueName = "pxc:delay:queue";
+
+        /**
+         * 每个节点每个主题拉取到期任务的线程数量, 默认1
+         */
+        private int concurrency = 1;
+
+        /**
+         * 每次拉取的任务数量, 默认100
+         */
+        private int batchSize = 100;
+
+        /**
+         * 阻塞拉取的超时时间, 默认2秒
+         */
+        private Duration pollTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 处理失败后的最大重试次数, 为0时不重试, 默认3
+         */
+        private int maxRetries = 3;
+
+        /**
+         * 首次重试的延迟时间, 之后按2倍递增, 默认10秒
+         */
+        private Duration retryDelay = Duration.ofSeconds(10);
+
+        /**
+         * 重试的最大延迟时间, 默认10分钟
+         */
+        private Duration maxRetryDelay = Duration.ofMinutes(10);
+
+    }
+
+    @Getter
+    @Setter
+    public static class Topic {
+
+        /**
+         * 是否注册共享订阅中心 Bean, 默认 false; 未注册时 RedissonUtil 首次订阅才按本配置创建
+         */
+        private boolean enabled = false;
+
+        /**
+         * 每个本地监听器的缓冲区容量, 默认1024
+         */
+        private int bufferSize = 1024;
+
+        /**
+         * 缓冲区已满时的处理策略, 默认 DROP
+         */
+        private TopicOverflowPolicy overflowPolicy = TopicOverflowPolicy.DROP;
+
+        /**
+         * BLOCK 策略下的最长等待时间, 超时后丢弃, 默认1秒
+         */
+        private Duration blockTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 未指定线程池的监听器使用的共享线程数量, 默认4
+         */
+        private int threads = 4;
+
+    }
+
+    @Getter
+    @Setter
+    public static class CountMinSketch {
+
+        /**
+         * 相对总次数的误差率, 默认0.001, 决定 width
+         */
+        private double epsilon = 0.001;
+
+        /**
+         * 置信度, 默认0.99, 决定 depth; 默认配置每个 key 约占用 53KB
+         */
+        private double confidence = 0.99;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Counter {
+
+        /**
+         * 是否注册写后计数器 Bean, 默认 false; 未注册时 RedissonUtil 首次使用计数方法才按本配置创建
+         */
+        private boolean enabled = false;
+
+        /**
+         * 本地增量写入 Redis 的间隔, 默认1秒
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * 累计增加次数达到该值时提前写入, 默认10000
+         */
+        private long flushThreshold = 10000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Script {
+
+        /**
+         * 是否注册 Lua 脚本注册表 Bean, 默认 false; 未注册时 RedissonUtil 首次执行脚本才按本配置加载
+         */
+        private boolean enabled = false;
+
+        /**
+         * .lua 脚本位置, 后加载的同名脚本覆盖先加载的, 默认内置脚本及 classpath 下 lua 目录
+         */
+        private List<String> locations = new ArrayList<>(
+                List.of("classpath*:META-INF/lua/*.lua", "classpath*:lua/*.lua"));
+
+        /**
+         * 启动时是否通过 SCRIPT LOAD 预加载, 默认 true
+         */
+        private boolean preload = true;
+
+    }
+
 }
@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.counter;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.NameMapper;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.ClusterServersConfig;
+import org.redisson.config.Config;
+import org.redisson.connection.CRC16;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * 写后(write-behind)计数器, 在本地使用 LongAdder 累加, 定时或达到阈值后通过管道批量写入 Redis
+ * </p>
+ * <pre>
+ * 1. key 计数使用 INCRBY, 与 RAtomicLong 兼容; hash 字段计数使用 HINCRBY
+ * 2. 每隔 flushInterval 或累计 flushThreshold 次增加后刷新, 一个 key 一个周期内只产生一条命令
+ * 3. 刷新失败时增量放回本地, 下次刷新重试; 容器关闭时执行最后一次刷新
+ *    每批命令以 MULTI/EXEC(REDIS_WRITE_ATOMIC) 执行, 集群模式下先按映射后 key 的 slot 分组, 每批只包含同一 slot 的 key,
+ *    由同一节点执行, 不会因 CROSSSLOT 失败, 也不会出现部分节点已执行、整批增量又被放回的情况;
+ *    但响应超时时无法判断 EXEC 是否已执行, 此时放回的增量可能被重复写入, 计数偏大
+ * 4. 进程异常退出会丢失未刷新的增量, 适合浏览数、点赞数、调用次数等允许少量误差的统计
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class WriteBehindCounter implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindCounter.class);
+
+    /**
+     * HINCRBY 脚本, RMap.addAndGet 使用的是 HINCRBYFLOAT
+     */
+    private static final String HINCRBY_SCRIPT = "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])";
+
+    private static final int MAX_SLOT = 16384;
+
+    private final RedissonClient redissonClient;
+
+    private final Redisson3Properties.Counter properties;
+
+    private final Redisson3Properties.Batch batchProperties;
+
+    private final ConcurrentMap<CounterKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 上次刷新后的增加次数, 用于阈值触发
+     */
+    private final AtomicLong pendingOps = new AtomicLong();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 集群模式下的 key 映射, 用于计算 slot; 非集群模式为 null, 不分组
+     */
+    private final NameMapper clusterNameMapper;
+
+    public WriteBehindCounter(RedissonClient redissonClient, Redisson3Properties.Counter properties,
+            Redisson3Properties.Batch batchProperties) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(properties, "properties must not be null");
+        Assert.notNull(batchProperties, "batchProperties must not be null");
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.batchProperties = batchProperties;
+        this.clusterNameMapper = resolveClusterNameMapper(redissonClient);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pxc-redis-counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * key 计数增加, 不访问 Redis
+     * @param key key
+     * @param delta 增量
+     */
+    public void increment(String key, long delta) {
+        add(new CounterKey(key, null), delta);
+    }
+
+    /**
+     * hash 字段计数增加, 不访问 Redis
+     * @param key key
+     * @param field hash field
+     * @param delta 增量
+     */
+    public void increment(String key, String field, long delta) {
+        add(new CounterKey(key, field), delta);
+    }
+
+    /**
+     * key 计数, Redis 中的值加上本地未刷新的增量
+     * @param key key
+     * @return count
+     */
+    public long get(String key) {
+        return redissonClient.getAtomicLong(key).get() + getPending(key, null);
+    }
+
+    /**
+     * hash 字段计数, Redis 中的值加上本地未刷新的增量
+     * @param key key
+     * @param field hash field
+     * @return count
+     */
+    public long get(String key, String field) {
+        String value = redissonClient.<String, String>getMap(key, StringCodec.INSTANCE).get(field);
+        return (value == null ? 0 : Long.parseLong(value)) + getPending(key, field);
+    }
+
+    /**
+     * 本地未刷新的增量
+     * @param key key
+     * @param field hash field, 为 null 时表示 key 计数
+     * @return pending delta
+     */
+    public long getPending(String key, String field) {
+        LongAdder adder = pending.get(new CounterKey(key, field));
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 立即将本地增量写入 Redis
+     * @return 写入的命令数量
+     */
+    public synchronized int flush() {
+        pendingOps.set(0);
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((counterKey, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(counterKey, delta);
+            }
+            else if (pending.remove(counterKey, adder)) {
+                // 移除空闲计数器, 移除前后落在该实例上的增量转移到新实例
+                moveOrphan(counterKey, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+        for (List<Map.Entry<CounterKey, Long>> entries : groupBySlot(deltas)) {
+            for (int from = 0; from < entries.size(); from += chunkSize) {
+                List<Map.Entry<CounterKey, Long>> chunk = entries.subList(from,
+                        Math.min(entries.size(), from + chunkSize));
+                try {
+                    executeChunk(chunk);
+                }
+                catch (Exception e) {
+                    LOGGER.warn("flush {} counters failed, will retry on next flush: {}", chunk.size(), e.getMessage());
+                    chunk.forEach(entry -> add(entry.getKey(), entry.getValue(), false));
+                }
+            }
+        }
+        return deltas.size();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long intervalMillis = Math.max(1, properties.getFlushInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("配置[Redis -> WriteBehindCounter]成功！");
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(properties.getFlushInterval().toMillis() + 1000, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 最后一次刷新
+        flushQuietly();
+    }
+
+    private void add(CounterKey counterKey, long delta) {
+        add(counterKey, delta, true);
+    }
+
+    private void add(CounterKey counterKey, long delta, boolean countOps) {
+        if (delta == 0) {
+            return;
+        }
+        LongAdder adder = pending.computeIfAbsent(counterKey, key -> new LongAdder());
+        adder.add(delta);
+        if (pending.get(counterKey) != adder) {
+            // 计数器已被 flush 判定为空闲并移除, 增量不会被刷新, 转移到新实例
+            moveOrphan(counterKey, adder);
+        }
+        if (countOps && pendingOps.incrementAndGet() >= properties.getFlushThreshold()) {
+            triggerFlush();
+        }
+    }
+
+    /**
+     * 转移已移除实例上的增量, flush 与 add 都可能调用, sumThenReset 保证每个增量只转移一次
+     */
+    private void moveOrphan(CounterKey counterKey, LongAdder orphan) {
+        long delta = orphan.sumThenReset();
+        if (delta != 0) {
+            pending.computeIfAbsent(counterKey, key -> new LongAdder()).add(delta);
+        }
+    }
+
+    private void triggerFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushScheduled.set(false);
+                    flushQuietly();
+                });
+            }
+            catch (Exception e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        }
+        catch (Exception e) {
+            LOGGER.warn("flush counters failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 集群模式下按 slot 分组, 保证每个 MULTI/EXEC 只落在一个节点上; 非集群模式不分组
+     */
+    private Collection<List<Map.Entry<CounterKey, Long>>> groupBySlot(Map<CounterKey, Long> deltas) {
+        if (clusterNameMapper == null) {
+            return Collections.singletonList(new ArrayList<>(deltas.entrySet()));
+        }
+        Map<Integer, List<Map.Entry<CounterKey, Long>>> groups = new LinkedHashMap<>();
+        for (Map.Entry<CounterKey, Long> entry : deltas.entrySet()) {
+            groups.computeIfAbsent(slotOf(clusterNameMapper.map(entry.getKey().key)), slot -> new ArrayList<>())
+                .add(entry);
+        }
+        return groups.values();
+    }
+
+    /**
+     * 与 Redis Cluster 相同的 slot 计算, 存在非空 hash tag 时只计算 {} 内的部分
+     */
+    private static int slotOf(String key) {
+        int start = key.indexOf('{');
+        if (start != -1) {
+            int end = key.indexOf('}', start + 1);
+            if (end > start + 1) {
+                key = key.substring(start + 1, end);
+            }
+        }
+        return CRC16.crc16(key.getBytes(StandardCharsets.UTF_8)) % MAX_SLOT;
+    }
+
+    /**
+     * 集群模式时取出配置的 NameMapper, 与 Redisson 实际写入的 key 保持一致
+     */
+    private static NameMapper resolveClusterNameMapper(RedissonClient redissonClient) {
+        Config config = redissonClient.getConfig();
+        if (config == null || !config.isClusterConfig()) {
+            return null;
+        }
+        Method clusterServersMethod = ReflectionUtils.findMethod(Config.class, "getClusterServersConfig");
+        if (clusterServersMethod != null) {
+            ReflectionUtils.makeAccessible(clusterServersMethod);
+            Object clusterServersObject = ReflectionUtils.invokeMethod(clusterServersMethod, config);
+            if (clusterServersObject instanceof ClusterServersConfig clusterServersConfig
+                    && clusterServersConfig.getNameMapper() != null) {
+                return clusterServersConfig.getNameMapper();
+            }
+        }
+        return NameMapper.direct();
+    }
+
+    private void executeChunk(List<Map.Entry<CounterKey, Long>> chunk) {
+        // 原子执行, 失败时整批都未生效, 放回本地重试不会重复计数; 不跳过响应, 否则无法感知 EXEC 失败
+        BatchOptions options = batchProperties.createBatchOptions(false)
+            .executionMode(BatchOptions.ExecutionMode.REDIS_WRITE_ATOMIC);
+        RBatch batch = redissonClient.createBatch(options);
+        for (Map.Entry<CounterKey, Long> entry : chunk) {
+            CounterKey counterKey = entry.getKey();
+            if (counterKey.field == null) {
+                batch.getAtomicLong(counterKey.key).addAndGetAsync(entry.getValue());
+            }
+            else {
+                batch.getScript(StringCodec.INSTANCE)
+                    .evalAsync(counterKey.key, RScript.Mode.READ_WRITE, HINCRBY_SCRIPT, RScript.ReturnType.INTEGER,
+                            Collections.singletonList(counterKey.key), counterKey.field,
+                            Long.toString(entry.getValue()));
+            }
+        }
+        batch.execute();
+    }
+
+    /**
+     * 计数器 key, field 为 null 时表示 key 计数
+     */
+    private static final class CounterKey {
+
+        private final String key;
+
+        private final String field;
+
+        private CounterKey(String key, String field) {
+            Assert.hasText(key, "key must not be empty");
+            this.key = key;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CounterKey that)) {
+                return false;
+            }
+            return key.equals(that.key) && Objects.equals(field, that.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, field);
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.delay;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * <p>
+ * 延迟任务, 保存在 Redis 延迟队列中
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class DelayedJob implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 任务ID
+     */
+    private String id;
+
+    /**
+     * 任务主题, 对应 DelayedJobHandler#getTopic
+     */
+    private String topic;
+
+    /**
+     * 任务数据
+     */
+    private Object payload;
+
+    /**
+     * 已失败次数
+     */
+    private int attempts;
+
+    /**
+     * 计划执行时间戳(毫秒)
+     */
+    private long executeTime;
+
+    /**
+     * 最近一次失败原因
+     */
+    private String lastError;
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.delay;
+
+/**
+ * <p>
+ * 延迟任务处理器, 按主题分发, 开启 spring.pxc-framework-boot3.redisson.delay.enabled 并注册为 Spring Bean
+ * 后自动生效
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public interface DelayedJobHandler<T> {
+
+    /**
+     * 任务主题
+     * @return topic
+     */
+    String getTopic();
+
+    /**
+     * 处理到期任务, 抛出异常时按配置重试, 重试耗尽后转入死信列表; 任务可能被重复执行, 处理逻辑需保证幂等
+     * @param payload 任务数据
+     * @throws Exception 处理失败
+     */
+    void handle(T payload) throws Exception;
+
+}
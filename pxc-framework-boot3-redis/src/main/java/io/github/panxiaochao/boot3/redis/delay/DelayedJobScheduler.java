@@ -0,0 +1,283 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.delay;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RDelayedQueue;
+import org.redisson.api.RList;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 基于 Redisson RDelayedQueue 的延迟任务调度器
+ * </p>
+ * <pre>
+ * 1. 每个主题使用单独的队列(queueName:topic), 节点只拉取已注册处理器的主题, 不会误处理其他服务的任务
+ * 2. schedule 将任务写入延迟队列, 到期后由 Redisson 转移到该主题的阻塞队列
+ * 3. 拉取线程阻塞等待第一个到期任务, 再一次取出剩余的 batchSize-1 个, 交给处理器依次处理
+ * 4. 处理失败的任务按 retryDelay 指数退避重新放回延迟队列, 超过 maxRetries 后写入死信列表(queueName:topic:dlq);
+ *    放回时 Redis 异常只记录该任务, 不影响同批其余任务
+ * 5. 任务出队后节点宕机会丢失该批任务, 对可靠性要求高的场景请使用 Redis Stream
+ * 6. RDelayedQueue 在 Redisson 3.52 中已标记过时, 替代的 RReliableQueue 仅 Redisson PRO 提供, 因此在类上屏蔽过时警告
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@SuppressWarnings("deprecation")
+public class DelayedJobScheduler implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelayedJobScheduler.class);
+
+    /**
+     * 死信列表后缀
+     */
+    public static final String DEAD_LETTER_SUFFIX = ":dlq";
+
+    private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+    private final RedissonClient redissonClient;
+
+    private final Redisson3Properties.Delay properties;
+
+    private final Map<String, DelayedJobHandler<?>> handlers = new ConcurrentHashMap<>();
+
+    private final Map<String, RDelayedQueue<DelayedJob>> delayedQueues = new ConcurrentHashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public DelayedJobScheduler(RedissonClient redissonClient, Redisson3Properties.Delay properties,
+            Collection<DelayedJobHandler<?>> handlers) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(properties, "properties must not be null");
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        if (handlers != null) {
+            handlers.forEach(this::register);
+        }
+    }
+
+    /**
+     * 注册处理器, 同一主题只能注册一个, 调度器已启动时立即开始拉取该主题
+     * @param handler handler
+     */
+    public synchronized void register(DelayedJobHandler<?> handler) {
+        Assert.notNull(handler, "handler must not be null");
+        Assert.hasText(handler.getTopic(), "handler topic must not be empty");
+        DelayedJobHandler<?> previous = handlers.putIfAbsent(handler.getTopic(), handler);
+        Assert.isNull(previous, () -> "duplicate DelayedJobHandler for topic: " + handler.getTopic());
+        if (running) {
+            startWorkers(handler.getTopic());
+        }
+    }
+
+    /**
+     * 延迟执行任务
+     * @param topic 任务主题
+     * @param payload 任务数据
+     * @param delay 延迟时间
+     * @return 任务ID
+     */
+    public String schedule(String topic, Object payload, Duration delay) {
+        Assert.hasText(topic, "topic must not be empty");
+        long delayMillis = Math.max(0, delay.toMillis());
+        DelayedJob job = new DelayedJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setTopic(topic);
+        job.setPayload(payload);
+        job.setExecuteTime(System.currentTimeMillis() + delayMillis);
+        getDelayedQueue(topic).offer(job, delayMillis, TimeUnit.MILLISECONDS);
+        return job.getId();
+    }
+
+    /**
+     * 指定时间执行任务, 时间已过时立即执行
+     * @param topic 任务主题
+     * @param payload 任务数据
+     * @param executeTime 执行时间
+     * @return 任务ID
+     */
+    public String schedule(String topic, Object payload, Instant executeTime) {
+        return schedule(topic, payload, Duration.between(Instant.now(), executeTime));
+    }
+
+    /**
+     * 主题的死信列表
+     * @param topic 任务主题
+     * @return RList
+     */
+    public RList<DelayedJob> getDeadLetterList(String topic) {
+        return redissonClient.getList(queueName(topic) + DEAD_LETTER_SUFFIX);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        start();
+    }
+
+    /**
+     * 启动已注册主题的拉取线程
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        handlers.keySet().forEach(this::startWorkers);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        running = false;
+        long deadline = System.currentTimeMillis() + properties.getPollTimeout().toMillis() + 1000;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+            }
+        }
+        workers.clear();
+        // 停止本节点的延迟队列转移任务, 不删除队列数据
+        delayedQueues.values().forEach(RDelayedQueue::destroy);
+        delayedQueues.clear();
+    }
+
+    private void startWorkers(String topic) {
+        // 创建延迟队列, 本节点负责将到期任务转移到阻塞队列
+        getDelayedQueue(topic);
+        int concurrency = Math.max(1, properties.getConcurrency());
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> poll(topic), "pxc-redis-delay-" + topic + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        LOGGER.info("配置[Redis -> DelayedJob({})]成功！", queueName(topic));
+    }
+
+    private RDelayedQueue<DelayedJob> getDelayedQueue(String topic) {
+        return delayedQueues.computeIfAbsent(topic,
+                key -> redissonClient.getDelayedQueue(redissonClient.<DelayedJob>getBlockingQueue(queueName(key))));
+    }
+
+    private String queueName(String topic) {
+        return properties.getQueueName() + ":" + topic;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void poll(String topic) {
+        DelayedJobHandler<Object> handler = (DelayedJobHandler<Object>) handlers.get(topic);
+        RBlockingQueue<DelayedJob> blockingQueue = redissonClient.getBlockingQueue(queueName(topic));
+        long pollTimeoutMillis = properties.getPollTimeout().toMillis();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (running) {
+            try {
+                DelayedJob first = blockingQueue.poll(pollTimeoutMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                dispatch(handler, first);
+                if (batchSize > 1) {
+                    // 阻塞等到第一个任务后, 一次取出其余已到期任务
+                    blockingQueue.poll(batchSize - 1).forEach(job -> dispatch(handler, job));
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("poll delayed job from [{}] failed: {}", queueName(topic), e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(ERROR_BACKOFF_MILLIS);
+                }
+                catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(DelayedJobHandler<Object> handler, DelayedJob job) {
+        try {
+            handler.handle(job.getPayload());
+        }
+        catch (Throwable e) {
+            // Error 同样进入重试, 避免拉取线程退出并丢弃同批剩余任务
+            try {
+                retry(job, e);
+            }
+            catch (Exception ex) {
+                // 放回 Redis 失败时该任务无法重试, 记录完整任务便于人工补偿, 继续处理同批其余任务
+                LOGGER.error("delayed job [{}] topic [{}] failed and could not be requeued, payload: {}", job.getId(),
+                        job.getTopic(), job.getPayload(), ex);
+            }
+        }
+    }
+
+    private void retry(DelayedJob job, Throwable e) {
+        job.setAttempts(job.getAttempts() + 1);
+        job.setLastError(e.getClass().getName() + ": " + e.getMessage());
+        if (job.getAttempts() > properties.getMaxRetries()) {
+            LOGGER.error("delayed job [{}] topic [{}] failed {} times, moved to dead letter", job.getId(),
+                    job.getTopic(), job.getAttempts(), e);
+            getDeadLetterList(job.getTopic()).add(job);
+            return;
+        }
+        long delayMillis = retryDelayMillis(job.getAttempts());
+        LOGGER.warn("delayed job [{}] topic [{}] failed, retry {} in {}ms: {}", job.getId(), job.getTopic(),
+                job.getAttempts(), delayMillis, e.getMessage());
+        job.setExecuteTime(System.currentTimeMillis() + delayMillis);
+        getDelayedQueue(job.getTopic()).offer(job, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private long retryDelayMillis(int attempts) {
+        long baseMillis = properties.getRetryDelay().toMillis();
+        long maxMillis = properties.getMaxRetryDelay().toMillis();
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxMillis, baseMillis << shift);
+    }
+
+}
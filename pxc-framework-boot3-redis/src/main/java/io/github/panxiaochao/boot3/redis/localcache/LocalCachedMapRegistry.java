@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.localcache;
+
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * RLocalCachedMap 实例注册表, 每个名称只创建一个实例
+ * </p>
+ * <pre>
+ * 1. 每个实例都会订阅同步 topic 并持有本地缓存, 重复创建会导致监听与内存泄漏
+ * 2. 按名称使用单独配置, 未配置的名称使用默认配置
+ * 3. 容器关闭时销毁全部实例, 移除监听
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class LocalCachedMapRegistry implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalCachedMapRegistry.class);
+
+    private final RedissonClient redissonClient;
+
+    private final LocalCachedMapSpec defaultSpec;
+
+    private final Map<String, LocalCachedMapSpec> specs;
+
+    private final ConcurrentMap<String, RLocalCachedMap<?, ?>> instanceMap = new ConcurrentHashMap<>();
+
+    public LocalCachedMapRegistry(RedissonClient redissonClient, LocalCachedMapSpec defaultSpec,
+            Map<String, LocalCachedMapSpec> specs) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(defaultSpec, "defaultSpec must not be null");
+        this.redissonClient = redissonClient;
+        this.defaultSpec = defaultSpec;
+        this.specs = specs != null ? Map.copyOf(specs) : Collections.emptyMap();
+    }
+
+    /**
+     * 获取或创建 RLocalCachedMap
+     * @param name name of object
+     * @return RLocalCachedMap
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> RLocalCachedMap<K, V> getMap(String name) {
+        return (RLocalCachedMap<K, V>) instanceMap.computeIfAbsent(name,
+                key -> redissonClient.getLocalCachedMap(specs.getOrDefault(key, defaultSpec).<K, V>toOptions(key)));
+    }
+
+    /**
+     * 已创建的名称
+     * @return names
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(instanceMap.keySet());
+    }
+
+    @Override
+    public void destroy() {
+        instanceMap.forEach((name, map) -> {
+            try {
+                map.destroy();
+            }
+            catch (Exception e) {
+                LOGGER.warn("destroy local cached map [{}] failed: {}", name, e.getMessage());
+            }
+        });
+        instanceMap.clear();
+    }
+
+}
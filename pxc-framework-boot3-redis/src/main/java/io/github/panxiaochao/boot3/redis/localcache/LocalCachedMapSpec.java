@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.localcache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.redisson.api.options.LocalCachedMapOptions;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ * RLocalCachedMap 本地缓存配置, 适用于读多写少的 Hash, 如权限、字典
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@Getter
+@Setter
+public class LocalCachedMapSpec {
+
+    /**
+     * 本地缓存最大条数, 0 表示不限制, 默认1000
+     */
+    private int cacheSize = 1000;
+
+    /**
+     * 超过 cacheSize 时的淘汰策略, 默认 LRU
+     */
+    private LocalCachedMapOptions.EvictionPolicy evictionPolicy = LocalCachedMapOptions.EvictionPolicy.LRU;
+
+    /**
+     * 其他节点修改后的同步策略, INVALIDATE 删除本地条目, UPDATE 推送新值, 默认 INVALIDATE
+     */
+    private LocalCachedMapOptions.SyncStrategy syncStrategy = LocalCachedMapOptions.SyncStrategy.INVALIDATE;
+
+    /**
+     * 断线重连后的策略, CLEAR 清空本地缓存, LOAD 清空并按断线期间的变更重新加载, 默认 CLEAR
+     */
+    private LocalCachedMapOptions.ReconnectionStrategy reconnectionStrategy = LocalCachedMapOptions.ReconnectionStrategy.CLEAR;
+
+    /**
+     * 本地条目存活时间, 0 表示不过期
+     */
+    private Duration timeToLive = Duration.ZERO;
+
+    /**
+     * 本地条目最大空闲时间, 0 表示不过期
+     */
+    private Duration maxIdle = Duration.ZERO;
+
+    /**
+     * 本地缓存实现, 默认 REDISSON
+     */
+    private LocalCachedMapOptions.CacheProvider cacheProvider = LocalCachedMapOptions.CacheProvider.REDISSON;
+
+    /**
+     * 是否在本地缓存 Redis 中不存在的 key, 避免反复穿透, 默认false
+     */
+    private boolean storeCacheMiss = false;
+
+    /**
+     * 转换为 LocalCachedMapOptions
+     * @param name name of object
+     * @return LocalCachedMapOptions
+     */
+    public <K, V> LocalCachedMapOptions<K, V> toOptions(String name) {
+        return LocalCachedMapOptions.<K, V>name(name)
+            .cacheSize(cacheSize)
+            .evictionPolicy(evictionPolicy)
+            .syncStrategy(syncStrategy)
+            .reconnectionStrategy(reconnectionStrategy)
+            .timeToLive(timeToLive)
+            .maxIdle(maxIdle)
+            .cacheProvider(cacheProvider)
+            .storeCacheMiss(storeCacheMiss);
+    }
+
+}
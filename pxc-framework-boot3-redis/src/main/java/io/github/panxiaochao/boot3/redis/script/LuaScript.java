@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.script;
+
+import org.redisson.api.RScript;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Lua 脚本类型化定义, 名称对应 .lua 文件名(不含扩展名)
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public final class LuaScript<R> {
+
+    /**
+     * 不存在时设置值及过期时间, 已存在时返回旧值, 参数: value, ttl(毫秒, 为0时不设置)
+     */
+    public static final LuaScript<String> SET_IF_ABSENT_WITH_TTL = new LuaScript<>("set_if_absent_with_ttl",
+            RScript.Mode.READ_WRITE, RScript.ReturnType.VALUE);
+
+    /**
+     * 值等于期望值时删除, 参数: expected, 返回删除的数量
+     */
+    public static final LuaScript<Long> COMPARE_AND_DELETE = new LuaScript<>("compare_and_delete",
+            RScript.Mode.READ_WRITE, RScript.ReturnType.INTEGER);
+
+    /**
+     * 增加后不超过上限时增加, 参数: delta, cap, ttl(毫秒), 返回 [1, 增加后的值], 超过上限返回 null
+     */
+    public static final LuaScript<List<Object>> INCREMENT_WITH_CAP = new LuaScript<>("increment_with_cap",
+            RScript.Mode.READ_WRITE, RScript.ReturnType.MULTI);
+
+    /**
+     * Count-Min Sketch 保守更新, 参数: count, 每行的计数器下标, 返回增加后的估计值
+     */
+    public static final LuaScript<Long> COUNT_MIN_ADD = new LuaScript<>("count_min_add", RScript.Mode.READ_WRITE,
+            RScript.ReturnType.INTEGER);
+
+    /**
+     * Count-Min Sketch 估计值, 参数: 每行的计数器下标, 返回最小值
+     */
+    public static final LuaScript<Long> COUNT_MIN_ESTIMATE = new LuaScript<>("count_min_estimate",
+            RScript.Mode.READ_ONLY, RScript.ReturnType.INTEGER);
+
+    private final String name;
+
+    private final RScript.Mode mode;
+
+    private final RScript.ReturnType returnType;
+
+    private LuaScript(String name, RScript.Mode mode, RScript.ReturnType returnType) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.notNull(mode, "mode must not be null");
+        Assert.notNull(returnType, "returnType must not be null");
+        this.name = name;
+        this.mode = mode;
+        this.returnType = returnType;
+    }
+
+    /**
+     * 定义脚本
+     * @param name 脚本名称, 对应 .lua 文件名
+     * @param mode 读写模式, READ_ONLY 可路由到从节点
+     * @param returnType 返回类型, 需与 R 对应: BOOLEAN-Boolean, INTEGER-Long, VALUE-String,
+     * MULTI-List
+     * @return LuaScript
+     */
+    public static <R> LuaScript<R> of(String name, RScript.Mode mode, RScript.ReturnType returnType) {
+        return new LuaScript<>(name, mode, returnType);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RScript.Mode getMode() {
+        return mode;
+    }
+
+    public RScript.ReturnType getReturnType() {
+        return returnType;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.script;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Lua 脚本注册表, 将多次往返的复合操作合并为一次原子调用
+ * </p>
+ * <pre>
+ * 1. 启动时从 locations 加载 .lua 文件, 名称为文件名(不含扩展名), 后加载的同名脚本覆盖先加载的
+ * 2. 启动时通过 SCRIPT LOAD 预加载, 执行时使用 EVALSHA 只发送 SHA1
+ * 3. Redis 重启或故障转移后脚本缓存丢失(NOSCRIPT)时自动使用 EVAL 执行, EVAL 会重新缓存脚本
+ * 4. 参数及返回值使用 StringCodec, 脚本操作的 key 与 RedissonUtil 的对象序列化格式不互通
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class LuaScriptRegistry implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LuaScriptRegistry.class);
+
+    private static final String LUA_SUFFIX = ".lua";
+
+    private final RedissonClient redissonClient;
+
+    private final Redisson3Properties.Script properties;
+
+    private final Map<String, Entry> scripts = new ConcurrentHashMap<>();
+
+    public LuaScriptRegistry(RedissonClient redissonClient, Redisson3Properties.Script properties) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(properties, "properties must not be null");
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (String location : properties.getLocations()) {
+            try {
+                for (Resource resource : resolver.getResources(location)) {
+                    String filename = resource.getFilename();
+                    if (filename != null && filename.endsWith(LUA_SUFFIX)) {
+                        register(filename.substring(0, filename.length() - LUA_SUFFIX.length()), read(resource));
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException("load lua scripts from [" + location + "] failed", e);
+            }
+        }
+        if (properties.isPreload()) {
+            preload();
+        }
+        LOGGER.info("配置[Redis -> LuaScript({})]成功！", scripts.size());
+    }
+
+    /**
+     * 注册脚本, 同名覆盖
+     * @param name 脚本名称
+     * @param source 脚本内容
+     */
+    public void register(String name, String source) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.hasText(source, "source must not be empty");
+        if (scripts.put(name, new Entry(source, sha1(source))) != null) {
+            LOGGER.info("lua script [{}] is overridden", name);
+        }
+    }
+
+    /**
+     * 执行脚本, 优先 EVALSHA, NOSCRIPT 时使用 EVAL
+     * @param script 脚本定义
+     * @param keys KEYS, 集群模式下需在同一 slot, 第一个 key 用于路由
+     * @param args ARGV, 按 String.valueOf 转换
+     * @return 脚本返回值
+     */
+    public <R> R execute(LuaScript<R> script, List<Object> keys, Object... args) {
+        Entry entry = scripts.get(script.getName());
+        Assert.notNull(entry, () -> "lua script [" + script.getName() + "] is not registered");
+        RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> scriptKeys = keys != null ? keys : Collections.emptyList();
+        Object[] values = toValues(args);
+        String routingKey = scriptKeys.isEmpty() ? null : String.valueOf(scriptKeys.get(0));
+        try {
+            return routingKey == null
+                    ? rScript.evalSha(script.getMode(), entry.sha, script.getReturnType(), scriptKeys, values) : rScript
+                        .evalSha(routingKey, script.getMode(), entry.sha, script.getReturnType(), scriptKeys, values);
+        }
+        catch (RedisException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            LOGGER.debug("lua script [{}] not cached, fallback to EVAL", script.getName());
+            return routingKey == null
+                    ? rScript.eval(script.getMode(), entry.source, script.getReturnType(), scriptKeys, values) : rScript
+                        .eval(routingKey, script.getMode(), entry.source, script.getReturnType(), scriptKeys, values);
+        }
+    }
+
+    /**
+     * 在批量命令中执行脚本, 使用 EVALSHA; NOSCRIPT 时该命令未执行, 由调用方通过 {@link #isNoScript} 判断后使用
+     * {@link #execute} 单独重试
+     * @param batch 批量命令
+     * @param script 脚本定义
+     * @param keys KEYS, 集群模式下需在同一 slot, 第一个 key 用于路由
+     * @param args ARGV, 按 String.valueOf 转换
+     * @return 脚本返回值
+     */
+    public <R> RFuture<R> executeAsync(RBatch batch, LuaScript<R> script, List<Object> keys, Object... args) {
+        Entry entry = scripts.get(script.getName());
+        Assert.notNull(entry, () -> "lua script [" + script.getName() + "] is not registered");
+        RScriptAsync rScript = batch.getScript(StringCodec.INSTANCE);
+        List<Object> scriptKeys = keys != null ? keys : Collections.emptyList();
+        Object[] values = toValues(args);
+        return scriptKeys.isEmpty()
+                ? rScript.evalShaAsync(script.getMode(), entry.sha, script.getReturnType(), scriptKeys, values)
+                : rScript.evalShaAsync(String.valueOf(scriptKeys.get(0)), script.getMode(), entry.sha,
+                        script.getReturnType(), scriptKeys, values);
+    }
+
+    /**
+     * 已注册的脚本名称
+     * @return names
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(scripts.keySet());
+    }
+
+    /**
+     * 脚本的 SHA1
+     * @param name 脚本名称
+     * @return sha1, 未注册时返回 null
+     */
+    public String getSha(String name) {
+        Entry entry = scripts.get(name);
+        return entry == null ? null : entry.sha;
+    }
+
+    /**
+     * 预加载全部脚本, 集群模式下 Redisson 会加载到所有主节点; 失败不影响启动, 执行时由 NOSCRIPT 兜底
+     */
+    public void preload() {
+        RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+        scripts.forEach((name, entry) -> {
+            try {
+                rScript.scriptLoad(entry.source);
+            }
+            catch (Exception e) {
+                LOGGER.warn("preload lua script [{}] failed: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 是否为脚本未缓存(NOSCRIPT)异常
+     * @param e 异常
+     * @return <code>true</code> if NOSCRIPT
+     */
+    public static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (StringUtils.hasText(cause.getMessage()) && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object[] toValues(Object[] args) {
+        Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            values[i] = String.valueOf(args[i]);
+        }
+        return values;
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String sha1(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String source;
+
+        private final String sha;
+
+        private Entry(String source, String sha) {
+            this.source = source;
+            this.sha = sha;
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.sketch;
+
+import io.github.panxiaochao.boot3.redis.script.LuaScript;
+import io.github.panxiaochao.boot3.redis.script.LuaScriptRegistry;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>
+ * 基于 Redis BITFIELD 的 Count-Min Sketch, 用于近似统计元素出现次数
+ * </p>
+ * <pre>
+ * 1. 计数器为 depth 行 width 列的 u32, 保存在一个 String 中, 占用 width * depth * 4 字节
+ * 2. 元素的哈希在客户端计算, 每次增加或查询只需一次 Lua 调用(内部一次 BITFIELD 读与一次写),
+ *    脚本由 {@link LuaScriptRegistry} 加载, 使用 EVALSHA 执行
+ * 3. 增加时使用保守更新(conservative update), 只增加等于最小值的计数器, 降低高估误差
+ * 4. 估计值只会高估不会低估, 误差不超过 epsilon * 总次数的概率为 confidence
+ * 5. 同一 key 的 width、depth 必须一致, 修改参数后请使用新 key
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RedisCountMinSketch {
+
+    private final RedissonClient redissonClient;
+
+    private final LuaScriptRegistry scriptRegistry;
+
+    private final String name;
+
+    private final int width;
+
+    private final int depth;
+
+    public RedisCountMinSketch(RedissonClient redissonClient, LuaScriptRegistry scriptRegistry, String name, int width,
+            int depth) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(scriptRegistry, "scriptRegistry must not be null");
+        Assert.hasText(name, "name must not be empty");
+        Assert.isTrue(width > 0 && depth > 0, "width and depth must be positive");
+        Assert.isTrue((long) width * depth * 32 <= 4294967296L, "width * depth exceeds the 512MB string limit");
+        this.redissonClient = redissonClient;
+        this.scriptRegistry = scriptRegistry;
+        this.name = name;
+        this.width = width;
+        this.depth = depth;
+    }
+
+    /**
+     * 按误差率创建, width = ceil(e / epsilon), depth = ceil(ln(1 / (1 - confidence)))
+     * @param redissonClient redissonClient
+     * @param scriptRegistry 脚本注册表, 需已加载 count_min_add、count_min_estimate
+     * @param name key
+     * @param epsilon 相对总次数的误差率, 例如 0.001
+     * @param confidence 置信度, 例如 0.99
+     * @return RedisCountMinSketch
+     */
+    public static RedisCountMinSketch ofErrorRate(RedissonClient redissonClient, LuaScriptRegistry scriptRegistry,
+            String name, double epsilon, double confidence) {
+        Assert.isTrue(epsilon > 0 && epsilon < 1, "epsilon must be between 0 and 1");
+        Assert.isTrue(confidence > 0 && confidence < 1, "confidence must be between 0 and 1");
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+        return new RedisCountMinSketch(redissonClient, scriptRegistry, name, width, depth);
+    }
+
+    /**
+     * 元素次数加1
+     * @param item 元素
+     * @return 增加后的估计次数
+     */
+    public long add(String item) {
+        return add(item, 1);
+    }
+
+    /**
+     * 元素次数增加 count
+     * @param item 元素
+     * @param count 增加次数
+     * @return 增加后的估计次数
+     */
+    public long add(String item, long count) {
+        Assert.isTrue(count > 0, "count must be positive");
+        Long result = scriptRegistry.execute(LuaScript.COUNT_MIN_ADD, Collections.singletonList(name),
+                addArgs(item, count));
+        return result == null ? 0 : result;
+    }
+
+    /**
+     * 管道批量增加次数
+     * @param counts 元素及增加次数
+     * @return 元素及增加后的估计次数
+     */
+    public Map<String, Long> addAll(Map<String, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>(counts.size() * 2);
+        if (counts.isEmpty()) {
+            return result;
+        }
+        RBatch batch = redissonClient.createBatch();
+        Map<String, RFuture<Long>> futures = new LinkedHashMap<>(counts.size() * 2);
+        counts.forEach((item, count) -> {
+            if (count != null && count > 0) {
+                futures.put(item, scriptRegistry.executeAsync(batch, LuaScript.COUNT_MIN_ADD,
+                        Collections.singletonList(name), addArgs(item, count)));
+            }
+        });
+        try {
+            batch.execute();
+        }
+        catch (RedisException e) {
+            if (!LuaScriptRegistry.isNoScript(e)) {
+                throw e;
+            }
+        }
+        futures.forEach((item, future) -> {
+            try {
+                result.put(item, future.toCompletableFuture().join());
+            }
+            catch (CompletionException e) {
+                if (!LuaScriptRegistry.isNoScript(e)) {
+                    throw e;
+                }
+                // NOSCRIPT 的命令未执行, 单独重试, EVAL 会重新缓存脚本
+                result.put(item, scriptRegistry.execute(LuaScript.COUNT_MIN_ADD, Collections.singletonList(name),
+                        addArgs(item, counts.get(item))));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 估计元素出现次数
+     * @param item 元素
+     * @return 估计次数
+     */
+    public long estimate(String item) {
+        Long result = scriptRegistry.execute(LuaScript.COUNT_MIN_ESTIMATE, Collections.singletonList(name),
+                indexArgs(item, 0));
+        return result == null ? 0 : result;
+    }
+
+    /**
+     * 设置过期时间, 例如按天统计的 key
+     * @param duration 过期时间
+     * @return true if the timeout was set
+     */
+    public boolean expire(Duration duration) {
+        return redissonClient.getBucket(name).expire(duration);
+    }
+
+    /**
+     * 删除
+     * @return true if deleted
+     */
+    public boolean delete() {
+        return redissonClient.getBucket(name).delete();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    private Object[] addArgs(String item, long count) {
+        Object[] args = indexArgs(item, 1);
+        args[0] = Long.toString(count);
+        return args;
+    }
+
+    /**
+     * 使用 MD5 的两个64位值做双重哈希, 第 i 行下标为 i * width + (h1 + i * h2) mod width, 跨节点结果一致
+     */
+    private Object[] indexArgs(String item, int offset) {
+        byte[] digest = md5(item.getBytes(StandardCharsets.UTF_8));
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        Object[] args = new Object[depth + offset];
+        for (int i = 0; i < depth; i++) {
+            long column = Math.floorMod(h1 + i * h2, (long) width);
+            args[i + offset] = Long.toString((long) i * width + column);
+        }
+        return args;
+    }
+
+    private static long toLong(byte[] bytes, int from) {
+        long value = 0;
+        for (int i = from; i < from + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static byte[] md5(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(bytes);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
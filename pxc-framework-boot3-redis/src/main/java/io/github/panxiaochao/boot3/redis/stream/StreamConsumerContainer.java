@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.stream;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.client.RedisException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * Redis Stream 消费组订阅容器, 管理全部订阅的消费者线程
+ * </p>
+ * <pre>
+ * 1. 订阅时自动创建消费组(不存在时同时创建 Stream), 新建的消费组从头开始消费
+ * 2. 消费者名称为 [group-RedissonClient.getId-序号], 节点重启后旧消费者的待确认消息由 XAUTOCLAIM 认领
+ * 3. 容器关闭时取消全部订阅, 等待消费者线程退出
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class StreamConsumerContainer implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamConsumerContainer.class);
+
+    private final RedissonClient redissonClient;
+
+    private final Redisson3Properties.Stream properties;
+
+    private final List<StreamSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    public StreamConsumerContainer(RedissonClient redissonClient, Redisson3Properties.Stream properties) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(properties, "properties must not be null");
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+    }
+
+    /**
+     * 订阅 Stream, 在消费者线程中依次处理消息
+     * @param streamName stream name
+     * @param group 消费组名称
+     * @param listener 消息监听器
+     * @return StreamSubscription
+     */
+    public <V> StreamSubscription<V> subscribe(String streamName, String group, StreamMessageListener<V> listener) {
+        return subscribe(streamName, group, listener, null);
+    }
+
+    /**
+     * 订阅 Stream, 每批消息在 executor 上并行处理, 全部处理完成后批量确认
+     * @param streamName stream name
+     * @param group 消费组名称
+     * @param listener 消息监听器
+     * @param executor 处理消息的线程池, 为 null 时在消费者线程中依次处理
+     * @return StreamSubscription
+     */
+    public <V> StreamSubscription<V> subscribe(String streamName, String group, StreamMessageListener<V> listener,
+            Executor executor) {
+        Assert.hasText(streamName, "streamName must not be empty");
+        Assert.hasText(group, "group must not be empty");
+        Assert.notNull(listener, "listener must not be null");
+        RStream<String, V> stream = redissonClient.getStream(streamName);
+        createGroup(stream, group);
+        StreamSubscription<V> subscription = new StreamSubscription<>(stream,
+                redissonClient.getStream(streamName + StreamSubscription.DEAD_LETTER_SUFFIX), group, listener, executor,
+                properties);
+        subscription.start(group + "-" + redissonClient.getId());
+        subscriptions.add(subscription);
+        LOGGER.info("配置[Redis -> Stream({}:{})]成功！", streamName, group);
+        return subscription;
+    }
+
+    /**
+     * 取消订阅并等待消费者线程退出
+     * @param subscription subscription
+     */
+    public void unsubscribe(StreamSubscription<?> subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.stop(stopTimeoutMillis());
+        }
+    }
+
+    /**
+     * 全部订阅
+     * @return subscriptions
+     */
+    public List<StreamSubscription<?>> getSubscriptions() {
+        return Collections.unmodifiableList(subscriptions);
+    }
+
+    /**
+     * 创建消费组, 已存在时忽略
+     * @param stream stream
+     * @param group 消费组名称
+     */
+    public static void createGroup(RStream<?, ?> stream, String group) {
+        try {
+            stream.createGroup(StreamCreateGroupArgs.name(group).id(StreamMessageId.ALL).makeStream());
+        }
+        catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // 先全部取消, 各消费者线程并行退出
+        subscriptions.forEach(StreamSubscription::cancel);
+        long timeoutMillis = stopTimeoutMillis();
+        subscriptions.forEach(subscription -> subscription.stop(timeoutMillis));
+        subscriptions.clear();
+    }
+
+    private long stopTimeoutMillis() {
+        return properties.getPollTimeout().toMillis() + 1000;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.stream;
+
+import org.redisson.api.StreamMessageId;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * Redis Stream 消息监听器, 正常返回后消息会被批量确认(XACK), 抛出异常则保留在待确认列表中等待重新投递
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface StreamMessageListener<V> {
+
+    /**
+     * 处理消息, 同一消息可能被重复投递, 处理逻辑需保证幂等
+     * @param id 消息ID
+     * @param body 消息内容
+     * @throws Exception 处理失败
+     */
+    void onMessage(StreamMessageId id, Map<String, V> body) throws Exception;
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.stream;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamPendingRangeArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Redis Stream 消费组订阅, 每个消费者线程循环执行:
+ * </p>
+ * <pre>
+ * 1. 按 claimInterval 间隔认领其他消费者(如已宕机)空闲超过 claimIdleTime 的待确认消息(XAUTOCLAIM)
+ * 2. 阻塞读取 batchSize 条新消息(XREADGROUP), 在 executor 上并行处理, 未指定 executor 时在消费者线程中依次处理
+ * 3. 处理成功的消息一次性确认(XACK), 失败的消息保留在待确认列表中, 空闲超时后重新认领
+ * 4. 投递次数超过 maxDeliveries 的消息写入死信 Stream(name:dlq) 后确认, 死信 Stream 同样按 maxLen 裁剪
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class StreamSubscription<V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamSubscription.class);
+
+    /**
+     * 死信 Stream 后缀
+     */
+    public static final String DEAD_LETTER_SUFFIX = ":dlq";
+
+    private static final Comparator<StreamMessageId> ID_COMPARATOR = Comparator.comparingLong(StreamMessageId::getId0)
+        .thenComparingLong(StreamMessageId::getId1);
+
+    private static final StreamMessageId START_ID = new StreamMessageId(0, 0);
+
+    private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+    private final RStream<String, V> stream;
+
+    private final RStream<String, V> deadLetterStream;
+
+    private final String group;
+
+    private final StreamMessageListener<V> listener;
+
+    private final Executor executor;
+
+    private final Redisson3Properties.Stream properties;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean active = true;
+
+    StreamSubscription(RStream<String, V> stream, RStream<String, V> deadLetterStream, String group,
+            StreamMessageListener<V> listener, Executor executor, Redisson3Properties.Stream properties) {
+        this.stream = stream;
+        this.deadLetterStream = deadLetterStream;
+        this.group = group;
+        this.listener = listener;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * 启动消费者线程
+     * @param consumerPrefix 消费者名称前缀, 需在所有节点中唯一
+     */
+    void start(String consumerPrefix) {
+        int concurrency = Math.max(1, properties.getConcurrency());
+        for (int i = 0; i < concurrency; i++) {
+            String consumerName = consumerPrefix + "-" + i;
+            Thread worker = new Thread(() -> poll(consumerName),
+                    "pxc-redis-stream-" + stream.getName() + "-" + group + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 取消订阅, 消费者线程在当前读取超时后退出
+     */
+    public void cancel() {
+        active = false;
+    }
+
+    /**
+     * 是否处于订阅中
+     * @return true or false
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 取消订阅并等待消费者线程退出
+     * @param timeoutMillis 最长等待时间
+     */
+    void stop(long timeoutMillis) {
+        cancel();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    public String getStreamName() {
+        return stream.getName();
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    private void poll(String consumerName) {
+        StreamReadGroupArgs readArgs = StreamReadGroupArgs.neverDelivered()
+            .count(Math.max(1, properties.getBatchSize()))
+            .timeout(properties.getPollTimeout());
+        long claimIntervalMillis = properties.getClaimInterval().toMillis();
+        long nextClaimTime = 0;
+        while (active && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (System.currentTimeMillis() >= nextClaimTime) {
+                    reclaim(consumerName);
+                    nextClaimTime = System.currentTimeMillis() + claimIntervalMillis;
+                }
+                Map<StreamMessageId, Map<String, V>> messages = stream.readGroup(group, consumerName, readArgs);
+                if (messages != null && !messages.isEmpty()) {
+                    process(messages);
+                }
+            }
+            catch (Exception e) {
+                if (!active) {
+                    break;
+                }
+                LOGGER.warn("stream [{}] group [{}] consumer [{}] poll failed: {}", stream.getName(), group,
+                        consumerName, e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(ERROR_BACKOFF_MILLIS);
+                }
+                catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 认领空闲超时的待确认消息, 单次最多遍历一轮待确认列表
+     */
+    private void reclaim(String consumerName) {
+        long idleMillis = properties.getClaimIdleTime().toMillis();
+        int count = Math.max(1, properties.getBatchSize());
+        StreamMessageId startId = START_ID;
+        do {
+            AutoClaimResult<String, V> result = stream.autoClaim(group, consumerName, idleMillis, TimeUnit.MILLISECONDS,
+                    startId, count);
+            Map<StreamMessageId, Map<String, V>> messages = result.getMessages();
+            if (messages != null && !messages.isEmpty()) {
+                LOGGER.info("stream [{}] group [{}] consumer [{}] reclaimed {} pending messages", stream.getName(),
+                        group, consumerName, messages.size());
+                process(deadLetter(consumerName, messages));
+            }
+            // 已被删除的消息无法处理, 直接确认移出待确认列表
+            acknowledge(result.getDeletedIds());
+            startId = result.getNextId();
+        }
+        while (active && startId != null && !START_ID.equals(startId));
+    }
+
+    /**
+     * 投递次数超过上限的消息写入死信 Stream 并确认, 返回剩余待处理的消息
+     */
+    private Map<StreamMessageId, Map<String, V>> deadLetter(String consumerName,
+            Map<StreamMessageId, Map<String, V>> messages) {
+        int maxDeliveries = properties.getMaxDeliveries();
+        if (maxDeliveries <= 0) {
+            return messages;
+        }
+        StreamMessageId first = messages.keySet().stream().min(ID_COMPARATOR).orElse(START_ID);
+        StreamMessageId last = messages.keySet().stream().max(ID_COMPARATOR).orElse(START_ID);
+        Map<StreamMessageId, PendingEntry> pendingEntries = stream
+            .listPending(StreamPendingRangeArgs.groupName(group)
+                .startId(first)
+                .endId(last)
+                .count(messages.size())
+                .consumerName(consumerName))
+            .stream()
+            .collect(Collectors.toMap(PendingEntry::getId, Function.identity()));
+        List<StreamMessageId> deadIds = new ArrayList<>();
+        messages.forEach((id, body) -> {
+            PendingEntry entry = pendingEntries.get(id);
+            // PendingEntry.getLastTimeDelivered 为投递次数
+            if (entry != null && entry.getLastTimeDelivered() > maxDeliveries) {
+                deadLetterStream.add(deadLetterArgs(body));
+                deadIds.add(id);
+            }
+        });
+        if (deadIds.isEmpty()) {
+            return messages;
+        }
+        LOGGER.error("stream [{}] group [{}] moved {} messages to [{}] after {} deliveries", stream.getName(), group,
+                deadIds.size(), deadLetterStream.getName(), maxDeliveries);
+        acknowledge(deadIds);
+        Map<StreamMessageId, Map<String, V>> remaining = new LinkedHashMap<>(messages);
+        deadIds.forEach(remaining::remove);
+        return remaining;
+    }
+
+    /**
+     * 死信 Stream 与 addStream 相同按 maxLen 近似裁剪, 避免无限增长
+     */
+    private StreamAddArgs<String, V> deadLetterArgs(Map<String, V> body) {
+        StreamAddArgs<String, V> args = StreamAddArgs.entries(body);
+        int maxLen = properties.getMaxLen();
+        return maxLen > 0 ? args.trimNonStrict().maxLen(maxLen).noLimit() : args;
+    }
+
+    private void process(Map<StreamMessageId, Map<String, V>> messages) {
+        Queue<StreamMessageId> successIds = new ConcurrentLinkedQueue<>();
+        if (executor == null) {
+            messages.forEach((id, body) -> handle(id, body, successIds));
+        }
+        else {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(messages.size());
+            messages.forEach((id, body) -> {
+                try {
+                    futures.add(CompletableFuture.runAsync(() -> handle(id, body, successIds), executor));
+                }
+                catch (RejectedExecutionException e) {
+                    // 线程池已满时在消费者线程中处理, 形成背压
+                    handle(id, body, successIds);
+                }
+            });
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+        acknowledge(successIds);
+    }
+
+    private void handle(StreamMessageId id, Map<String, V> body, Queue<StreamMessageId> successIds) {
+        try {
+            listener.onMessage(id, body);
+            successIds.add(id);
+        }
+        catch (Exception e) {
+            LOGGER.error("stream [{}] group [{}] message [{}] handle failed", stream.getName(), group, id, e);
+        }
+    }
+
+    private void acknowledge(Collection<StreamMessageId> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            stream.ack(group, ids.toArray(new StreamMessageId[0]));
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.topic;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * 共享订阅中心, 同一通道(或通道模式)在 Redis 上只订阅一次, 消息只解码一次后分发给本地监听器
+ * </p>
+ * <pre>
+ * 1. 每个本地监听器持有有界缓冲区, 在自己的线程池上按顺序处理, 慢监听器不会阻塞其他监听器
+ * 2. 缓冲区已满时按 TopicOverflowPolicy 丢弃或阻塞等待
+ * 3. 通道的最后一个本地监听器取消后移除 Redis 订阅
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TopicHub implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicHub.class);
+
+    private final RedissonClient redissonClient;
+
+    private final Redisson3Properties.Topic properties;
+
+    private final ExecutorService defaultExecutor;
+
+    private final Map<String, ChannelGroup> channels = new ConcurrentHashMap<>();
+
+    private final Map<String, ChannelGroup> patterns = new ConcurrentHashMap<>();
+
+    public TopicHub(RedissonClient redissonClient, Redisson3Properties.Topic properties) {
+        Assert.notNull(redissonClient, "redissonClient must not be null");
+        Assert.notNull(properties, "properties must not be null");
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        AtomicInteger index = new AtomicInteger();
+        this.defaultExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "pxc-redis-topic-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 订阅通道, 使用共享线程池及默认缓冲策略
+     * @param channel 通道
+     * @param type 消息类型, 类型不匹配的消息会被忽略
+     * @param listener 监听器
+     * @return TopicSubscription
+     */
+    public <T> TopicSubscription<T> subscribe(String channel, Class<T> type, TopicMessageListener<T> listener) {
+        return subscribe(channel, type, listener, defaultExecutor, properties.getOverflowPolicy());
+    }
+
+    /**
+     * 订阅通道
+     * @param channel 通道
+     * @param type 消息类型, 类型不匹配的消息会被忽略
+     * @param listener 监听器
+     * @param executor 监听器线程池
+     * @param overflowPolicy 缓冲区已满时的处理策略
+     * @return TopicSubscription
+     */
+    public <T> TopicSubscription<T> subscribe(String channel, Class<T> type, TopicMessageListener<T> listener,
+            Executor executor, TopicOverflowPolicy overflowPolicy) {
+        return addSubscription(channel, false, type, listener, executor, overflowPolicy);
+    }
+
+    /**
+     * 按模式订阅通道, 例如 config.*, 使用共享线程池及默认缓冲策略
+     * @param pattern 通道模式
+     * @param type 消息类型, 类型不匹配的消息会被忽略
+     * @param listener 监听器
+     * @return TopicSubscription
+     */
+    public <T> TopicSubscription<T> psubscribe(String pattern, Class<T> type, TopicMessageListener<T> listener) {
+        return psubscribe(pattern, type, listener, defaultExecutor, properties.getOverflowPolicy());
+    }
+
+    /**
+     * 按模式订阅通道
+     * @param pattern 通道模式
+     * @param type 消息类型, 类型不匹配的消息会被忽略
+     * @param listener 监听器
+     * @param executor 监听器线程池
+     * @param overflowPolicy 缓冲区已满时的处理策略
+     * @return TopicSubscription
+     */
+    public <T> TopicSubscription<T> psubscribe(String pattern, Class<T> type, TopicMessageListener<T> listener,
+            Executor executor, TopicOverflowPolicy overflowPolicy) {
+        return addSubscription(pattern, true, type, listener, executor, overflowPolicy);
+    }
+
+    /**
+     * 取消本地订阅, 通道没有本地监听器时移除 Redis 订阅
+     * @param subscription subscription
+     */
+    public synchronized void unsubscribe(TopicSubscription<?> subscription) {
+        subscription.cancel();
+        Map<String, ChannelGroup> groups = subscription.isPattern() ? patterns : channels;
+        ChannelGroup group = groups.get(subscription.getName());
+        if (group == null) {
+            return;
+        }
+        group.subscriptions.remove(subscription);
+        if (group.subscriptions.isEmpty()) {
+            groups.remove(subscription.getName());
+            removeRedisListener(subscription.getName(), subscription.isPattern(), group.listenerId);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        channels.forEach((name, group) -> removeRedisListener(name, false, group.listenerId));
+        patterns.forEach((name, group) -> removeRedisListener(name, true, group.listenerId));
+        channels.values().forEach(group -> group.subscriptions.forEach(TopicSubscription::cancel));
+        patterns.values().forEach(group -> group.subscriptions.forEach(TopicSubscription::cancel));
+        channels.clear();
+        patterns.clear();
+        defaultExecutor.shutdownNow();
+    }
+
+    private synchronized <T> TopicSubscription<T> addSubscription(String name, boolean pattern, Class<T> type,
+            TopicMessageListener<T> listener, Executor executor, TopicOverflowPolicy overflowPolicy) {
+        Assert.hasText(name, "channel must not be empty");
+        Assert.notNull(type, "type must not be null");
+        Assert.notNull(listener, "listener must not be null");
+        Assert.notNull(executor, "executor must not be null");
+        Assert.notNull(overflowPolicy, "overflowPolicy must not be null");
+        TopicSubscription<T> subscription = new TopicSubscription<>(name, pattern, type, listener, executor,
+                overflowPolicy, properties.getBufferSize(), properties.getBlockTimeout().toMillis());
+        Map<String, ChannelGroup> groups = pattern ? patterns : channels;
+        ChannelGroup group = groups.get(name);
+        if (group == null) {
+            group = new ChannelGroup();
+            group.listenerId = addRedisListener(name, pattern, group);
+            groups.put(name, group);
+            LOGGER.info("配置[Redis -> TopicHub({})]成功！", name);
+        }
+        group.subscriptions.add(subscription);
+        return subscription;
+    }
+
+    private int addRedisListener(String name, boolean pattern, ChannelGroup group) {
+        // 以 Object 类型解码, 每条消息只解码一次
+        if (pattern) {
+            return redissonClient.getPatternTopic(name)
+                .addListener(Object.class, (p, channel, message) -> group.dispatch(channel.toString(), message));
+        }
+        return redissonClient.getTopic(name)
+            .addListener(Object.class, (channel, message) -> group.dispatch(channel.toString(), message));
+    }
+
+    private void removeRedisListener(String name, boolean pattern, int listenerId) {
+        try {
+            if (pattern) {
+                redissonClient.getPatternTopic(name).removeListener(listenerId);
+            }
+            else {
+                redissonClient.getTopic(name).removeListener(listenerId);
+            }
+        }
+        catch (Exception e) {
+            LOGGER.warn("remove topic [{}] listener failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 同一通道的本地监听器
+     */
+    private static final class ChannelGroup {
+
+        private final List<TopicSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+        private int listenerId;
+
+        private void dispatch(String channel, Object message) {
+            for (TopicSubscription<?> subscription : subscriptions) {
+                subscription.offer(channel, message);
+            }
+        }
+
+    }
+
+}
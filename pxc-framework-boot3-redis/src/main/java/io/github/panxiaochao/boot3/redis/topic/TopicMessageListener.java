@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.topic;
+
+/**
+ * <p>
+ * TopicHub 本地消息监听器
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface TopicMessageListener<T> {
+
+    /**
+     * 处理消息
+     * @param channel 消息所在通道
+     * @param message 消息, 同一消息只解码一次, 所有监听器共享同一实例, 请勿修改
+     */
+    void onMessage(String channel, T message);
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.topic;
+
+/**
+ * <p>
+ * 本地监听器缓冲区已满时的处理策略
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public enum TopicOverflowPolicy {
+
+    /**
+     * 丢弃新消息, 不影响其他监听器
+     */
+    DROP,
+
+    /**
+     * 阻塞分发线程直到缓冲区有空位, 超过 blockTimeout 后丢弃; 会拖慢同一通道的其他监听器
+     */
+    BLOCK
+
+}
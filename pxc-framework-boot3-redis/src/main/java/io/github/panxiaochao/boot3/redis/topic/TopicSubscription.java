@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.topic;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * TopicHub 本地订阅, 持有有界缓冲区, 在自己的线程池上按顺序投递消息
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TopicSubscription<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicSubscription.class);
+
+    private final String name;
+
+    private final boolean pattern;
+
+    private final Class<T> type;
+
+    private final TopicMessageListener<T> listener;
+
+    private final Executor executor;
+
+    private final TopicOverflowPolicy overflowPolicy;
+
+    private final long blockTimeoutMillis;
+
+    private final BlockingQueue<Envelope> buffer;
+
+    /**
+     * 是否已提交投递任务, 保证同一订阅同一时间只有一个线程投递, 消息按顺序处理
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean active = true;
+
+    TopicSubscription(String name, boolean pattern, Class<T> type, TopicMessageListener<T> listener, Executor executor,
+            TopicOverflowPolicy overflowPolicy, int bufferSize, long blockTimeoutMillis) {
+        this.name = name;
+        this.pattern = pattern;
+        this.type = type;
+        this.listener = listener;
+        this.executor = executor;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+    }
+
+    /**
+     * 通道名称或通道模式
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 是否为模式订阅
+     * @return true or false
+     */
+    public boolean isPattern() {
+        return pattern;
+    }
+
+    /**
+     * 是否处于订阅中
+     * @return true or false
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 缓冲区已满被丢弃的消息数量
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 缓冲区中待处理的消息数量
+     * @return pending count
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    void cancel() {
+        active = false;
+        buffer.clear();
+    }
+
+    /**
+     * 放入缓冲区并提交投递任务, 由 Redisson 订阅线程调用
+     */
+    void offer(String channel, Object message) {
+        if (!active || !type.isInstance(message)) {
+            return;
+        }
+        Envelope envelope = new Envelope(channel, message);
+        boolean added;
+        if (overflowPolicy == TopicOverflowPolicy.BLOCK) {
+            try {
+                added = buffer.offer(envelope, blockTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                added = false;
+            }
+        }
+        else {
+            added = buffer.offer(envelope);
+        }
+        if (!added) {
+            long dropped = droppedCount.incrementAndGet();
+            // 避免日志刷屏, 首次及每1000次记录一次
+            if (dropped % 1000 == 1) {
+                LOGGER.warn("topic [{}] listener buffer is full, dropped {} messages", name, dropped);
+            }
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            }
+            catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                LOGGER.warn("topic [{}] listener executor rejected: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Envelope envelope;
+            while (active && (envelope = buffer.poll()) != null) {
+                try {
+                    listener.onMessage(envelope.channel, type.cast(envelope.message));
+                }
+                catch (Exception e) {
+                    LOGGER.error("topic [{}] listener handle message failed", envelope.channel, e);
+                }
+            }
+        }
+        finally {
+            scheduled.set(false);
+            // 释放标记后可能有新消息进入, 重新检查
+            if (active && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class Envelope {
+
+        private final String channel;
+
+        private final Object message;
+
+        private Envelope(String channel, Object message) {
+            this.channel = channel;
+            this.message = message;
+        }
+
+    }
+
+}
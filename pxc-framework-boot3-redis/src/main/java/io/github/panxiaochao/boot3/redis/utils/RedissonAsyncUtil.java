@@ -0,0 +1,734 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.utils;
+
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import io.github.panxiaochao.boot3.core.utils.StringPools;
+import org.redisson.api.*;
+import org.redisson.api.geo.GeoSearchArgs;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Redisson 异步工具类, 与 {@link RedissonUtil} 对应, 所有方法立即返回 {@link CompletionStage}, 不阻塞调用线程
+ * </p>
+ * <pre>
+ * 1. 适用于虚拟线程、Netty 事件循环等不允许阻塞的场景
+ * 2. 回调默认在 Redisson 的 Netty 线程中执行, 回调内的耗时操作请使用 *Async(..., executor) 切换线程
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RedissonAsyncUtil {
+
+    /**
+     * constructor private
+     */
+    private RedissonAsyncUtil() {
+    }
+
+    /**
+     * Obtain RedissonClient
+     * @return RedissonClient
+     */
+    private static RedissonClient ofRedissonClient() {
+        return RedissonUtil.ofRedissonClient();
+    }
+
+    // ------------------------------- Key查询类型操作 --------------------------------
+
+    /**
+     * 返回当前所选数据库中的键数量
+     * @return count of keys
+     */
+    public static CompletionStage<Long> countKeys() {
+        return ofRedissonClient().getKeys().countAsync();
+    }
+
+    /**
+     * 按 keys 删除多个对象
+     * @param keys - object names
+     * @return number of removed keys
+     */
+    public static CompletionStage<Long> deleteKeys(String... keys) {
+        return ofRedissonClient().getKeys().deleteAsync(keys).whenComplete((result, throwable) -> {
+            for (String key : keys) {
+                RedissonUtil.invalidateHotKey(key);
+            }
+        });
+    }
+
+    // ------------------------------- Object 类型操作 --------------------------------
+
+    /**
+     * 获取值, 开启热点 key 探测时优先读取本地副本
+     * @param key key
+     * @return value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletionStage<T> get(String key) {
+        HotKeyDetector detector = RedissonUtil.ofHotKeyDetector();
+        RBucket<T> rBucket = getRBucket(key);
+        if (detector == null || !detector.record(RedissonUtil.BUCKET_NAMESPACE, key)) {
+            return rBucket.getAsync();
+        }
+        Cache.ValueWrapper wrapper = detector.getLocal(RedissonUtil.BUCKET_NAMESPACE, key);
+        if (wrapper != null) {
+            return CompletableFuture.completedFuture((T) wrapper.get());
+        }
+        long stamp = detector.localStamp(RedissonUtil.BUCKET_NAMESPACE, key);
+        return rBucket.getAsync().thenApply(value -> {
+            if (value != null) {
+                detector.putLocal(RedissonUtil.BUCKET_NAMESPACE, key, value, stamp);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * 获取值通过批量keys
+     * @param keys keys
+     * @return value
+     */
+    public static <T> CompletionStage<Map<String, T>> get(String... keys) {
+        return ofRedissonClient().getBuckets().getAsync(keys);
+    }
+
+    /**
+     * 设置值
+     * @param key 缓存的键值
+     * @param value 缓存的值
+     */
+    public static <T> CompletionStage<Void> set(String key, T value) {
+        RBucket<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.setAsync(value));
+    }
+
+    /**
+     * 设置值, 使用 SET PX 一条命令完成
+     * @param key 缓存的键值
+     * @param value 缓存的值
+     * @param duration 过期时间, 小于等于0时不过期
+     */
+    public static <T> CompletionStage<Void> set(String key, T value, Duration duration) {
+        RBucket<T> rBucket = getRBucket(key);
+        if (duration.toMillis() <= 0) {
+            return invalidateOnComplete(key, rBucket.setAsync(value));
+        }
+        return invalidateOnComplete(key, rBucket.setAsync(value, duration));
+    }
+
+    /**
+     * 仅当对象不存在时设置具有过期持续时间的值.
+     * @param key key
+     * @param value value to set
+     * @param duration expiration duration
+     * @return {@code true} if successful, or {@code false} if element was already set
+     */
+    public static <T> CompletionStage<Boolean> setIfAbsent(String key, T value, Duration duration) {
+        RBucket<T> rBucket = getRBucket(key);
+        return rBucket.setIfAbsentAsync(value, duration);
+    }
+
+    /**
+     * 仅当对象已存在时设置具有过期持续时间的值.
+     * @param key key
+     * @param value value to set
+     * @param duration expiration duration
+     * @return {@code true} if successful, or {@code false} if element wasn't set
+     */
+    public static <T> CompletionStage<Boolean> setIfExists(String key, T value, Duration duration) {
+        RBucket<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.setIfExistsAsync(value, duration));
+    }
+
+    /**
+     * 获得key剩余存活时间
+     * @param key 缓存键值
+     * @return 剩余存活时间
+     */
+    public static CompletionStage<Long> getRemainTimeToLive(String key) {
+        return getRBucket(key).remainTimeToLiveAsync();
+    }
+
+    /**
+     * 设置过期时间
+     * @param key key
+     * @param duration expiration duration
+     */
+    public static CompletionStage<Boolean> expire(String key, Duration duration) {
+        return getRBucket(key).expireAsync(duration);
+    }
+
+    /**
+     * 删除值通过key.
+     * @param key key
+     */
+    public static CompletionStage<Boolean> delete(String key) {
+        return invalidateOnComplete(key, getRBucket(key).deleteAsync());
+    }
+
+    /**
+     * 获取当前值后并且删除.
+     * @param key key
+     */
+    public static <T> CompletionStage<T> getAndDelete(String key) {
+        RBucket<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.getAndDeleteAsync());
+    }
+
+    /**
+     * 检查对象是否存在
+     * @return <code>true</code> if object exists and <code>false</code> otherwise
+     */
+    public static CompletionStage<Boolean> isExists(String key) {
+        return getRBucket(key).isExistsAsync();
+    }
+
+    /**
+     * 写操作完成后删除热点 key 的本地副本
+     * @param key key
+     * @param stage 写操作
+     * @return stage
+     */
+    private static <T> CompletionStage<T> invalidateOnComplete(String key, CompletionStage<T> stage) {
+        return stage.whenComplete((result, throwable) -> RedissonUtil.invalidateHotKey(key));
+    }
+
+    /**
+     * Obtain the RBucket.
+     * @param name name of object
+     * @return RBucket
+     */
+    private static <T> RBucket<T> getRBucket(String name) {
+        return ofRedissonClient().getBucket(name);
+    }
+
+    // ------------------------------- 限流 类型操作 --------------------------------
+
+    /**
+     * 限流.
+     * @param key 限流key
+     * @param rateType 限流类型
+     * @param rate 速率
+     * @param rateInterval 速率间隔
+     * @return 剩余许可数, -1 表示失败
+     */
+    public static CompletionStage<Long> tryRateLimiter(String key, RateType rateType, long rate, long rateInterval) {
+        RRateLimiter rateLimiter = ofRedissonClient().getRateLimiter(key);
+        Duration interval = Duration.ofMillis(rateInterval);
+        return rateLimiter.trySetRateAsync(rateType, rate, interval)
+            // 第一次成功 设置过期时间，和速率一样，防止缓存残留
+            .thenCompose(trySetRateSuccess -> trySetRateSuccess ? rateLimiter.expireAsync(interval)
+                    : CompletableFuture.completedFuture(Boolean.FALSE))
+            .thenCompose(expired -> rateLimiter.tryAcquireAsync())
+            .thenCompose(acquired -> acquired ? rateLimiter.availablePermitsAsync()
+                    : CompletableFuture.completedFuture(-1L));
+    }
+
+    // ------------------------------- List 类型操作 --------------------------------
+
+    /**
+     * 按指定索引删除对象
+     * @param key 缓存的键值
+     * @param index 索引
+     */
+    public static CompletionStage<Void> removeList(String key, int index) {
+        return getRList(key).fastRemoveAsync(index);
+    }
+
+    /**
+     * 从该列表中删除指定元素
+     * @param key 缓存的键值
+     * @param value 需要移除的值
+     * @return 是否删除
+     */
+    public static <T> CompletionStage<Boolean> removeList(String key, T value) {
+        return getRList(key).removeAsync(value);
+    }
+
+    /**
+     * 获取所有List缓存
+     * @param key 缓存的键值
+     * @return 缓存的对象
+     */
+    public static <T> CompletionStage<List<T>> getList(String key) {
+        RList<T> rList = getRList(key);
+        return rList.readAllAsync();
+    }
+
+    /**
+     * 通过索引获取List缓存
+     * @param key 缓存的键值
+     * @param indexes 索引
+     * @return 缓存的对象
+     */
+    public static <T> CompletionStage<List<T>> getList(String key, final int... indexes) {
+        RList<T> rList = getRList(key);
+        return rList.getAsync(indexes);
+    }
+
+    /**
+     * 获取List缓存指定范围
+     * @param key 缓存的键值
+     * @param form 开始索引
+     * @param to 结束索引
+     * @return 缓存的对象
+     */
+    public static <T> CompletionStage<List<T>> getListRange(String key, int form, int to) {
+        RList<T> rList = getRList(key);
+        return rList.rangeAsync(form, to);
+    }
+
+    /**
+     * 缓存List缓存
+     * @param key 缓存的键值
+     * @param data 缓存的数据
+     * @return 是否成功
+     */
+    public static <T> CompletionStage<Boolean> addList(String key, final T data) {
+        RList<T> rList = getRList(key);
+        return rList.addAsync(data);
+    }
+
+    /**
+     * 缓存List数据
+     * @param key 缓存的键值
+     * @param dataList 待缓存的List数据
+     * @return 是否成功
+     */
+    public static <T> CompletionStage<Boolean> addList(String key, final List<T> dataList) {
+        RList<T> rList = getRList(key);
+        return rList.addAllAsync(dataList);
+    }
+
+    /**
+     * 设置List Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static CompletionStage<Boolean> expireList(String key, Duration duration) {
+        return getRList(key).expireAsync(duration);
+    }
+
+    /**
+     * Obtain the RList.
+     * @param name name of object
+     * @return RList
+     */
+    private static <T> RList<T> getRList(String name) {
+        return ofRedissonClient().getList(name);
+    }
+
+    // ------------------------------- Set 类型操作 --------------------------------
+
+    /**
+     * 去除Set缓存
+     * @param key 缓存的key
+     * @param value 需要移除的值
+     * @return 是否删除
+     */
+    public static <T> CompletionStage<Boolean> removeSet(String key, T value) {
+        return getRSet(key).removeAsync(value);
+    }
+
+    /**
+     * 获得All Set缓存
+     * @param key 缓存的key
+     * @return set对象
+     */
+    public static <T> CompletionStage<Set<T>> getAllSet(String key) {
+        RSet<T> rSet = getRSet(key);
+        return rSet.readAllAsync();
+    }
+
+    /**
+     * 缓存Set
+     * @param key 缓存键值
+     * @param dataSet 缓存的数据
+     * @return 是否成功
+     */
+    public static <T> CompletionStage<Boolean> addSet(String key, final Set<T> dataSet) {
+        RSet<T> rSet = getRSet(key);
+        return rSet.addAllAsync(dataSet);
+    }
+
+    /**
+     * 缓存Set数据
+     * @param key 缓存的键值
+     * @param data 待缓存的数据
+     * @return 是否成功
+     */
+    public static <T> CompletionStage<Boolean> addSet(String key, final T data) {
+        RSet<T> rSet = getRSet(key);
+        return rSet.addAsync(data);
+    }
+
+    /**
+     * 设置Set Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static CompletionStage<Boolean> expireSet(String key, Duration duration) {
+        return getRSet(key).expireAsync(duration);
+    }
+
+    /**
+     * Obtain the RSet.
+     * @param name name of object
+     * @return RSet
+     */
+    private static <T> RSet<T> getRSet(String name) {
+        return ofRedissonClient().getSet(name);
+    }
+
+    // ------------------------------- Map 类型操作 --------------------------------
+
+    /**
+     * clear map all
+     * @param name name of object
+     */
+    public static CompletionStage<Boolean> clearMap(String name) {
+        return getRMap(name).deleteAsync();
+    }
+
+    /**
+     * remove map by key
+     * @param name name of object
+     * @param key key
+     * @return number of removed keys
+     */
+    public static CompletionStage<Long> removeMap(String name, String key) {
+        return getRMap(name).fastRemoveAsync(key);
+    }
+
+    /**
+     * remove map by key and value
+     * @param name name of object
+     * @param key key
+     * @param value value
+     */
+    public static <T> CompletionStage<Boolean> removeMap(String name, String key, T value) {
+        return getRMap(name).removeAsync(key, value);
+    }
+
+    /**
+     * get all v from ramp
+     * @param name name of object
+     */
+    public static <T> CompletionStage<Map<String, T>> getMapAll(String name) {
+        RMap<String, T> rMap = getRMap(name);
+        return rMap.readAllMapAsync();
+    }
+
+    /**
+     * get v by k from ramp
+     * @param name name of object
+     * @param key key
+     */
+    public static <T> CompletionStage<T> getMap(String name, String key) {
+        RMap<String, T> rMap = getRMap(name);
+        return rMap.getAsync(key);
+    }
+
+    /**
+     * Stores k and v into ramp
+     * @param name name of object
+     * @param key key
+     * @param value value
+     * @return {@code true} if key is a new one in the hash and value was set
+     */
+    public static <T> CompletionStage<Boolean> addMap(String name, String key, T value) {
+        RMap<String, T> rMap = getRMap(name);
+        return rMap.fastPutAsync(key, value);
+    }
+
+    /**
+     * 设置Map Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static CompletionStage<Boolean> expireMap(String key, Duration duration) {
+        return getRMap(key).expireAsync(duration);
+    }
+
+    /**
+     * Obtain the RMap.
+     * @param name name of object
+     * @return RMap
+     */
+    private static <K, V> RMap<K, V> getRMap(String name) {
+        return ofRedissonClient().getMap(name);
+    }
+
+    // ------------------------------- GEO 类型操作 --------------------------------
+
+    /**
+     * 将指定的地理空间位置（纬度、经度、名称）添加到指定的key中.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 纬度
+     * @param member 成员名称
+     * @return 添加元素个数
+     */
+    public static CompletionStage<Long> geoAdd(String key, double lng, double lat, Object member) {
+        RGeo<Object> geo = getRGeo(key);
+        return geo.addAsync(lng, lat, member);
+    }
+
+    /**
+     * 将指定的地理空间位置（纬度、经度、名称）添加到指定的key中.
+     * @param key 名称KEY
+     * @param entries 包含精度、维度、成员集合
+     * @return 添加元素个数
+     */
+    public static CompletionStage<Long> geoAdd(String key, GeoEntry... entries) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.addAsync(entries);
+    }
+
+    /**
+     * 返回成员映射的GeoHash值.
+     * @param key 名称KEY
+     * @param members - objects
+     * @return hash mapped by object
+     */
+    public static CompletionStage<Map<String, String>> hash(String key, String... members) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.hashAsync(members);
+    }
+
+    /**
+     * 返回成员的地址位置信息.
+     * @param key 名称KEY
+     * @param members - objects
+     * @return geo position mapped by object
+     */
+    public static CompletionStage<Map<String, GeoPosition>> position(String key, String... members) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.posAsync(members);
+    }
+
+    /**
+     * 返回指定两个对象的距离，通过指定距离单位，比如：米m，千米km，英里mi，英尺ft.
+     * @param key 名称KEY
+     * @param firstMember - first object
+     * @param secondMember - second object
+     * @param geoUnit - geo unit
+     * @return distance
+     */
+    public static CompletionStage<Double> distance(String key, String firstMember, String secondMember,
+            GeoUnit geoUnit) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.distAsync(firstMember, secondMember, geoUnit);
+    }
+
+    /**
+     * 返回成员周围半径内指定搜索条件内的排序集合.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<List<String>> search(String key, String member, double radius, GeoUnit geoUnit,
+            GeoOrder geoOrder, int count) {
+        return search(key, RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的排序集合.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<List<String>> search(String key, double lng, double lat, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return search(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回排序集合, 支持半径与矩形范围.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static CompletionStage<List<String>> search(String key, GeoSearchArgs geoSearchArgs) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.searchAsync(geoSearchArgs);
+    }
+
+    /**
+     * 返回指定成员周围半径内指定搜索条件的元素，并返回距离.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, Double>> searchWithDistance(String key, String member, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithDistance(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的元素，并返回距离.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, Double>> searchWithDistance(String key, double lng, double lat,
+            double radius, GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithDistance(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回元素, 并返回距离.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, Double>> searchWithDistance(String key, GeoSearchArgs geoSearchArgs) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.searchWithDistanceAsync(geoSearchArgs);
+    }
+
+    /**
+     * 返回指定成员周围半径内指定搜索条件的元素，并返回经纬度.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, GeoPosition>> searchWithPosition(String key, String member, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithPosition(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的元素，并返回经纬度.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, GeoPosition>> searchWithPosition(String key, double lng, double lat,
+            double radius, GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithPosition(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回元素, 并返回经纬度.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static CompletionStage<Map<String, GeoPosition>> searchWithPosition(String key,
+            GeoSearchArgs geoSearchArgs) {
+        RGeo<String> geo = getRGeo(key);
+        return geo.searchWithPositionAsync(geoSearchArgs);
+    }
+
+    /**
+     * Obtain the RGeo.
+     * @param name name of object
+     * @return RGeo
+     */
+    private static <T> RGeo<T> getRGeo(String name) {
+        return ofRedissonClient().getGeo(name);
+    }
+
+    // ------------------------------- 发布/订阅 类型操作 --------------------------------
+
+    /**
+     * 发布通道消息.
+     * @param channelKey 通道key
+     * @param msg 发送数据
+     * @return 接收到消息的订阅者数量
+     */
+    public static <T> CompletionStage<Long> publish(String channelKey, T msg) {
+        return getRTopic(channelKey).publishAsync(msg);
+    }
+
+    /**
+     * 订阅通道接收消息 - key 监听器需开启 `notify-keyspace-events` 等 redis 相关配置.
+     * @param channelKey 通道key
+     * @param clazz 消息类型
+     * @param consumer 自定义处理
+     * @return locally unique listener id
+     */
+    public static <T> CompletionStage<Integer> subscribe(String channelKey, Class<T> clazz, Consumer<T> consumer) {
+        return getRTopic(channelKey).addListenerAsync(clazz, (channel, msg) -> consumer.accept(msg));
+    }
+
+    /**
+     * Removes the listener by <code>id</code> for listening this topic.
+     * @param channelKey 通道key
+     * @param listenerIds - listener ids
+     */
+    public static CompletionStage<Void> removeListener(String channelKey, Integer... listenerIds) {
+        return getRTopic(channelKey).removeListenerAsync(listenerIds);
+    }
+
+    /**
+     * Obtain the RTopic.
+     * @param name name of object
+     * @return RTopic
+     */
+    private static RTopic getRTopic(String name) {
+        return ofRedissonClient().getTopic(name);
+    }
+
+}
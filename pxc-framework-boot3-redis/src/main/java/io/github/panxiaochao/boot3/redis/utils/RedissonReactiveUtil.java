@@ -0,0 +1,732 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.utils;
+
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
+import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
+import io.github.panxiaochao.boot3.core.utils.StringPools;
+import org.redisson.api.*;
+import org.redisson.api.geo.GeoSearchArgs;
+import org.redisson.api.options.KeysScanOptions;
+import org.springframework.cache.Cache;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Redisson 响应式工具类, 与 {@link RedissonUtil} 对应, 基于 {@link RedissonReactiveClient} 返回
+ * {@link Mono} / {@link Flux}
+ * </p>
+ * <pre>
+ * 1. 适用于 WebFlux 等响应式场景, 订阅后才会发送命令
+ * 2. 优先使用容器中的 RedissonReactiveClient, 不存在时由 RedissonClient.reactive() 创建
+ * </pre>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class RedissonReactiveUtil {
+
+    /**
+     * constructor private
+     */
+    private RedissonReactiveUtil() {
+    }
+
+    private static final RedissonReactiveClient REDISSON_REACTIVE_CLIENT = SpringContextUtil.getApplicationContext()
+        .getBeanProvider(RedissonReactiveClient.class)
+        .getIfAvailable(() -> RedissonUtil.ofRedissonClient().reactive());
+
+    /**
+     * Obtain RedissonReactiveClient
+     * @return RedissonReactiveClient
+     */
+    public static RedissonReactiveClient ofRedissonReactiveClient() {
+        return REDISSON_REACTIVE_CLIENT;
+    }
+
+    // ------------------------------- Key查询类型操作 --------------------------------
+
+    /**
+     * 返回当前所选数据库中的键数量
+     * @return count of keys
+     */
+    public static Mono<Long> countKeys() {
+        return ofRedissonReactiveClient().getKeys().count();
+    }
+
+    /**
+     * 按匹配模式获取键值
+     * @param pattern - match pattern
+     * @return Flux<String>
+     */
+    public static Flux<String> getKeysByPattern(String pattern) {
+        return ofRedissonReactiveClient().getKeys().getKeys(KeysScanOptions.defaults().pattern(pattern));
+    }
+
+    /**
+     * 按 keys 删除多个对象
+     * @param keys - object names
+     * @return number of removed keys
+     */
+    public static Mono<Long> deleteKeys(String... keys) {
+        return ofRedissonReactiveClient().getKeys().delete(keys).doFinally(signalType -> {
+            for (String key : keys) {
+                RedissonUtil.invalidateHotKey(key);
+            }
+        });
+    }
+
+    // ------------------------------- Object 类型操作 --------------------------------
+
+    /**
+     * 获取值, 开启热点 key 探测时优先读取本地副本
+     * @param key key
+     * @return value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Mono<T> get(String key) {
+        return Mono.defer(() -> {
+            HotKeyDetector detector = RedissonUtil.ofHotKeyDetector();
+            RBucketReactive<T> rBucket = getRBucket(key);
+            if (detector == null || !detector.record(RedissonUtil.BUCKET_NAMESPACE, key)) {
+                return rBucket.get();
+            }
+            Cache.ValueWrapper wrapper = detector.getLocal(RedissonUtil.BUCKET_NAMESPACE, key);
+            if (wrapper != null) {
+                return Mono.justOrEmpty((T) wrapper.get());
+            }
+            long stamp = detector.localStamp(RedissonUtil.BUCKET_NAMESPACE, key);
+            return rBucket.get().doOnNext(value -> detector.putLocal(RedissonUtil.BUCKET_NAMESPACE, key, value, stamp));
+        });
+    }
+
+    /**
+     * 获取值通过批量keys
+     * @param keys keys
+     * @return value
+     */
+    public static <T> Mono<Map<String, T>> get(String... keys) {
+        return ofRedissonReactiveClient().getBuckets().get(keys);
+    }
+
+    /**
+     * 设置值
+     * @param key 缓存的键值
+     * @param value 缓存的值
+     */
+    public static <T> Mono<Void> set(String key, T value) {
+        RBucketReactive<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.set(value));
+    }
+
+    /**
+     * 设置值, 使用 SET PX 一条命令完成
+     * @param key 缓存的键值
+     * @param value 缓存的值
+     * @param duration 过期时间, 小于等于0时不过期
+     */
+    public static <T> Mono<Void> set(String key, T value, Duration duration) {
+        RBucketReactive<T> rBucket = getRBucket(key);
+        if (duration.toMillis() <= 0) {
+            return invalidateOnComplete(key, rBucket.set(value));
+        }
+        return invalidateOnComplete(key, rBucket.set(value, duration));
+    }
+
+    /**
+     * 仅当对象不存在时设置具有过期持续时间的值.
+     * @param key key
+     * @param value value to set
+     * @param duration expiration duration
+     * @return {@code true} if successful, or {@code false} if element was already set
+     */
+    public static <T> Mono<Boolean> setIfAbsent(String key, T value, Duration duration) {
+        RBucketReactive<T> rBucket = getRBucket(key);
+        return rBucket.setIfAbsent(value, duration);
+    }
+
+    /**
+     * 仅当对象已存在时设置具有过期持续时间的值.
+     * @param key key
+     * @param value value to set
+     * @param duration expiration duration
+     * @return {@code true} if successful, or {@code false} if element wasn't set
+     */
+    public static <T> Mono<Boolean> setIfExists(String key, T value, Duration duration) {
+        RBucketReactive<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.setIfExists(value, duration));
+    }
+
+    /**
+     * 获得key剩余存活时间
+     * @param key 缓存键值
+     * @return 剩余存活时间
+     */
+    public static Mono<Long> getRemainTimeToLive(String key) {
+        return getRBucket(key).remainTimeToLive();
+    }
+
+    /**
+     * 设置过期时间
+     * @param key key
+     * @param duration expiration duration
+     */
+    public static Mono<Boolean> expire(String key, Duration duration) {
+        return getRBucket(key).expire(duration);
+    }
+
+    /**
+     * 删除值通过key.
+     * @param key key
+     */
+    public static Mono<Boolean> delete(String key) {
+        return invalidateOnComplete(key, getRBucket(key).delete());
+    }
+
+    /**
+     * 获取当前值后并且删除.
+     * @param key key
+     */
+    public static <T> Mono<T> getAndDelete(String key) {
+        RBucketReactive<T> rBucket = getRBucket(key);
+        return invalidateOnComplete(key, rBucket.getAndDelete());
+    }
+
+    /**
+     * 检查对象是否存在
+     * @return <code>true</code> if object exists and <code>false</code> otherwise
+     */
+    public static Mono<Boolean> isExists(String key) {
+        return getRBucket(key).isExists();
+    }
+
+    /**
+     * 写操作结束后删除热点 key 的本地副本
+     * @param key key
+     * @param mono 写操作
+     * @return mono
+     */
+    private static <T> Mono<T> invalidateOnComplete(String key, Mono<T> mono) {
+        return mono.doFinally(signalType -> RedissonUtil.invalidateHotKey(key));
+    }
+
+    /**
+     * Obtain the RBucketReactive.
+     * @param name name of object
+     * @return RBucketReactive
+     */
+    private static <T> RBucketReactive<T> getRBucket(String name) {
+        return ofRedissonReactiveClient().getBucket(name);
+    }
+
+    // ------------------------------- 限流 类型操作 --------------------------------
+
+    /**
+     * 限流.
+     * @param key 限流key
+     * @param rateType 限流类型
+     * @param rate 速率
+     * @param rateInterval 速率间隔
+     * @return 剩余许可数, -1 表示失败
+     */
+    public static Mono<Long> tryRateLimiter(String key, RateType rateType, long rate, long rateInterval) {
+        RRateLimiterReactive rateLimiter = ofRedissonReactiveClient().getRateLimiter(key);
+        Duration interval = Duration.ofMillis(rateInterval);
+        return rateLimiter.trySetRate(rateType, rate, interval)
+            // 第一次成功 设置过期时间，和速率一样，防止缓存残留
+            .flatMap(trySetRateSuccess -> trySetRateSuccess ? rateLimiter.expire(interval) : Mono.just(Boolean.FALSE))
+            .then(Mono.defer(rateLimiter::tryAcquire))
+            .flatMap(acquired -> acquired ? rateLimiter.availablePermits() : Mono.just(-1L));
+    }
+
+    // ------------------------------- List 类型操作 --------------------------------
+
+    /**
+     * 按指定索引删除对象
+     * @param key 缓存的键值
+     * @param index 索引
+     */
+    public static Mono<Void> removeList(String key, int index) {
+        return getRList(key).fastRemove(index);
+    }
+
+    /**
+     * 从该列表中删除指定元素
+     * @param key 缓存的键值
+     * @param value 需要移除的值
+     * @return 是否删除
+     */
+    public static <T> Mono<Boolean> removeList(String key, T value) {
+        return getRList(key).remove(value);
+    }
+
+    /**
+     * 获取所有List缓存
+     * @param key 缓存的键值
+     * @return 缓存的对象
+     */
+    public static <T> Mono<List<T>> getList(String key) {
+        RListReactive<T> rList = getRList(key);
+        return rList.readAll();
+    }
+
+    /**
+     * 通过索引获取List缓存
+     * @param key 缓存的键值
+     * @param indexes 索引
+     * @return 缓存的对象
+     */
+    public static <T> Mono<List<T>> getList(String key, final int... indexes) {
+        RListReactive<T> rList = getRList(key);
+        return rList.get(indexes);
+    }
+
+    /**
+     * 获取List缓存指定范围
+     * @param key 缓存的键值
+     * @param form 开始索引
+     * @param to 结束索引
+     * @return 缓存的对象
+     */
+    public static <T> Mono<List<T>> getListRange(String key, int form, int to) {
+        RListReactive<T> rList = getRList(key);
+        return rList.range(form, to);
+    }
+
+    /**
+     * 缓存List缓存
+     * @param key 缓存的键值
+     * @param data 缓存的数据
+     * @return 是否成功
+     */
+    public static <T> Mono<Boolean> addList(String key, final T data) {
+        RListReactive<T> rList = getRList(key);
+        return rList.add(data);
+    }
+
+    /**
+     * 缓存List数据
+     * @param key 缓存的键值
+     * @param dataList 待缓存的List数据
+     * @return 是否成功
+     */
+    public static <T> Mono<Boolean> addList(String key, final List<T> dataList) {
+        RListReactive<T> rList = getRList(key);
+        return rList.addAll(dataList);
+    }
+
+    /**
+     * 设置List Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static Mono<Boolean> expireList(String key, Duration duration) {
+        return getRList(key).expire(duration);
+    }
+
+    /**
+     * Obtain the RListReactive.
+     * @param name name of object
+     * @return RListReactive
+     */
+    private static <T> RListReactive<T> getRList(String name) {
+        return ofRedissonReactiveClient().getList(name);
+    }
+
+    // ------------------------------- Set 类型操作 --------------------------------
+
+    /**
+     * 去除Set缓存
+     * @param key 缓存的key
+     * @param value 需要移除的值
+     * @return 是否删除
+     */
+    public static <T> Mono<Boolean> removeSet(String key, T value) {
+        return getRSet(key).remove(value);
+    }
+
+    /**
+     * 获得All Set缓存
+     * @param key 缓存的key
+     * @return set对象
+     */
+    public static <T> Mono<Set<T>> getAllSet(String key) {
+        RSetReactive<T> rSet = getRSet(key);
+        return rSet.readAll();
+    }
+
+    /**
+     * 缓存Set
+     * @param key 缓存键值
+     * @param dataSet 缓存的数据
+     * @return 是否成功
+     */
+    public static <T> Mono<Boolean> addSet(String key, final Set<T> dataSet) {
+        RSetReactive<T> rSet = getRSet(key);
+        return rSet.addAll(dataSet);
+    }
+
+    /**
+     * 缓存Set数据
+     * @param key 缓存的键值
+     * @param data 待缓存的数据
+     * @return 是否成功
+     */
+    public static <T> Mono<Boolean> addSet(String key, final T data) {
+        RSetReactive<T> rSet = getRSet(key);
+        return rSet.add(data);
+    }
+
+    /**
+     * 设置Set Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static Mono<Boolean> expireSet(String key, Duration duration) {
+        return getRSet(key).expire(duration);
+    }
+
+    /**
+     * Obtain the RSetReactive.
+     * @param name name of object
+     * @return RSetReactive
+     */
+    private static <T> RSetReactive<T> getRSet(String name) {
+        return ofRedissonReactiveClient().getSet(name);
+    }
+
+    // ------------------------------- Map 类型操作 --------------------------------
+
+    /**
+     * clear map all
+     * @param name name of object
+     */
+    public static Mono<Boolean> clearMap(String name) {
+        return getRMap(name).delete();
+    }
+
+    /**
+     * remove map by key
+     * @param name name of object
+     * @param key key
+     * @return number of removed keys
+     */
+    public static Mono<Long> removeMap(String name, String key) {
+        return getRMap(name).fastRemove(key);
+    }
+
+    /**
+     * remove map by key and value
+     * @param name name of object
+     * @param key key
+     * @param value value
+     */
+    public static <T> Mono<Boolean> removeMap(String name, String key, T value) {
+        return getRMap(name).remove(key, value);
+    }
+
+    /**
+     * get all v from ramp
+     * @param name name of object
+     */
+    public static <T> Mono<Map<String, T>> getMapAll(String name) {
+        RMapReactive<String, T> rMap = getRMap(name);
+        return rMap.readAllMap();
+    }
+
+    /**
+     * get v by k from ramp
+     * @param name name of object
+     * @param key key
+     */
+    public static <T> Mono<T> getMap(String name, String key) {
+        RMapReactive<String, T> rMap = getRMap(name);
+        return rMap.get(key);
+    }
+
+    /**
+     * Stores k and v into ramp
+     * @param name name of object
+     * @param key key
+     * @param value value
+     * @return {@code true} if key is a new one in the hash and value was set
+     */
+    public static <T> Mono<Boolean> addMap(String name, String key, T value) {
+        RMapReactive<String, T> rMap = getRMap(name);
+        return rMap.fastPut(key, value);
+    }
+
+    /**
+     * 设置Map Key过期时间
+     * @param key key
+     * @param duration expiration duration
+     * @return true or false
+     */
+    public static Mono<Boolean> expireMap(String key, Duration duration) {
+        return getRMap(key).expire(duration);
+    }
+
+    /**
+     * Obtain the RMapReactive.
+     * @param name name of object
+     * @return RMapReactive
+     */
+    private static <K, V> RMapReactive<K, V> getRMap(String name) {
+        return ofRedissonReactiveClient().getMap(name);
+    }
+
+    // ------------------------------- GEO 类型操作 --------------------------------
+
+    /**
+     * 将指定的地理空间位置（纬度、经度、名称）添加到指定的key中.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 纬度
+     * @param member 成员名称
+     * @return 添加元素个数
+     */
+    public static Mono<Long> geoAdd(String key, double lng, double lat, Object member) {
+        RGeoReactive<Object> geo = getRGeo(key);
+        return geo.add(lng, lat, member);
+    }
+
+    /**
+     * 将指定的地理空间位置（纬度、经度、名称）添加到指定的key中.
+     * @param key 名称KEY
+     * @param entries 包含精度、维度、成员集合
+     * @return 添加元素个数
+     */
+    public static Mono<Long> geoAdd(String key, GeoEntry... entries) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.add(entries);
+    }
+
+    /**
+     * 返回成员映射的GeoHash值.
+     * @param key 名称KEY
+     * @param members - objects
+     * @return hash mapped by object
+     */
+    public static Mono<Map<String, String>> hash(String key, String... members) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.hash(members);
+    }
+
+    /**
+     * 返回成员的地址位置信息.
+     * @param key 名称KEY
+     * @param members - objects
+     * @return geo position mapped by object
+     */
+    public static Mono<Map<String, GeoPosition>> position(String key, String... members) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.pos(members);
+    }
+
+    /**
+     * 返回指定两个对象的距离，通过指定距离单位，比如：米m，千米km，英里mi，英尺ft.
+     * @param key 名称KEY
+     * @param firstMember - first object
+     * @param secondMember - second object
+     * @param geoUnit - geo unit
+     * @return distance
+     */
+    public static Mono<Double> distance(String key, String firstMember, String secondMember, GeoUnit geoUnit) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.dist(firstMember, secondMember, geoUnit);
+    }
+
+    /**
+     * 返回成员周围半径内指定搜索条件内的排序集合.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<List<String>> search(String key, String member, double radius, GeoUnit geoUnit,
+            GeoOrder geoOrder, int count) {
+        return search(key, RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的排序集合.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<List<String>> search(String key, double lng, double lat, double radius, GeoUnit geoUnit,
+            GeoOrder geoOrder, int count) {
+        return search(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回排序集合, 支持半径与矩形范围.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static Mono<List<String>> search(String key, GeoSearchArgs geoSearchArgs) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.search(geoSearchArgs);
+    }
+
+    /**
+     * 返回指定成员周围半径内指定搜索条件的元素，并返回距离.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<Map<String, Double>> searchWithDistance(String key, String member, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithDistance(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的元素，并返回距离.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<Map<String, Double>> searchWithDistance(String key, double lng, double lat, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithDistance(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回元素, 并返回距离.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static Mono<Map<String, Double>> searchWithDistance(String key, GeoSearchArgs geoSearchArgs) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.searchWithDistance(geoSearchArgs);
+    }
+
+    /**
+     * 返回指定成员周围半径内指定搜索条件的元素，并返回经纬度.
+     * @param key 名称KEY
+     * @param member 成员
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<Map<String, GeoPosition>> searchWithPosition(String key, String member, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithPosition(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(member, 0, 0, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 返回经纬度周围半径内指定搜索条件的元素，并返回经纬度.
+     * @param key 名称KEY
+     * @param lng 经度
+     * @param lat 维度
+     * @param radius 单位内半径
+     * @param geoUnit 单位
+     * @param geoOrder 排序
+     * @param count 返回数量
+     * @return 返回集合
+     */
+    public static Mono<Map<String, GeoPosition>> searchWithPosition(String key, double lng, double lat, double radius,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+        return searchWithPosition(key,
+                RedissonUtil.buildRadiusGeoSearchArgs(StringPools.EMPTY, lng, lat, radius, geoUnit, geoOrder, count));
+    }
+
+    /**
+     * 按搜索条件返回元素, 并返回经纬度.
+     * @param key 名称KEY
+     * @param geoSearchArgs 搜索条件
+     * @return 返回集合
+     */
+    public static Mono<Map<String, GeoPosition>> searchWithPosition(String key, GeoSearchArgs geoSearchArgs) {
+        RGeoReactive<String> geo = getRGeo(key);
+        return geo.searchWithPosition(geoSearchArgs);
+    }
+
+    /**
+     * Obtain the RGeoReactive.
+     * @param name name of object
+     * @return RGeoReactive
+     */
+    private static <T> RGeoReactive<T> getRGeo(String name) {
+        return ofRedissonReactiveClient().getGeo(name);
+    }
+
+    // ------------------------------- 发布/订阅 类型操作 --------------------------------
+
+    /**
+     * 发布通道消息.
+     * @param channelKey 通道key
+     * @param msg 发送数据
+     * @return 接收到消息的订阅者数量
+     */
+    public static <T> Mono<Long> publish(String channelKey, T msg) {
+        return getRTopic(channelKey).publish(msg);
+    }
+
+    /**
+     * 订阅通道消息, 订阅时注册监听, 取消订阅时移除监听.
+     * @param channelKey 通道key
+     * @param clazz 消息类型
+     * @return 消息流
+     */
+    public static <T> Flux<T> subscribe(String channelKey, Class<T> clazz) {
+        return getRTopic(channelKey).getMessages(clazz);
+    }
+
+    /**
+     * Obtain the RTopicReactive.
+     * @param name name of object
+     * @return RTopicReactive
+     */
+    private static RTopicReactive getRTopic(String name) {
+        return ofRedissonReactiveClient().getTopic(name);
+    }
+
+}
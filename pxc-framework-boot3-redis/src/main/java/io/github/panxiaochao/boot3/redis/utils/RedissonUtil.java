@@ -15,24 +15,52 @@
  */
 package io.github.panxiaochao.boot3.redis.utils;
 
+import io.github.panxiaochao.boot3.cache.hotkey.HotKeyDetector;
 import io.github.panxiaochao.boot3.core.utils.CollectionUtil;
 import io.github.panxiaochao.boot3.core.utils.SpringContextUtil;
 import io.github.panxiaochao.boot3.core.utils.StrUtil;
 import io.github.panxiaochao.boot3.core.utils.StringPools;
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import io.github.panxiaochao.boot3.redis.counter.WriteBehindCounter;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJobScheduler;
+import io.github.panxiaochao.boot3.redis.localcache.LocalCachedMapRegistry;
+import io.github.panxiaochao.boot3.redis.script.LuaScript;
+import io.github.panxiaochao.boot3.redis.script.LuaScriptRegistry;
+import io.github.panxiaochao.boot3.redis.sketch.RedisCountMinSketch;
+import io.github.panxiaochao.boot3.redis.stream.StreamConsumerContainer;
+import io.github.panxiaochao.boot3.redis.stream.StreamMessageListener;
+import io.github.panxiaochao.boot3.redis.stream.StreamSubscription;
+import io.github.panxiaochao.boot3.redis.topic.TopicHub;
+import io.github.panxiaochao.boot3.redis.topic.TopicMessageListener;
+import io.github.panxiaochao.boot3.redis.topic.TopicOverflowPolicy;
+import io.github.panxiaochao.boot3.redis.topic.TopicSubscription;
+import org.redisson.RedissonMultiLock;
 import org.redisson.api.*;
 import org.redisson.api.geo.GeoSearchArgs;
 import org.redisson.api.options.KeysScanOptions;
+import org.redisson.api.stream.StreamAddArgs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -57,6 +85,25 @@ public class RedissonUtil {
 
     private static final RedissonClient REDISSON_CLIENT = SpringContextUtil.getBean(RedissonClient.class);
 
+    /**
+     * 热点 key 探测, 未开启时为空
+     */
+    private static final HotKeyDetector HOT_KEY_DETECTOR = SpringContextUtil.getApplicationContext()
+        .getBeanProvider(HotKeyDetector.class)
+        .getIfAvailable();
+
+    /**
+     * 批量操作、SCAN 等配置
+     */
+    private static final Redisson3Properties PROPERTIES = SpringContextUtil.getApplicationContext()
+        .getBeanProvider(Redisson3Properties.class)
+        .getIfAvailable(Redisson3Properties::new);
+
+    /**
+     * RBucket 热点 key 的命名空间
+     */
+    static final String BUCKET_NAMESPACE = "RBucket";
+
     /**
      * Obtain RedissonClient
      * @return RedissonClient
@@ -73,10 +120,26 @@ public class RedissonUtil {
         return ofRedissonClient().getId();
     }
 
+    /**
+     * Obtain HotKeyDetector
+     * @return HotKeyDetector, 未开启热点 key 探测时返回 {@code null}
+     */
+    public static HotKeyDetector ofHotKeyDetector() {
+        return HOT_KEY_DETECTOR;
+    }
+
+    /**
+     * 当前热点 key, 包含缓存组与 RBucket
+     * @return 热点 key, 未开启热点 key 探测时返回空集合
+     */
+    public static List<HotKeyDetector.HotKey> getHotKeys() {
+        return HOT_KEY_DETECTOR != null ? HOT_KEY_DETECTOR.getHotKeys() : Collections.emptyList();
+    }
+
     // ------------------------------- Key查询类型操作 --------------------------------
 
     /**
-     * 按匹配模式获取键值，默认10个 <pre>
+     * 按匹配模式获取键值，默认10个, 结果一次性加载到内存, 大量 key 时使用 {@link #scanKeys(String)} <pre>
      * Supported glob-style patterns:
      *  h?llo subscribes to hello, hallo and hxllo
      *  h*llo subscribes to hllo and heeeello
@@ -107,10 +170,9 @@ public class RedissonUtil {
     }
 
     /**
-     * 按匹配模式删除多个对象。
+     * 按匹配模式删除多个对象, 使用 SCAN + UNLINK 分批删除, 见 {@link #unlinkKeysByPattern(String)}。
      * <p>
-     * Method executes in <b>NON atomic way</b> in cluster mode due to lua script
-     * limitations.
+     * Method executes in <b>NON atomic way</b>.
      * <p>
      * <pre>
      * Supported glob-style patterns:
@@ -122,7 +184,124 @@ public class RedissonUtil {
      * @return number of removed keys
      */
     public static long deleteKeyByPattern(String pattern) {
-        return getRKey().deleteByPattern(pattern);
+        return unlinkKeysByPattern(pattern);
+    }
+
+    /**
+     * 按匹配模式惰性遍历键值, 每次 SCAN 返回 pageSize 配置的数量, 不会一次性加载全部 key
+     * @param pattern - match pattern
+     * @return Iterable<String>
+     */
+    public static Iterable<String> scanKeys(String pattern) {
+        return scanKeys(pattern, PROPERTIES.getScan().getPageSize());
+    }
+
+    /**
+     * 按匹配模式惰性遍历键值
+     * @param pattern - match pattern
+     * @param pageSize - keys loaded per SCAN request
+     * @return Iterable<String>
+     */
+    public static Iterable<String> scanKeys(String pattern, int pageSize) {
+        return scanKeys(KeysScanOptions.defaults().pattern(pattern).chunkSize(pageSize));
+    }
+
+    /**
+     * 按条件惰性遍历键值, 支持 pattern、chunkSize、limit、type
+     * @param options scan options
+     * @return Iterable<String>
+     */
+    public static Iterable<String> scanKeys(KeysScanOptions options) {
+        return getRKey().getKeys(options);
+    }
+
+    /**
+     * 按匹配模式惰性遍历键值
+     * @param pattern - match pattern
+     * @return Stream<String>
+     */
+    public static Stream<String> streamKeys(String pattern) {
+        return streamKeys(pattern, PROPERTIES.getScan().getPageSize());
+    }
+
+    /**
+     * 按匹配模式惰性遍历键值
+     * @param pattern - match pattern
+     * @param pageSize - keys loaded per SCAN request
+     * @return Stream<String>
+     */
+    public static Stream<String> streamKeys(String pattern, int pageSize) {
+        return streamKeys(KeysScanOptions.defaults().pattern(pattern).chunkSize(pageSize));
+    }
+
+    /**
+     * 按条件惰性遍历键值, 支持 pattern、chunkSize、limit、type
+     * @param options scan options
+     * @return Stream<String>
+     */
+    public static Stream<String> streamKeys(KeysScanOptions options) {
+        return getRKey().getKeysStream(options);
+    }
+
+    /**
+     * 按匹配模式分批删除, 使用 scan 配置的 deleteBatchSize 与 deleteInterval
+     * @param pattern - match pattern
+     * @return number of removed keys
+     */
+    public static long unlinkKeysByPattern(String pattern) {
+        Redisson3Properties.Scan scan = PROPERTIES.getScan();
+        return unlinkKeysByPattern(pattern, scan.getDeleteBatchSize(), scan.getDeleteInterval());
+    }
+
+    /**
+     * 按匹配模式分批删除, SCAN 遍历后以管道 UNLINK, 由 Redis 后台线程释放内存, 每批之间间隔 interval
+     * <p>
+     * 线程中断时停止删除, 返回已删除的数量
+     * @param pattern - match pattern
+     * @param batchSize 每批删除的 key 数量
+     * @param interval 每批之间的间隔, 为空或0时不间隔
+     * @return number of removed keys
+     */
+    public static long unlinkKeysByPattern(String pattern, int batchSize, Duration interval) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        long removed = 0;
+        List<String> keys = new ArrayList<>(batchSize);
+        for (String key : scanKeys(pattern, batchSize)) {
+            keys.add(key);
+            if (keys.size() >= batchSize) {
+                removed += unlinkKeys(keys);
+                keys.clear();
+                if (!pause(interval)) {
+                    LOGGER.warn("unlink keys by pattern [{}] interrupted, {} keys removed", pattern, removed);
+                    return removed;
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            removed += unlinkKeys(keys);
+        }
+        return removed;
+    }
+
+    private static long unlinkKeys(List<String> keys) {
+        Map<String, Boolean> result = executeBatch(keys, ofBatchOptions(false),
+                (batch, key) -> batch.getBucket(key).unlinkAsync());
+        keys.forEach(RedissonUtil::invalidateHotKey);
+        return result.values().stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    private static boolean pause(Duration interval) {
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(interval.toMillis());
+            return true;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     /**
@@ -147,6 +326,9 @@ public class RedissonUtil {
      */
     public static void deleteKeys(String... keys) {
         getRKey().delete(keys);
+        for (String key : keys) {
+            invalidateHotKey(key);
+        }
     }
 
     /**
@@ -210,9 +392,25 @@ public class RedissonUtil {
      * @param key key
      * @return value
      */
+    @SuppressWarnings("unchecked")
     public static <T> T get(String key) {
+        HotKeyDetector detector = HOT_KEY_DETECTOR;
+        if (detector == null || !detector.record(BUCKET_NAMESPACE, key)) {
+            RBucket<T> rBucket = getRBucket(key);
+            return rBucket.get();
+        }
+        // 热点 key 优先读取本地副本
+        Cache.ValueWrapper wrapper = detector.getLocal(BUCKET_NAMESPACE, key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        long stamp = detector.localStamp(BUCKET_NAMESPACE, key);
         RBucket<T> rBucket = getRBucket(key);
-        return rBucket.get();
+        T value = rBucket.get();
+        if (value != null) {
+            detector.putLocal(BUCKET_NAMESPACE, key, value, stamp);
+        }
+        return value;
     }
 
     /**
@@ -243,7 +441,9 @@ public class RedissonUtil {
      * @return {@code true} if successful, or {@code false} if element wasn't set
      */
     public static <T> boolean setIfExists(String key, T value, Duration duration) {
-        return getRBucket(key).setIfExists(value, duration);
+        boolean result = getRBucket(key).setIfExists(value, duration);
+        invalidateHotKey(key);
+        return result;
     }
 
     /**
@@ -263,6 +463,7 @@ public class RedissonUtil {
             bucket.expireAsync(duration);
             batch.execute();
         }
+        invalidateHotKey(key);
     }
 
     /**
@@ -284,6 +485,7 @@ public class RedissonUtil {
                 set(key, value, Duration.ofMillis(timeToLive));
             }
         }
+        invalidateHotKey(key);
     }
 
     /**
@@ -292,6 +494,7 @@ public class RedissonUtil {
      */
     public static void delete(String key) {
         getRBucket(key).delete();
+        invalidateHotKey(key);
     }
 
     /**
@@ -300,7 +503,9 @@ public class RedissonUtil {
      */
     public static <T> T getAndDelete(String key) {
         RBucket<T> rBucket = getRBucket(key);
-        return rBucket.getAndDelete();
+        T value = rBucket.getAndDelete();
+        invalidateHotKey(key);
+        return value;
     }
 
     /**
@@ -308,11 +513,8 @@ public class RedissonUtil {
      * @param collection collection
      */
     public static void delete(Collection<?> collection) {
-        RBatch batch = ofRBatch();
-        collection.forEach(key -> {
-            batch.getBucket(key.toString()).deleteAsync();
-        });
-        batch.execute();
+        executeBatch(collection, ofBatchOptions(true), (batch, key) -> batch.getBucket(key.toString()).deleteAsync());
+        collection.forEach(key -> invalidateHotKey(key.toString()));
     }
 
     /**
@@ -323,6 +525,16 @@ public class RedissonUtil {
         return getRBucket(key).isExists();
     }
 
+    /**
+     * 删除热点 key 的本地副本
+     * @param key key
+     */
+    static void invalidateHotKey(String key) {
+        if (HOT_KEY_DETECTOR != null) {
+            HOT_KEY_DETECTOR.invalidateLocal(BUCKET_NAMESPACE, key);
+        }
+    }
+
     /**
      * Obtain the RBucket.
      * @param name name of object
@@ -350,6 +562,212 @@ public class RedissonUtil {
         return ofRedissonClient().createBatch();
     }
 
+    /**
+     * 获取配置的管道参数, 每次返回新实例, 可在此基础上修改
+     * @param write 是否写操作, 仅写操作应用 skipResult 配置
+     * @return BatchOptions
+     */
+    public static BatchOptions ofBatchOptions(boolean write) {
+        return PROPERTIES.getBatch().createBatchOptions(write);
+    }
+
+    /**
+     * 管道批量获取值, 与 get(String...) 的 MGET 不同, 按 chunkSize 拆分, 适合大量 key
+     * @param keys keys
+     * @return key 与值, 不存在的 key 值为 null
+     */
+    public static <T> Map<String, T> getAll(Collection<String> keys) {
+        return getAll(keys, ofBatchOptions(false));
+    }
+
+    /**
+     * 管道批量获取值
+     * @param keys keys
+     * @param options 管道参数, 不支持 skipResult
+     * @return key 与值, 不存在的 key 值为 null
+     */
+    public static <T> Map<String, T> getAll(Collection<String> keys, BatchOptions options) {
+        assertReadable(options);
+        return executeBatch(keys, options, (batch, key) -> batch.<T>getBucket(key).getAsync());
+    }
+
+    /**
+     * 管道批量设置值
+     * @param entries key 与值
+     * @param duration 过期时间, 小于等于0时不过期
+     */
+    public static <T> void setAll(Map<String, T> entries, Duration duration) {
+        setAll(entries, duration, ofBatchOptions(true));
+    }
+
+    /**
+     * 管道批量设置值
+     * @param entries key 与值
+     * @param duration 过期时间, 小于等于0时不过期
+     * @param options 管道参数
+     */
+    public static <T> void setAll(Map<String, T> entries, Duration duration, BatchOptions options) {
+        boolean expirable = duration.toMillis() > 0;
+        executeBatch(entries.keySet(), options, (batch, key) -> {
+            RBucketAsync<T> bucket = batch.getBucket(key);
+            return expirable ? bucket.setAsync(entries.get(key), duration) : bucket.setAsync(entries.get(key));
+        });
+        entries.keySet().forEach(RedissonUtil::invalidateHotKey);
+    }
+
+    /**
+     * 管道批量设置过期时间, 适用于任意类型的 key
+     * @param keys keys
+     * @param duration 过期时间
+     */
+    public static void expireAll(Collection<String> keys, Duration duration) {
+        expireAll(keys, duration, ofBatchOptions(true));
+    }
+
+    /**
+     * 管道批量设置过期时间, 适用于任意类型的 key
+     * @param keys keys
+     * @param duration 过期时间
+     * @param options 管道参数
+     */
+    public static void expireAll(Collection<String> keys, Duration duration, BatchOptions options) {
+        long timeToLive = duration.toMillis();
+        executeBatch(keys, options,
+                (batch, key) -> batch.getKeys().expireAsync(key, timeToLive, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 管道批量自增, 基于 RAtomicLong(INCRBY)
+     * @param keys keys
+     * @param delta 增量
+     * @return key 与自增后的值
+     */
+    public static Map<String, Long> incrementAll(Collection<String> keys, long delta) {
+        Map<String, Long> deltas = new LinkedHashMap<>(keys.size() * 2);
+        keys.forEach(key -> deltas.put(key, delta));
+        return incrementAll(deltas);
+    }
+
+    /**
+     * 管道批量自增, 基于 RAtomicLong(INCRBY)
+     * @param deltas key 与增量
+     * @return key 与自增后的值
+     */
+    public static Map<String, Long> incrementAll(Map<String, Long> deltas) {
+        return incrementAll(deltas, ofBatchOptions(true));
+    }
+
+    /**
+     * 管道批量自增, 基于 RAtomicLong(INCRBY)
+     * @param deltas key 与增量
+     * @param options 管道参数
+     * @return key 与自增后的值, skipResult 时值为 null
+     */
+    public static Map<String, Long> incrementAll(Map<String, Long> deltas, BatchOptions options) {
+        return executeBatch(deltas.keySet(), options,
+                (batch, key) -> batch.getAtomicLong(key).addAndGetAsync(deltas.get(key)));
+    }
+
+    /**
+     * 管道批量获取多个 List 的全部元素
+     * @param keys keys
+     * @return key 与元素集合
+     */
+    public static <T> Map<String, List<T>> getListAll(Collection<String> keys) {
+        return getListAll(keys, ofBatchOptions(false));
+    }
+
+    /**
+     * 管道批量获取多个 List 的全部元素
+     * @param keys keys
+     * @param options 管道参数, 不支持 skipResult
+     * @return key 与元素集合
+     */
+    public static <T> Map<String, List<T>> getListAll(Collection<String> keys, BatchOptions options) {
+        assertReadable(options);
+        return executeBatch(keys, options, (batch, key) -> batch.<T>getList(key).readAllAsync());
+    }
+
+    /**
+     * 管道批量获取多个 Set 的全部元素
+     * @param keys keys
+     * @return key 与元素集合
+     */
+    public static <T> Map<String, Set<T>> getSetAll(Collection<String> keys) {
+        return getSetAll(keys, ofBatchOptions(false));
+    }
+
+    /**
+     * 管道批量获取多个 Set 的全部元素
+     * @param keys keys
+     * @param options 管道参数, 不支持 skipResult
+     * @return key 与元素集合
+     */
+    public static <T> Map<String, Set<T>> getSetAll(Collection<String> keys, BatchOptions options) {
+        assertReadable(options);
+        return executeBatch(keys, options, (batch, key) -> batch.<T>getSet(key).readAllAsync());
+    }
+
+    /**
+     * 管道批量获取多个 Map(Hash) 的全部键值
+     * @param names name of objects
+     * @return name 与键值
+     */
+    public static <T> Map<String, Map<String, T>> getMapAll(Collection<String> names) {
+        return getMapAll(names, ofBatchOptions(false));
+    }
+
+    /**
+     * 管道批量获取多个 Map(Hash) 的全部键值
+     * @param names name of objects
+     * @param options 管道参数, 不支持 skipResult
+     * @return name 与键值
+     */
+    public static <T> Map<String, Map<String, T>> getMapAll(Collection<String> names, BatchOptions options) {
+        assertReadable(options);
+        return executeBatch(names, options, (batch, name) -> batch.<String, T>getMap(name).readAllMapAsync());
+    }
+
+    /**
+     * 按 chunkSize 拆分后依次执行管道, 每个 key 对应一条命令
+     * @param keys keys
+     * @param options 管道参数
+     * @param command 在管道中添加命令
+     * @return key 与命令结果, 保持 keys 的迭代顺序
+     */
+    private static <K, R> Map<K, R> executeBatch(Collection<K> keys, BatchOptions options,
+            BiFunction<RBatch, K, RFuture<R>> command) {
+        Map<K, R> result = new LinkedHashMap<>(keys.size() * 2);
+        if (CollectionUtil.isEmpty(keys)) {
+            return result;
+        }
+        int chunkSize = Math.max(1, PROPERTIES.getBatch().getChunkSize());
+        Map<K, RFuture<R>> futures = new LinkedHashMap<>(Math.min(keys.size(), chunkSize) * 2);
+        RBatch batch = ofRedissonClient().createBatch(options);
+        for (K key : keys) {
+            futures.put(key, command.apply(batch, key));
+            if (futures.size() >= chunkSize) {
+                batch.execute();
+                collectBatch(futures, result);
+                batch = ofRedissonClient().createBatch(options);
+            }
+        }
+        if (!futures.isEmpty()) {
+            batch.execute();
+            collectBatch(futures, result);
+        }
+        return result;
+    }
+
+    private static <K, R> void collectBatch(Map<K, RFuture<R>> futures, Map<K, R> result) {
+        futures.forEach((key, future) -> result.put(key, future.toCompletableFuture().getNow(null)));
+        futures.clear();
+    }
+
+    private static void assertReadable(BatchOptions options) {
+        Assert.isTrue(!options.isSkipResult(), "BatchOptions with skipResult can not be used to read values");
+    }
+
     // ------------------------------- 限流 类型操作 --------------------------------
 
     /**
@@ -627,6 +1045,65 @@ public class RedissonUtil {
         return getRMap(key).expire(duration);
     }
 
+    /**
+     * 获取带本地缓存的 Map, 同名只创建一个实例, 读取优先命中本地缓存, 其他节点修改时由 Redis 通知同步
+     * @param name name of object
+     * @return RLocalCachedMap
+     */
+    public static <T> RLocalCachedMap<String, T> ofLocalCachedMap(String name) {
+        return LocalCachedMapRegistryHolder.INSTANCE.getMap(name);
+    }
+
+    /**
+     * get v by k from local cached map, 命中本地缓存时不访问 Redis
+     * @param name name of object
+     * @param key key
+     * @param <T> T Object
+     */
+    public static <T> T getLocalCachedMap(String name, String key) {
+        RLocalCachedMap<String, T> rMap = ofLocalCachedMap(name);
+        return rMap.get(key);
+    }
+
+    /**
+     * get all v from local cached map, 从 Redis 读取全部并刷新本地缓存
+     * @param name name of object
+     * @param <T> T Object
+     */
+    public static <T> Map<String, T> getLocalCachedMapAll(String name) {
+        RLocalCachedMap<String, T> rMap = ofLocalCachedMap(name);
+        return rMap.readAllMap();
+    }
+
+    /**
+     * Stores k and v into local cached map, 同时通知其他节点同步
+     * @param name name of object
+     * @param key key
+     * @param value value
+     * @param <T> T Object
+     */
+    public static <T> void addLocalCachedMap(String name, String key, T value) {
+        RLocalCachedMap<String, T> rMap = ofLocalCachedMap(name);
+        rMap.fastPut(key, value);
+    }
+
+    /**
+     * remove local cached map by key, 同时通知其他节点同步
+     * @param name name of object
+     * @param key key
+     */
+    public static void removeLocalCachedMap(String name, String key) {
+        ofLocalCachedMap(name).fastRemove(key);
+    }
+
+    /**
+     * 预加载全部条目到本地缓存, 适合启动时加载字典等
+     * @param name name of object
+     */
+    public static void preloadLocalCachedMap(String name) {
+        ofLocalCachedMap(name).preloadCache();
+    }
+
     /**
      * Obtain the RMap.
      * @param name name of object
@@ -658,6 +1135,112 @@ public class RedissonUtil {
         return ofRedissonClient().getAtomicLong(name);
     }
 
+    // ------------------------------- 写后计数 类型操作 --------------------------------
+
+    /**
+     * 计数加1, 本地累加后定时批量 INCRBY 写入 Redis, 不阻塞调用方, 适合浏览数、点赞数等高频计数
+     * @param key key
+     */
+    public static void addCounter(String key) {
+        WriteBehindCounterHolder.INSTANCE.increment(key, 1);
+    }
+
+    /**
+     * 计数增加 delta, 本地累加后定时批量 INCRBY 写入 Redis
+     * @param key key
+     * @param delta 增量
+     */
+    public static void addCounter(String key, long delta) {
+        WriteBehindCounterHolder.INSTANCE.increment(key, delta);
+    }
+
+    /**
+     * hash 字段计数增加 delta, 本地累加后定时批量 HINCRBY 写入 Redis
+     * @param key key
+     * @param field hash field
+     * @param delta 增量
+     */
+    public static void addCounter(String key, String field, long delta) {
+        WriteBehindCounterHolder.INSTANCE.increment(key, field, delta);
+    }
+
+    /**
+     * 计数值, Redis 中的值加上本节点未写入的增量
+     * @param key key
+     * @return count
+     */
+    public static long getCounter(String key) {
+        return WriteBehindCounterHolder.INSTANCE.get(key);
+    }
+
+    /**
+     * hash 字段计数值, Redis 中的值加上本节点未写入的增量
+     * @param key key
+     * @param field hash field
+     * @return count
+     */
+    public static long getCounter(String key, String field) {
+        return WriteBehindCounterHolder.INSTANCE.get(key, field);
+    }
+
+    /**
+     * 立即将本节点的计数增量写入 Redis
+     */
+    public static void flushCounter() {
+        WriteBehindCounterHolder.INSTANCE.flush();
+    }
+
+    // ------------------------------- Lua 脚本 类型操作 --------------------------------
+
+    /**
+     * 执行已注册的 Lua 脚本, 使用 EVALSHA, 脚本未缓存时自动使用 EVAL
+     * @param script 脚本定义
+     * @param keys KEYS, 集群模式下需在同一 slot
+     * @param args ARGV
+     * @return 脚本返回值
+     */
+    public static <R> R evalScript(LuaScript<R> script, List<Object> keys, Object... args) {
+        return LuaScriptRegistryHolder.INSTANCE.execute(script, keys, args);
+    }
+
+    /**
+     * 不存在时设置值及过期时间, 已存在时不修改并返回旧值, 值以字符串保存
+     * @param key key
+     * @param value 值
+     * @param duration 过期时间, 为 null 或 0 时不设置
+     * @return 旧值, 设置成功时返回 null
+     */
+    public static String setIfAbsentGetOld(String key, String value, Duration duration) {
+        long ttlMillis = duration == null ? 0 : duration.toMillis();
+        return evalScript(LuaScript.SET_IF_ABSENT_WITH_TTL, Collections.singletonList(key), value, ttlMillis);
+    }
+
+    /**
+     * 值等于期望值时删除, 值以字符串比较
+     * @param key key
+     * @param expected 期望值
+     * @return <code>true</code> if deleted
+     */
+    public static boolean compareAndDelete(String key, String expected) {
+        Long deleted = evalScript(LuaScript.COMPARE_AND_DELETE, Collections.singletonList(key), expected);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 增加后不超过上限时增加, 例如库存、配额, key 首次创建时设置过期时间
+     * @param key key
+     * @param delta 增量
+     * @param cap 上限
+     * @param duration 过期时间, 为 null 或 0 时不设置
+     * @return 增加后的值, 超过上限时返回 null 且不修改
+     */
+    public static Long incrementWithCap(String key, long delta, long cap, Duration duration) {
+        long ttlMillis = duration == null ? 0 : duration.toMillis();
+        List<Object> reply = evalScript(LuaScript.INCREMENT_WITH_CAP, Collections.singletonList(key), delta, cap,
+                ttlMillis);
+        return reply == null || reply.size() < 2 ? null : (Long) reply.get(1);
+    }
+
     // ------------------------------- 字节 类型操作 --------------------------------
 
     /**
@@ -806,6 +1389,157 @@ public class RedissonUtil {
         return ofRedissonClient().getBitSet(name);
     }
 
+    // ------------------------------- HyperLogLog 类型操作 --------------------------------
+
+    /**
+     * 添加元素到 HyperLogLog, 用于基数(UV)统计, 每个 key 最多占用 12KB, 标准误差 0.81%
+     * @param key key
+     * @param value 元素
+     * @return <code>true</code> if the cardinality estimate was changed
+     */
+    public static <T> boolean addHyperLogLog(String key, T value) {
+        RHyperLogLog<T> hyperLogLog = getRHyperLogLog(key);
+        return hyperLogLog.add(value);
+    }
+
+    /**
+     * 批量添加元素到 HyperLogLog, 超过 chunkSize 时按管道拆分为多个 PFADD
+     * @param key key
+     * @param values 元素
+     * @return <code>true</code> if the cardinality estimate was changed
+     */
+    public static <T> boolean addHyperLogLog(String key, Collection<T> values) {
+        if (CollectionUtil.isEmpty(values)) {
+            return false;
+        }
+        int chunkSize = Math.max(1, PROPERTIES.getBatch().getChunkSize());
+        if (values.size() <= chunkSize) {
+            RHyperLogLog<T> hyperLogLog = getRHyperLogLog(key);
+            return hyperLogLog.addAll(values);
+        }
+        List<T> valueList = new ArrayList<>(values);
+        List<Integer> chunkIndexes = IntStream.range(0, (valueList.size() + chunkSize - 1) / chunkSize)
+            .boxed()
+            .toList();
+        Map<Integer, Boolean> result = executeBatch(chunkIndexes, ofBatchOptions(false),
+                (batch, index) -> batch.<T>getHyperLogLog(key)
+                    .addAllAsync(
+                            valueList.subList(index * chunkSize, Math.min(valueList.size(), (index + 1) * chunkSize))));
+        return result.containsValue(Boolean.TRUE);
+    }
+
+    /**
+     * HyperLogLog 基数估计值
+     * @param key key
+     * @return 基数估计值
+     */
+    public static long countHyperLogLog(String key) {
+        return getRHyperLogLog(key).count();
+    }
+
+    /**
+     * 多个 HyperLogLog 并集的基数估计值, 例如多天的去重 UV, 集群模式下 key 需在同一 slot
+     * @param key key
+     * @param otherKeys 其他 key
+     * @return 基数估计值
+     */
+    public static long countHyperLogLog(String key, String... otherKeys) {
+        return getRHyperLogLog(key).countWith(otherKeys);
+    }
+
+    /**
+     * 合并多个 HyperLogLog 到目标 key, 例如将每日 UV 合并为每周 UV, 集群模式下 key 需在同一 slot
+     * @param destKey 目标 key
+     * @param sourceKeys 源 key
+     */
+    public static void mergeHyperLogLog(String destKey, String... sourceKeys) {
+        getRHyperLogLog(destKey).mergeWith(sourceKeys);
+    }
+
+    /**
+     * 设置 HyperLogLog 过期时间
+     * @param key key
+     * @param duration 过期时间
+     * @return true if the timeout was set
+     */
+    public static boolean expireHyperLogLog(String key, Duration duration) {
+        return getRHyperLogLog(key).expire(duration);
+    }
+
+    /**
+     * Obtain the RHyperLogLog.
+     * @param name name of object
+     * @return RHyperLogLog
+     */
+    private static <T> RHyperLogLog<T> getRHyperLogLog(String name) {
+        return ofRedissonClient().getHyperLogLog(name);
+    }
+
+    // ------------------------------- CountMin 类型操作 --------------------------------
+
+    /**
+     * 获取 Count-Min Sketch, 使用配置的误差率与置信度
+     * @param name key
+     * @return RedisCountMinSketch
+     */
+    public static RedisCountMinSketch ofCountMinSketch(String name) {
+        Redisson3Properties.CountMinSketch sketch = PROPERTIES.getCountMinSketch();
+        return ofCountMinSketch(name, sketch.getEpsilon(), sketch.getConfidence());
+    }
+
+    /**
+     * 获取 Count-Min Sketch, 同一 key 的参数必须一致
+     * @param name key
+     * @param epsilon 相对总次数的误差率
+     * @param confidence 置信度
+     * @return RedisCountMinSketch
+     */
+    public static RedisCountMinSketch ofCountMinSketch(String name, double epsilon, double confidence) {
+        return RedisCountMinSketch.ofErrorRate(ofRedissonClient(), LuaScriptRegistryHolder.INSTANCE, name, epsilon,
+                confidence);
+    }
+
+    /**
+     * 元素出现次数加1, 用于近似频次(PV)统计
+     * @param name key
+     * @param item 元素
+     * @return 增加后的估计次数
+     */
+    public static long addCountMin(String name, String item) {
+        return ofCountMinSketch(name).add(item);
+    }
+
+    /**
+     * 元素出现次数增加 count
+     * @param name key
+     * @param item 元素
+     * @param count 增加次数
+     * @return 增加后的估计次数
+     */
+    public static long addCountMin(String name, String item, long count) {
+        return ofCountMinSketch(name).add(item, count);
+    }
+
+    /**
+     * 管道批量增加元素出现次数
+     * @param name key
+     * @param counts 元素及增加次数
+     * @return 元素及增加后的估计次数
+     */
+    public static Map<String, Long> addCountMinAll(String name, Map<String, Long> counts) {
+        return ofCountMinSketch(name).addAll(counts);
+    }
+
+    /**
+     * 元素出现次数估计值, 只会高估不会低估
+     * @param name key
+     * @param item 元素
+     * @return 估计次数
+     */
+    public static long getCountMin(String name, String item) {
+        return ofCountMinSketch(name).estimate(item);
+    }
+
     // ------------------------------- 地理位置GEO 类型操作 --------------------------------
 
     /**
@@ -1200,8 +1934,8 @@ public class RedissonUtil {
      * @param count 返回数量
      * @return 返回查询对象
      */
-    private static GeoSearchArgs buildRadiusGeoSearchArgs(String member, double lng, double lat, double radius,
-            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+    static GeoSearchArgs buildRadiusGeoSearchArgs(String member, double lng, double lat, double radius, GeoUnit geoUnit,
+            GeoOrder geoOrder, int count) {
         if (StrUtil.isNotBlank(member)) {
             return GeoSearchArgs.from(member).radius(radius, geoUnit).order(geoOrder).count(count);
         }
@@ -1220,8 +1954,8 @@ public class RedissonUtil {
      * @param count 返回数量
      * @return 返回查询对象
      */
-    private static GeoSearchArgs buildBoxGeoSearchArgs(String member, double lng, double lat, double width,
-            double height, GeoUnit geoUnit, GeoOrder geoOrder, int count) {
+    static GeoSearchArgs buildBoxGeoSearchArgs(String member, double lng, double lat, double width, double height,
+            GeoUnit geoUnit, GeoOrder geoOrder, int count) {
         if (StrUtil.isNotBlank(member)) {
             return GeoSearchArgs.from(member).box(width, height, geoUnit).order(geoOrder).count(count);
         }
@@ -1254,7 +1988,9 @@ public class RedissonUtil {
             tryLockSuccess = lock.tryLock(waitTime, leaseTime, unit);
         }
         catch (InterruptedException e) {
-            LOGGER.error("Exception tryLock", e);
+            // 恢复中断标记, 交由调用方决定如何处理中断
+            Thread.currentThread().interrupt();
+            LOGGER.warn("tryLock [{}] interrupted", lock.getName());
         }
         return tryLockSuccess;
     }
@@ -1264,6 +2000,11 @@ public class RedissonUtil {
      * @param lock the RLock Object
      */
     public static void unLock(RLock lock) {
+        // 联锁不支持 isLocked/isHeldByCurrentThread, 直接释放
+        if (lock instanceof RedissonMultiLock) {
+            lock.unlock();
+            return;
+        }
         // 是否上锁 && 是否同一个线程
         if (lock.isLocked() && lock.isHeldByCurrentThread()) {
             lock.unlock();
@@ -1279,6 +2020,43 @@ public class RedissonUtil {
         return ofRedissonClient().getLock(lockName);
     }
 
+    /**
+     * Obtain fair RLock, 按请求顺序获取锁.
+     * @param lockName the lock name
+     * @return RLock object
+     */
+    public static RLock rFairLock(String lockName) {
+        return ofRedissonClient().getFairLock(lockName);
+    }
+
+    /**
+     * Obtain RReadWriteLock.
+     * @param lockName the lock name
+     * @return RReadWriteLock object
+     */
+    public static RReadWriteLock rReadWriteLock(String lockName) {
+        return ofRedissonClient().getReadWriteLock(lockName);
+    }
+
+    /**
+     * Obtain multi RLock, 同时获取全部锁才算成功. 调用方需保证锁顺序一致, 避免死锁.
+     * @param locks the RLock objects
+     * @return RLock object
+     */
+    public static RLock rMultiLock(RLock... locks) {
+        return ofRedissonClient().getMultiLock(locks);
+    }
+
+    /**
+     * Obtain multi RLock by lock names, 锁名称排序去重后加锁, 避免死锁.
+     * @param lockNames the lock names
+     * @return RLock object
+     */
+    public static RLock rMultiLock(Collection<String> lockNames) {
+        RLock[] locks = new TreeSet<>(lockNames).stream().map(RedissonUtil::rLock).toArray(RLock[]::new);
+        return rMultiLock(locks);
+    }
+
     // ------------------------------- 发布/订阅 类型操作 --------------------------------
 
     /**
@@ -1325,6 +2103,51 @@ public class RedissonUtil {
         topic.removeListener(listenerIds);
     }
 
+    /**
+     * 共享订阅通道, 同一通道在 Redis 上只订阅一次, 消息只解码一次后分发给本地监听器, 适合同一通道有大量本地监听器的场景.
+     * @param channelKey 通道key
+     * @param clazz 消息类型
+     * @param consumer 自定义处理
+     * @return TopicSubscription
+     */
+    public static <T> TopicSubscription<T> subscribeShared(String channelKey, Class<T> clazz, Consumer<T> consumer) {
+        return TopicHubHolder.INSTANCE.subscribe(channelKey, clazz, (channel, msg) -> consumer.accept(msg));
+    }
+
+    /**
+     * 共享订阅通道, 指定监听器线程池及缓冲区已满时的处理策略.
+     * @param channelKey 通道key
+     * @param clazz 消息类型
+     * @param listener 监听器
+     * @param executor 监听器线程池
+     * @param overflowPolicy 缓冲区已满时的处理策略
+     * @return TopicSubscription
+     */
+    public static <T> TopicSubscription<T> subscribeShared(String channelKey, Class<T> clazz,
+            TopicMessageListener<T> listener, Executor executor, TopicOverflowPolicy overflowPolicy) {
+        return TopicHubHolder.INSTANCE.subscribe(channelKey, clazz, listener, executor, overflowPolicy);
+    }
+
+    /**
+     * 按模式共享订阅通道, 例如 config.*.
+     * @param pattern 通道模式
+     * @param clazz 消息类型
+     * @param listener 监听器
+     * @return TopicSubscription
+     */
+    public static <T> TopicSubscription<T> psubscribeShared(String pattern, Class<T> clazz,
+            TopicMessageListener<T> listener) {
+        return TopicHubHolder.INSTANCE.psubscribe(pattern, clazz, listener);
+    }
+
+    /**
+     * 取消共享订阅, 通道没有本地监听器时移除 Redis 订阅.
+     * @param subscription subscription
+     */
+    public static void unsubscribeShared(TopicSubscription<?> subscription) {
+        TopicHubHolder.INSTANCE.unsubscribe(subscription);
+    }
+
     /**
      * Obtain the RTopic.
      * @param name name of object
@@ -1334,4 +2157,224 @@ public class RedissonUtil {
         return ofRedissonClient().getTopic(name);
     }
 
+    // ------------------------------- Stream 类型操作 --------------------------------
+
+    /**
+     * Obtain the RStream.
+     * @param name name of object
+     * @return RStream
+     */
+    public static <T> RStream<String, T> ofStream(String name) {
+        return ofRedissonClient().getStream(name);
+    }
+
+    /**
+     * 写入 Stream 消息, 按配置的 maxLen 近似裁剪(MAXLEN ~), 与 publish 不同, 消费者离线期间消息不会丢失
+     * @param name stream name
+     * @param body 消息内容
+     * @return 消息ID
+     */
+    public static <T> StreamMessageId addStream(String name, Map<String, T> body) {
+        return addStream(name, body, PROPERTIES.getStream().getMaxLen());
+    }
+
+    /**
+     * 写入 Stream 消息
+     * @param name stream name
+     * @param field 字段
+     * @param value 值
+     * @return 消息ID
+     */
+    public static <T> StreamMessageId addStream(String name, String field, T value) {
+        return addStream(name, Collections.singletonMap(field, value));
+    }
+
+    /**
+     * 写入 Stream 消息, 按 maxLen 近似裁剪(MAXLEN ~)
+     * @param name stream name
+     * @param body 消息内容
+     * @param maxLen 最大长度, 为0时不裁剪
+     * @return 消息ID
+     */
+    public static <T> StreamMessageId addStream(String name, Map<String, T> body, int maxLen) {
+        RStream<String, T> rStream = ofStream(name);
+        return rStream.add(buildStreamAddArgs(body, maxLen));
+    }
+
+    /**
+     * 管道批量写入 Stream 消息, 按 chunkSize 拆分
+     * @param name stream name
+     * @param bodies 消息内容列表
+     * @return 消息ID列表, 与 bodies 顺序一致
+     */
+    public static <T> List<StreamMessageId> addStreamAll(String name, List<Map<String, T>> bodies) {
+        if (CollectionUtil.isEmpty(bodies)) {
+            return Collections.emptyList();
+        }
+        int maxLen = PROPERTIES.getStream().getMaxLen();
+        List<Integer> indexes = IntStream.range(0, bodies.size()).boxed().toList();
+        // 需要返回消息ID, 不能使用 skipResult
+        Map<Integer, StreamMessageId> ids = executeBatch(indexes, ofBatchOptions(false), (batch,
+                index) -> batch.<String, T>getStream(name).addAsync(buildStreamAddArgs(bodies.get(index), maxLen)));
+        return new ArrayList<>(ids.values());
+    }
+
+    /**
+     * 创建消费组, 已存在时忽略, Stream 不存在时同时创建
+     * @param name stream name
+     * @param group 消费组名称
+     */
+    public static void createStreamGroup(String name, String group) {
+        StreamConsumerContainer.createGroup(ofStream(name), group);
+    }
+
+    /**
+     * 批量确认消息
+     * @param name stream name
+     * @param group 消费组名称
+     * @param ids 消息ID
+     * @return 确认成功的数量
+     */
+    public static long ackStream(String name, String group, StreamMessageId... ids) {
+        return ofStream(name).ack(group, ids);
+    }
+
+    /**
+     * 消费组订阅 Stream, 批量读取、处理并批量确认, 宕机消费者的待确认消息由其他消费者认领
+     * @param name stream name
+     * @param group 消费组名称
+     * @param listener 消息监听器
+     * @return StreamSubscription
+     */
+    public static <T> StreamSubscription<T> subscribeStream(String name, String group,
+            StreamMessageListener<T> listener) {
+        return StreamConsumerContainerHolder.INSTANCE.subscribe(name, group, listener);
+    }
+
+    /**
+     * 消费组订阅 Stream, 每批消息在 executor 上并行处理
+     * @param name stream name
+     * @param group 消费组名称
+     * @param listener 消息监听器
+     * @param executor 处理消息的线程池
+     * @return StreamSubscription
+     */
+    public static <T> StreamSubscription<T> subscribeStream(String name, String group,
+            StreamMessageListener<T> listener, Executor executor) {
+        return StreamConsumerContainerHolder.INSTANCE.subscribe(name, group, listener, executor);
+    }
+
+    /**
+     * 取消 Stream 订阅
+     * @param subscription subscription
+     */
+    public static void unsubscribeStream(StreamSubscription<?> subscription) {
+        StreamConsumerContainerHolder.INSTANCE.unsubscribe(subscription);
+    }
+
+    private static <T> StreamAddArgs<String, T> buildStreamAddArgs(Map<String, T> body, int maxLen) {
+        StreamAddArgs<String, T> args = StreamAddArgs.entries(body);
+        return maxLen > 0 ? args.trimNonStrict().maxLen(maxLen).noLimit() : args;
+    }
+
+    // ------------------------------- 延迟任务 类型操作 --------------------------------
+
+    /**
+     * 延迟执行任务, 到期后由注册了该主题 DelayedJobHandler 的节点处理
+     * @param topic 任务主题
+     * @param payload 任务数据
+     * @param delay 延迟时间
+     * @return 任务ID
+     */
+    public static String scheduleDelayed(String topic, Object payload, Duration delay) {
+        return DelayedJobSchedulerHolder.INSTANCE.schedule(topic, payload, delay);
+    }
+
+    /**
+     * 指定时间执行任务, 时间已过时立即执行
+     * @param topic 任务主题
+     * @param payload 任务数据
+     * @param executeTime 执行时间
+     * @return 任务ID
+     */
+    public static String scheduleDelayed(String topic, Object payload, Instant executeTime) {
+        return DelayedJobSchedulerHolder.INSTANCE.schedule(topic, payload, executeTime);
+    }
+
+    /**
+     * 写后计数器, 未注册 Bean 时首次使用才按配置创建, 避免未使用计数方法的应用启动刷新线程
+     */
+    private static final class WriteBehindCounterHolder {
+
+        private static final WriteBehindCounter INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(WriteBehindCounter.class)
+            .getIfAvailable(() -> {
+                WriteBehindCounter counter = new WriteBehindCounter(REDISSON_CLIENT, PROPERTIES.getCounter(),
+                        PROPERTIES.getBatch());
+                counter.afterPropertiesSet();
+                return counter;
+            });
+
+    }
+
+    /**
+     * Lua 脚本注册表, 未注册 Bean 时首次执行脚本才按配置创建, 避免启动时扫描脚本并 SCRIPT LOAD
+     */
+    private static final class LuaScriptRegistryHolder {
+
+        private static final LuaScriptRegistry INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(LuaScriptRegistry.class)
+            .getIfAvailable(() -> {
+                LuaScriptRegistry registry = new LuaScriptRegistry(REDISSON_CLIENT, PROPERTIES.getScript());
+                registry.afterPropertiesSet();
+                return registry;
+            });
+
+    }
+
+    /**
+     * 延迟任务调度器, 未注册 Bean 时首次调度才按配置创建, 只写入任务, 不拉取
+     */
+    private static final class DelayedJobSchedulerHolder {
+
+        private static final DelayedJobScheduler INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(DelayedJobScheduler.class)
+            .getIfAvailable(() -> new DelayedJobScheduler(REDISSON_CLIENT, PROPERTIES.getDelay(), null));
+
+    }
+
+    /**
+     * RLocalCachedMap 实例注册表, 未注册 Bean 时首次获取才按配置创建
+     */
+    private static final class LocalCachedMapRegistryHolder {
+
+        private static final LocalCachedMapRegistry INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(LocalCachedMapRegistry.class)
+            .getIfAvailable(() -> new LocalCachedMapRegistry(REDISSON_CLIENT, PROPERTIES.getLocalCachedMap(),
+                    PROPERTIES.getLocalCachedMaps()));
+
+    }
+
+    /**
+     * Redis Stream 消费组订阅容器, 未注册 Bean 时首次使用才按配置创建
+     */
+    private static final class StreamConsumerContainerHolder {
+
+        private static final StreamConsumerContainer INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(StreamConsumerContainer.class)
+            .getIfAvailable(() -> new StreamConsumerContainer(REDISSON_CLIENT, PROPERTIES.getStream()));
+
+    }
+
+    /**
+     * 共享订阅中心, 未注册 Bean 时首次订阅才按配置创建
+     */
+    private static final class TopicHubHolder {
+
+        private static final TopicHub INSTANCE = SpringContextUtil.getApplicationContext()
+            .getBeanProvider(TopicHub.class)
+            .getIfAvailable(() -> new TopicHub(REDISSON_CLIENT, PROPERTIES.getTopic()));
+
+    }
+
 }
@@ -0,0 +1,8 @@
+-- 值等于期望值时删除, 用于安全释放自定义锁等场景
+-- KEYS[1] key
+-- ARGV[1] 期望值
+-- return 1 删除成功, 0 值不匹配或不存在
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
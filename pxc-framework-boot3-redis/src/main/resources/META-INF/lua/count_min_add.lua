@@ -0,0 +1,33 @@
+-- Count-Min Sketch 保守更新, 只增加等于最小值的计数器, 计数器为 u32
+-- KEYS[1] sketch key
+-- ARGV[1] 增加次数
+-- ARGV[2..] 每行的计数器下标
+-- return 增加后的估计值
+local inc = tonumber(ARGV[1])
+local getArgs = {}
+for i = 2, #ARGV do
+    table.insert(getArgs, 'GET')
+    table.insert(getArgs, 'u32')
+    table.insert(getArgs, '#' .. ARGV[i])
+end
+local values = redis.call('BITFIELD', KEYS[1], unpack(getArgs))
+local min = values[1]
+for i = 2, #values do
+    if values[i] < min then
+        min = values[i]
+    end
+end
+local target = math.min(min + inc, 4294967295)
+local setArgs = {}
+for i = 1, #values do
+    if values[i] < target then
+        table.insert(setArgs, 'SET')
+        table.insert(setArgs, 'u32')
+        table.insert(setArgs, '#' .. ARGV[i + 1])
+        table.insert(setArgs, string.format('%d', target))
+    end
+end
+if #setArgs > 0 then
+    redis.call('BITFIELD', KEYS[1], unpack(setArgs))
+end
+return target
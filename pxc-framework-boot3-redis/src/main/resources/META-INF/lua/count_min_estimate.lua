@@ -0,0 +1,18 @@
+-- Count-Min Sketch 估计值, 取各行计数器的最小值
+-- KEYS[1] sketch key
+-- ARGV[1..] 每行的计数器下标
+-- return 估计值
+local getArgs = {}
+for i = 1, #ARGV do
+    table.insert(getArgs, 'GET')
+    table.insert(getArgs, 'u32')
+    table.insert(getArgs, '#' .. ARGV[i])
+end
+local values = redis.call('BITFIELD_RO', KEYS[1], unpack(getArgs))
+local min = values[1]
+for i = 2, #values do
+    if values[i] < min then
+        min = values[i]
+    end
+end
+return min
@@ -0,0 +1,17 @@
+-- 增加后不超过上限时增加, 用于库存扣减、配额等场景
+-- KEYS[1] key
+-- ARGV[1] 增量
+-- ARGV[2] 上限
+-- ARGV[3] 过期时间(毫秒), key 没有过期时间时设置, 为0时不设置
+-- return {1, 增加后的值}, 超过上限时返回 nil 且不修改
+local delta = tonumber(ARGV[1])
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+if current + delta > tonumber(ARGV[2]) then
+    return false
+end
+local value = redis.call('INCRBY', KEYS[1], delta)
+local ttl = tonumber(ARGV[3])
+if ttl > 0 and redis.call('PTTL', KEYS[1]) == -1 then
+    redis.call('PEXPIRE', KEYS[1], ttl)
+end
+return { 1, value }
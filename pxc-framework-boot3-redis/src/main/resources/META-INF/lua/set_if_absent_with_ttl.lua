@@ -0,0 +1,15 @@
+-- 不存在时设置值及过期时间, 已存在时不修改并返回旧值
+-- KEYS[1] key
+-- ARGV[1] value
+-- ARGV[2] 过期时间(毫秒), 为0时不设置
+-- return 旧值, 设置成功时返回 nil
+local old = redis.call('GET', KEYS[1])
+if old then
+    return old
+end
+if tonumber(ARGV[2]) > 0 then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+else
+    redis.call('SET', KEYS[1], ARGV[1])
+end
+return false
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.test;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJob;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJobHandler;
+import io.github.panxiaochao.boot3.redis.delay.DelayedJobScheduler;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RDelayedQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ * 延迟任务调度器测试, 以 Mock 的阻塞队列与延迟队列模拟 Redis
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class DelayedJobSchedulerTest {
+
+    @Test
+    @SuppressWarnings({ "unchecked", "deprecation" })
+    void requeueFailureDoesNotDropRestOfBatch() throws Exception {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RBlockingQueue<DelayedJob> blockingQueue = mock(RBlockingQueue.class);
+        RDelayedQueue<DelayedJob> delayedQueue = mock(RDelayedQueue.class);
+        when(redissonClient.<DelayedJob>getBlockingQueue(anyString())).thenReturn(blockingQueue);
+        when(redissonClient.getDelayedQueue(blockingQueue)).thenReturn(delayedQueue);
+        when(blockingQueue.poll(anyLong(), any(TimeUnit.class))).thenReturn(job("1")).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(10);
+            return null;
+        });
+        when(blockingQueue.poll(anyInt())).thenReturn(List.of(job("2"), job("3")));
+        // 任务2放回延迟队列时 Redis 异常
+        doThrow(new RedisException("connection lost")).when(delayedQueue)
+            .offer(argThat(job -> job != null && "2".equals(job.getId())), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        Set<Object> handled = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(3);
+        DelayedJobHandler<Object> handler = new DelayedJobHandler<>() {
+
+            @Override
+            public String getTopic() {
+                return "order";
+            }
+
+            @Override
+            public void handle(Object payload) {
+                handled.add(payload);
+                done.countDown();
+                throw new IllegalStateException("failed " + payload);
+            }
+
+        };
+        Redisson3Properties.Delay properties = new Redisson3Properties.Delay();
+        properties.setRetryDelay(Duration.ofMillis(100));
+        DelayedJobScheduler scheduler = new DelayedJobScheduler(redissonClient, properties, List.of(handler));
+        scheduler.afterPropertiesSet();
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(Set.of("payload-1", "payload-2", "payload-3"), handled);
+            // 任务3在任务2放回失败后仍被处理并放回重试
+            verify(delayedQueue, timeout(5000)).offer(argThat(job -> job != null && "3".equals(job.getId())), anyLong(),
+                    eq(TimeUnit.MILLISECONDS));
+            verify(delayedQueue).offer(argThat(job -> job != null && "1".equals(job.getId())), anyLong(),
+                    eq(TimeUnit.MILLISECONDS));
+        }
+        finally {
+            scheduler.destroy();
+        }
+    }
+
+    private static DelayedJob job(String id) {
+        DelayedJob job = new DelayedJob();
+        job.setId(id);
+        job.setTopic("order");
+        job.setPayload("payload-" + id);
+        return job;
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.test;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import io.github.panxiaochao.boot3.redis.topic.TopicHub;
+import io.github.panxiaochao.boot3.redis.topic.TopicOverflowPolicy;
+import io.github.panxiaochao.boot3.redis.topic.TopicSubscription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ * 共享订阅中心测试, 以 Mock 的 RTopic 模拟 Redisson 订阅线程投递消息
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class TopicHubTest {
+
+    private static final String CHANNEL = "config";
+
+    private static final int LISTENER_ID = 7;
+
+    private final AtomicReference<MessageListener<Object>> redisListener = new AtomicReference<>();
+
+    private final Redisson3Properties.Topic properties = new Redisson3Properties.Topic();
+
+    private RTopic topic;
+
+    private TopicHub topicHub;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        this.topic = mock(RTopic.class);
+        when(redissonClient.getTopic(CHANNEL)).thenReturn(this.topic);
+        when(this.topic.addListener(eq(Object.class), any())).thenAnswer(invocation -> {
+            this.redisListener.set(invocation.getArgument(1));
+            return LISTENER_ID;
+        });
+        this.properties.setBufferSize(4);
+        this.properties.setBlockTimeout(Duration.ofMillis(50));
+        this.topicHub = new TopicHub(redissonClient, this.properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.topicHub.destroy();
+    }
+
+    @Test
+    void deliverInOrder() throws InterruptedException {
+        this.properties.setBufferSize(2048);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int total = 1000;
+            List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch latch = new CountDownLatch(total);
+            this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> {
+                received.add(message);
+                latch.countDown();
+            }, executor, TopicOverflowPolicy.DROP);
+            for (int i = 0; i < total; i++) {
+                publish(i);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(IntStream.range(0, total).boxed().toList(), received);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dropWhenBufferIsFull() {
+        ManualExecutor executor = new ManualExecutor();
+        List<Integer> received = new ArrayList<>();
+        TopicSubscription<Integer> subscription = this.topicHub.subscribe(CHANNEL, Integer.class,
+                (channel, message) -> received.add(message), executor, TopicOverflowPolicy.DROP);
+        for (int i = 0; i < 10; i++) {
+            publish(i);
+        }
+        assertEquals(4, subscription.getPendingCount());
+        assertEquals(6, subscription.getDroppedCount());
+        // 同一时间只提交一个投递任务
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(List.of(0, 1, 2, 3), received);
+        assertEquals(0, subscription.getPendingCount());
+    }
+
+    @Test
+    void blockThenDropAfterTimeout() {
+        ManualExecutor executor = new ManualExecutor();
+        TopicSubscription<Integer> subscription = this.topicHub.subscribe(CHANNEL, Integer.class,
+                (channel, message) -> {
+                }, executor, TopicOverflowPolicy.BLOCK);
+        for (int i = 0; i < 4; i++) {
+            publish(i);
+        }
+        long start = System.nanoTime();
+        publish(4);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(1, subscription.getDroppedCount());
+        assertEquals(4, subscription.getPendingCount());
+    }
+
+    @Test
+    void slowListenerDoesNotBlockOthers() throws InterruptedException {
+        this.properties.setBlockTimeout(Duration.ofSeconds(5));
+        ManualExecutor stalled = new ManualExecutor();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch latch = new CountDownLatch(10);
+            TopicSubscription<Integer> slow = this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> {
+            }, stalled, TopicOverflowPolicy.DROP);
+            // 正常的监听器使用 BLOCK, 等待自己的线程池处理, 不丢消息
+            this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> latch.countDown(), executor,
+                    TopicOverflowPolicy.BLOCK);
+            for (int i = 0; i < 10; i++) {
+                publish(i);
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(6, slow.getDroppedCount());
+            // 同一通道只订阅一次 Redis
+            verify(this.topic, times(1)).addListener(eq(Object.class), any());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void ignoreOtherTypesAndListenerFailure() {
+        ManualExecutor executor = new ManualExecutor();
+        List<Integer> received = new ArrayList<>();
+        this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> {
+            if (message == 1) {
+                throw new IllegalStateException("handle failed");
+            }
+            received.add(message);
+        }, executor, TopicOverflowPolicy.DROP);
+        publish("text");
+        publish(1);
+        publish(2);
+        executor.runAll();
+        assertEquals(List.of(2), received);
+    }
+
+    @Test
+    void removeRedisListenerWithLastSubscription() {
+        ManualExecutor executor = new ManualExecutor();
+        TopicSubscription<Integer> first = this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> {
+        }, executor, TopicOverflowPolicy.DROP);
+        TopicSubscription<Integer> second = this.topicHub.subscribe(CHANNEL, Integer.class, (channel, message) -> {
+        }, executor, TopicOverflowPolicy.DROP);
+        this.topicHub.unsubscribe(first);
+        assertFalse(first.isActive());
+        verify(this.topic, never()).removeListener(LISTENER_ID);
+        this.topicHub.unsubscribe(second);
+        verify(this.topic).removeListener(LISTENER_ID);
+        // 取消后的消息不再进入缓冲区
+        publish(1);
+        assertEquals(0, second.getPendingCount());
+    }
+
+    private void publish(Object message) {
+        this.redisListener.get().onMessage(CHANNEL, message);
+    }
+
+    /**
+     * 手动执行的线程池, 用于模拟处理不过来的监听器
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            this.tasks.add(command);
+        }
+
+        private void runAll() {
+            Runnable task;
+            while ((task = this.tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright © 2025-2026 Lypxc (545685602@qq.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.panxiaochao.boot3.redis.test;
+
+import io.github.panxiaochao.boot3.redis.config.properties.Redisson3Properties;
+import io.github.panxiaochao.boot3.redis.counter.WriteBehindCounter;
+import io.github.panxiaochao.boot3.redis.mapper.KeyPrefixNameMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RAtomicLongAsync;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.redisson.connection.CRC16;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ * 写后计数器测试, 以 Mock 的 RBatch 模拟 Redis, execute 时才应用整批命令
+ * </p>
+ *
+ * @author Lypxc
+ * @since 2026-10-17
+ * @version 1.0
+ */
+public class WriteBehindCounterTest {
+
+    /**
+     * 模拟的 Redis 数据, hash 字段以 key#field 保存
+     */
+    private final Map<String, Long> redis = new ConcurrentHashMap<>();
+
+    private final List<BatchOptions> batchOptions = new ArrayList<>();
+
+    /**
+     * 第 n 次(从1开始) execute 失败, 为0时不失败
+     */
+    private final AtomicInteger failOnExecute = new AtomicInteger();
+
+    private final AtomicInteger executeCount = new AtomicInteger();
+
+    private final Redisson3Properties.Batch batchProperties = new Redisson3Properties.Batch();
+
+    /**
+     * 集群模式下的 key 前缀, 为空时模拟单机模式
+     */
+    private String clusterKeyPrefix;
+
+    private WriteBehindCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        this.counter = createCounter(null);
+    }
+
+    private WriteBehindCounter createCounter(Config config) {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getConfig()).thenReturn(config);
+        when(redissonClient.createBatch(any(BatchOptions.class))).thenAnswer(invocation -> {
+            this.batchOptions.add(invocation.getArgument(0));
+            return createBatch();
+        });
+        when(redissonClient.getAtomicLong(anyString())).thenAnswer(invocation -> {
+            RAtomicLong atomicLong = mock(RAtomicLong.class);
+            String key = invocation.getArgument(0);
+            when(atomicLong.get()).thenAnswer(get -> this.redis.getOrDefault(key, 0L));
+            return atomicLong;
+        });
+        return new WriteBehindCounter(redissonClient, new Redisson3Properties.Counter(), this.batchProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.failOnExecute.set(0);
+        this.counter.destroy();
+    }
+
+    @Test
+    void flushMergesIncrements() {
+        this.counter.increment("pv", 1);
+        this.counter.increment("pv", 2);
+        this.counter.increment("like", "post:1", 5);
+        this.counter.increment("uv", 0);
+        assertEquals(3, this.counter.getPending("pv", null));
+        assertEquals(2, this.counter.flush());
+        assertEquals(3L, this.redis.get("pv"));
+        assertEquals(5L, this.redis.get("like#post:1"));
+        assertEquals(0, this.counter.getPending("pv", null));
+        assertEquals(3, this.counter.get("pv"));
+        assertEquals(1, this.batchOptions.size());
+        assertEquals(BatchOptions.ExecutionMode.REDIS_WRITE_ATOMIC, this.batchOptions.get(0).getExecutionMode());
+        // 没有新增量时不访问 Redis
+        assertEquals(0, this.counter.flush());
+        assertEquals(1, this.executeCount.get());
+    }
+
+    @Test
+    void flushInChunks() {
+        this.batchProperties.setChunkSize(2);
+        for (int i = 0; i < 5; i++) {
+            this.counter.increment("key:" + i, i + 1);
+        }
+        assertEquals(5, this.counter.flush());
+        assertEquals(3, this.executeCount.get());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1L, this.redis.get("key:" + i));
+        }
+    }
+
+    @Test
+    void failedChunkIsRetriedOnce() {
+        this.batchProperties.setChunkSize(1);
+        this.counter.increment("a", 1);
+        this.counter.increment("b", 2);
+        this.failOnExecute.set(2);
+        assertEquals(2, this.counter.flush());
+        // 失败的一批整体未生效, 增量放回本地
+        assertEquals(1L, this.redis.get("a"));
+        assertEquals(null, this.redis.get("b"));
+        assertEquals(2, this.counter.getPending("b", null));
+        assertEquals(0, this.counter.getPending("a", null));
+
+        this.counter.increment("b", 3);
+        assertEquals(1, this.counter.flush());
+        assertEquals(1L, this.redis.get("a"));
+        assertEquals(5L, this.redis.get("b"));
+        assertEquals(0, this.counter.getPending("b", null));
+    }
+
+    @Test
+    void clusterChunksAreGroupedBySlot() {
+        useCluster();
+        assertNotEquals(slotOf("app:a"), slotOf("app:b"));
+        this.counter.increment("a", 1);
+        this.counter.increment("b", 2);
+        this.counter.increment("{user}:pv", 3);
+        this.counter.increment("{user}:uv", "day", 4);
+        assertEquals(4, this.counter.flush());
+        // a、b 各一批, 相同 hash tag 的两个 key 同一批
+        assertEquals(3, this.executeCount.get());
+        assertEquals(1L, this.redis.get("a"));
+        assertEquals(2L, this.redis.get("b"));
+        assertEquals(3L, this.redis.get("{user}:pv"));
+        assertEquals(4L, this.redis.get("{user}:uv#day"));
+    }
+
+    @Test
+    void clusterNodeFailureOnlyRetriesItsSlot() {
+        useCluster();
+        this.counter.increment("a", 1);
+        this.counter.increment("b", 2);
+        // 第二个节点 EXEC 失败, 第一个节点已生效的增量不能再放回
+        this.failOnExecute.set(2);
+        assertEquals(2, this.counter.flush());
+        assertEquals(1L, this.redis.get("a"));
+        assertEquals(null, this.redis.get("b"));
+        assertEquals(0, this.counter.getPending("a", null));
+        assertEquals(2, this.counter.getPending("b", null));
+
+        assertEquals(1, this.counter.flush());
+        assertEquals(1L, this.redis.get("a"));
+        assertEquals(2L, this.redis.get("b"));
+    }
+
+    @Test
+    void idleCounterIsRemovedAndRecreated() {
+        this.counter.increment("pv", 1);
+        assertEquals(1, this.counter.flush());
+        // 没有新增量, 空闲计数器被移除
+        assertEquals(0, this.counter.flush());
+        this.counter.increment("pv", 2);
+        assertEquals(2, this.counter.getPending("pv", null));
+        assertEquals(1, this.counter.flush());
+        assertEquals(3L, this.redis.get("pv"));
+    }
+
+    @Test
+    void noIncrementLostWhileFlushing() throws InterruptedException {
+        int threads = 4;
+        int increments = 100000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            // 持续刷新, 每次增加后短暂停顿让计数器进入空闲, 刷新时移除空闲计数器与并发的 increment 竞争
+            executor.execute(() -> {
+                while (running.get()) {
+                    this.counter.flush();
+                }
+            });
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < increments; i++) {
+                        this.counter.increment("key:" + (i % 8), 1);
+                        for (int spin = 0; spin < 200; spin++) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        }
+        finally {
+            running.set(false);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        this.counter.flush();
+        long total = 0;
+        for (int k = 0; k < 8; k++) {
+            total += this.redis.getOrDefault("key:" + k, 0L);
+            assertEquals(0, this.counter.getPending("key:" + k, null));
+        }
+        assertEquals((long) threads * increments, total);
+    }
+
+    private void useCluster() {
+        this.counter.destroy();
+        this.clusterKeyPrefix = "app";
+        Config config = new Config();
+        config.useClusterServers()
+            .addNodeAddress("redis://127.0.0.1:7000")
+            .setNameMapper(new KeyPrefixNameMapper(this.clusterKeyPrefix));
+        this.counter = createCounter(config);
+    }
+
+    private static int slotOf(String key) {
+        int start = key.indexOf('{');
+        int end = key.indexOf('}', start + 1);
+        if (start != -1 && end > start + 1) {
+            key = key.substring(start + 1, end);
+        }
+        return CRC16.crc16(key.getBytes(StandardCharsets.UTF_8)) % 16384;
+    }
+
+    /**
+     * 模拟 MULTI/EXEC: 命令先暂存, execute 成功时整批应用, 失败时整批丢弃; 集群模式下跨 slot 时报 CROSSSLOT
+     */
+    private RBatch createBatch() {
+        List<Runnable> commands = new ArrayList<>();
+        Set<Integer> slots = new HashSet<>();
+        RBatch batch = mock(RBatch.class);
+        when(batch.getAtomicLong(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            recordSlot(slots, key);
+            return mock(RAtomicLongAsync.class, addAndGet -> {
+                if ("addAndGetAsync".equals(addAndGet.getMethod().getName())) {
+                    long delta = addAndGet.getArgument(0);
+                    commands.add(() -> this.redis.merge(key, delta, Long::sum));
+                }
+                return null;
+            });
+        });
+        when(batch.getScript(StringCodec.INSTANCE)).thenAnswer(invocation -> mock(RScriptAsync.class, eval -> {
+            if ("evalAsync".equals(eval.getMethod().getName())) {
+                // evalAsync(key, mode, script, returnType, keys, field, delta)
+                Object[] args = eval.getRawArguments();
+                Object[] values = (Object[]) args[5];
+                recordSlot(slots, (String) args[0]);
+                String key = args[0] + "#" + values[0];
+                long delta = Long.parseLong((String) values[1]);
+                commands.add(() -> this.redis.merge(key, delta, Long::sum));
+            }
+            return null;
+        }));
+        when(batch.execute()).thenAnswer(invocation -> {
+            if (slots.size() > 1) {
+                throw new RedisException("CROSSSLOT Keys in request don't hash to the same slot");
+            }
+            if (this.executeCount.incrementAndGet() == this.failOnExecute.get()) {
+                throw new RedisException("EXECABORT");
+            }
+            commands.forEach(Runnable::run);
+            return null;
+        });
+        return batch;
+    }
+
+    private void recordSlot(Set<Integer> slots, String key) {
+        if (this.clusterKeyPrefix != null) {
+            slots.add(slotOf(this.clusterKeyPrefix + ":" + key));
+        }
+    }
+
+}